@@ -0,0 +1,53 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.common.AsyncEffect;
+import com.tajacks.libraries.functional.common.AsyncOptions;
+import com.tajacks.libraries.functional.common.Effect;
+import com.tajacks.libraries.functional.common.OverflowPolicy;
+import com.tajacks.libraries.functional.common.ProducerType;
+import com.tajacks.libraries.functional.common.WaitStrategy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the caller side cost of applying an {@link AsyncEffect}, by producer type and wait strategy.
+ * Items are dropped rather than blocking when the consumer falls behind, so that only publication is measured
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncEffectBenchmark {
+
+    @Param({"SINGLE", "MULTI"})
+    public ProducerType producerType;
+
+    @Param({"YIELD", "PARK"})
+    public WaitStrategy waitStrategy;
+
+    private AsyncEffect<Integer> effect;
+    private final Integer item = 42;
+    private volatile Integer consumed;
+
+    @Setup
+    public void setup() {
+        AsyncOptions options = AsyncOptions.defaults()
+                .withCapacity(1 << 16)
+                .withProducerType(producerType)
+                .withWaitStrategy(waitStrategy)
+                .withOverflowPolicy(OverflowPolicy.DROP);
+        effect = Effect.async(i -> consumed = i, options);
+    }
+
+    @TearDown
+    public void tearDown() {
+        effect.close();
+    }
+
+    @Benchmark
+    public void apply() {
+        effect.apply(item);
+    }
+}
@@ -0,0 +1,39 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Runs the selected benchmarks with the gc profiler attached
+ * and writes the results as JSON so that runs from different releases can be compared.
+ * <p>
+ * Any standard JMH command line option may be given and takes precedence over the defaults, e.g.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar TailCall -p depth=10,1000 -rff tailcall.json
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    /**
+     * The file results are written to when no {@code -rff} option is given
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,214 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.containers.IntRange;
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures every public operation of {@link CollectionUtilities} against lists of increasing size.
+ * <p>
+ * The ranges and the tail, reverse and map views are lazy, so creating one takes constant time whatever the size.
+ * Their benchmarks sum or walk the result, so that they measure reading it. Every other operation, including
+ * {@code unfold}, runs in linear time. The larger sizes may be excluded on the command line with
+ * {@code -p size=10,1000} for a quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilitiesBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> source;
+    private Integer[] array;
+    private int[] primitives;
+    private IntRange range;
+
+    @Setup
+    public void setup() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        source = CollectionUtilities.list(values);
+        array = values.toArray(new Integer[0]);
+        primitives = range(size).toArray();
+        range = range(size);
+    }
+
+    @Benchmark
+    public List<Integer> list_empty() {
+        return CollectionUtilities.list();
+    }
+
+    @Benchmark
+    public List<Integer> list_single() {
+        return CollectionUtilities.list(size);
+    }
+
+    @Benchmark
+    public List<Integer> list_collection() {
+        return CollectionUtilities.list(source);
+    }
+
+    @Benchmark
+    public List<Integer> list_varargs() {
+        return CollectionUtilities.list(array);
+    }
+
+    @Benchmark
+    public Optional<Integer> head() {
+        return CollectionUtilities.head(source);
+    }
+
+    @Benchmark
+    public List<Integer> tail() {
+        return CollectionUtilities.tail(source);
+    }
+
+    @Benchmark
+    public List<Integer> tailView() {
+        return CollectionUtilities.tailView(source);
+    }
+
+    @Benchmark
+    public long tailView_walk() {
+        long sum = 0;
+        for (List<Integer> rest = source; !rest.isEmpty(); rest = CollectionUtilities.tailView(rest)) {
+            sum += rest.get(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> append() {
+        return CollectionUtilities.append(-1, source);
+    }
+
+    @Benchmark
+    public List<Integer> prepend() {
+        return CollectionUtilities.prepend(-1, source);
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return CollectionUtilities.reverse(source);
+    }
+
+    @Benchmark
+    public long reverseView_sum() {
+        long sum = 0;
+        for (Integer x : CollectionUtilities.reverseView(source)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return CollectionUtilities.map(source, x -> x + 1);
+    }
+
+    @Benchmark
+    public long mapView_sum() {
+        long sum = 0;
+        for (Integer x : CollectionUtilities.mapView(source, x -> x + 1)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> parallelMap() {
+        return CollectionUtilities.parallelMap(source, x -> x + 1);
+    }
+
+    @Benchmark
+    public long foldLeft() {
+        return CollectionUtilities.foldLeft(source, 0L, acc -> x -> acc + x);
+    }
+
+    @Benchmark
+    public int foldLeft_primitiveArray() {
+        return CollectionUtilities.foldLeft(primitives, 0, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public int foldLeft_intRange() {
+        return CollectionUtilities.foldLeft(range, 0, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public int[] map_primitiveArray() {
+        return CollectionUtilities.map(primitives, x -> x + 1);
+    }
+
+    @Benchmark
+    public void forEach_intRange(Blackhole blackhole) {
+        CollectionUtilities.forEach(range, blackhole::consume);
+    }
+
+    @Benchmark
+    public long foldRight() {
+        return CollectionUtilities.foldRight(source, 0L, x -> acc -> acc + x);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        CollectionUtilities.forEach(source, blackhole::consume);
+    }
+
+    @Benchmark
+    public List<Integer> unfold() {
+        return CollectionUtilities.unfold(0, x -> x + 1, x -> x < size);
+    }
+
+    @Benchmark
+    public long intRangeExclusive_sum() {
+        long sum = 0;
+        for (Integer x : CollectionUtilities.intRangeExclusive(0, size)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intRangeInclusive_sum() {
+        long sum = 0;
+        for (Integer x : CollectionUtilities.intRangeInclusive(0, size - 1)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longRangeExclusive_sum() {
+        long sum = 0;
+        for (Long x : CollectionUtilities.longRangeExclusive(0L, size)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longRangeInclusive_sum() {
+        long sum = 0;
+        for (Long x : CollectionUtilities.longRangeInclusive(0L, size - 1L)) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    private static IntRange range(int size) {
+        return IntRange.exclusive(0, size);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of building and applying long {@link Function#andThen(Function)} and
+ * {@link Function#compose(Function)} chains
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionCompositionBenchmark {
+
+    @Param({"1", "16", "256", "4096"})
+    public int length;
+
+    private final Function<Integer, Integer> increment = x -> x + 1;
+
+    private Function<Integer, Integer> andThenChain;
+    private Function<Integer, Integer> composeChain;
+
+    @Setup
+    public void setup() {
+        andThenChain = buildAndThen();
+        composeChain = buildCompose();
+    }
+
+    @Benchmark
+    public Function<Integer, Integer> andThen_build() {
+        return buildAndThen();
+    }
+
+    @Benchmark
+    public Function<Integer, Integer> compose_build() {
+        return buildCompose();
+    }
+
+    @Benchmark
+    public Integer andThen_apply() {
+        return andThenChain.apply(0);
+    }
+
+    @Benchmark
+    public Integer compose_apply() {
+        return composeChain.apply(0);
+    }
+
+    private Function<Integer, Integer> buildAndThen() {
+        Function<Integer, Integer> chain = increment;
+        for (int i = 1; i < length; i++) {
+            chain = chain.andThen(increment);
+        }
+        return chain;
+    }
+
+    private Function<Integer, Integer> buildCompose() {
+        Function<Integer, Integer> chain = increment;
+        for (int i = 1; i < length; i++) {
+            chain = chain.compose(increment);
+        }
+        return chain;
+    }
+}
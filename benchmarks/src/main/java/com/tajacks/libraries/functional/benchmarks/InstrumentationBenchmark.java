@@ -0,0 +1,47 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the overhead of instrumenting a trivial function, with and without JFR events, and the cost of
+ * recording into a {@link LatencyHistogram} from several threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    private final Function<Long, Long> plain = x -> x + 1;
+    private final Function<Long, Long> instrumented = Function.instrumented("increment", plain);
+    private final Function<Long, Long> withEvents = Function.instrumented("increment", plain, true);
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private long input = 42;
+
+    @Benchmark
+    public Long plain() {
+        return plain.apply(input);
+    }
+
+    @Benchmark
+    public Long instrumented() {
+        return instrumented.apply(input);
+    }
+
+    @Benchmark
+    public Long instrumented_withEvents() {
+        return withEvents.apply(input);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogram_record() {
+        histogram.record(input);
+    }
+}
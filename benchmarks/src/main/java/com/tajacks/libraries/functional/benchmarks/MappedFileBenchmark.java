@@ -0,0 +1,71 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.offheap.MappedFile;
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares summing the lines of a file read into a list with folding the same file through a {@link MappedFile},
+ * sequentially and in parallel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedFileBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int lines;
+
+    private Path path;
+    private MappedFile file;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempFile("mapped-file-benchmark", ".txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(i).append('\n');
+        }
+        Files.writeString(path, content);
+        file = MappedFile.delimited(path, (byte) '\n', 1 << 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        file.close();
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public long readAllLines() throws IOException {
+        List<String> all = Files.readAllLines(path);
+        return CollectionUtilities.foldLeft(all, 0L, acc -> line -> acc + Long.parseLong(line));
+    }
+
+    @Benchmark
+    public long mapped() {
+        return file.foldLeft(0L, acc -> record -> acc + parse(record));
+    }
+
+    @Benchmark
+    public long mapped_parallel() {
+        return file.parallelFold(0L, acc -> record -> acc + parse(record), a -> b -> a + b);
+    }
+
+    private static long parse(ByteBuffer record) {
+        long value = 0;
+        for (int i = 0; i < record.limit(); i++) {
+            value = value * 10 + (record.get(i) - '0');
+        }
+        return value;
+    }
+}
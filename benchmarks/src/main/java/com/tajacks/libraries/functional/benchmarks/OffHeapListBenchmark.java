@@ -0,0 +1,65 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.containers.LongRange;
+import com.tajacks.libraries.functional.offheap.LongList;
+import com.tajacks.libraries.functional.offheap.OffHeapArena;
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares folding and mapping a boxed {@code List<Long>} with the same operations over an off-heap
+ * {@link LongList}. Run with the gc profiler to compare allocation and collection time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Long> boxed;
+    private OffHeapArena arena;
+    private LongList offHeap;
+
+    @Setup
+    public void setup() {
+        boxed = new ArrayList<>(CollectionUtilities.longRangeExclusive(0L, size));
+        arena = OffHeapArena.open();
+        offHeap = arena.copyOf(LongRange.exclusive(0L, size));
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public long foldLeft_boxed() {
+        return CollectionUtilities.foldLeft(boxed, 0L, acc -> x -> acc + x);
+    }
+
+    @Benchmark
+    public long foldLeft_offHeap() {
+        return offHeap.foldLeft(0L, Long::sum);
+    }
+
+    @Benchmark
+    public List<Long> map_boxed() {
+        return CollectionUtilities.map(boxed, x -> x * 2);
+    }
+
+    @Benchmark
+    public long map_offHeap() {
+        // Allocated from a scratch arena, so that the results of every invocation are released
+        try (OffHeapArena scratch = OffHeapArena.open()) {
+            return scratch.allocateLongs(size).setAll(i -> offHeap.get(i) * 2).get(size - 1);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how {@link CollectionUtilities#parallelFold} scales with the number of cores available to the pool,
+ * compared with the sequential {@link CollectionUtilities#foldLeft}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelFoldBenchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private List<Integer> source;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        source = CollectionUtilities.intRangeExclusive(0, size);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long foldLeft() {
+        return CollectionUtilities.foldLeft(source, 0L, acc -> x -> acc + work(x));
+    }
+
+    @Benchmark
+    public long parallelFold() {
+        return CollectionUtilities.parallelFold(
+                source,
+                0L,
+                acc -> x -> acc + work(x),
+                x -> y -> x + y,
+                CollectionUtilities.DEFAULT_PARALLEL_THRESHOLD,
+                pool);
+    }
+
+    // A small amount of arithmetic per element, so the benchmark is not purely bound by memory bandwidth
+    private static long work(int x) {
+        long h = x * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 29)) & 0xFF;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import com.tajacks.libraries.functional.utilities.Pipeline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares a map, filter and fold chained through {@link CollectionUtilities}, which materializes a list
+ * between each step, with the same stages fused by a {@link Pipeline}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private final Pipeline<Integer, Long> pipeline =
+            Pipeline.<Integer>of().map(x -> x * 3L).filter(x -> x % 2 == 0);
+
+    private List<Integer> source;
+
+    @Setup
+    public void setup() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        source = CollectionUtilities.list(values);
+    }
+
+    @Benchmark
+    public long chained() {
+        List<Long> mapped = CollectionUtilities.map(source, x -> x * 3L);
+        List<Long> filtered = CollectionUtilities.foldLeft(mapped, new ArrayList<>(), acc -> x -> {
+            if (x % 2 == 0) {
+                acc.add(x);
+            }
+            return acc;
+        });
+        return CollectionUtilities.foldLeft(filtered, 0L, acc -> x -> acc + x);
+    }
+
+    @Benchmark
+    public long fused() {
+        return pipeline.foldLeft(source, 0L, acc -> x -> acc + x);
+    }
+}
@@ -0,0 +1,43 @@
+package com.tajacks.libraries.functional.benchmarks;
+
+import static com.tajacks.libraries.functional.recursion.TailCall.returning;
+import static com.tajacks.libraries.functional.recursion.TailCall.suspending;
+
+import com.tajacks.libraries.functional.recursion.EvaluationOptions;
+import com.tajacks.libraries.functional.recursion.TailCall;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link TailCall#evaluate()} for tail recursive operations of increasing depth, with and without
+ * the limits and measurements of {@link EvaluationOptions}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TailCallBenchmark {
+
+    private static final EvaluationOptions OPTIONS =
+            EvaluationOptions.defaults().withTimeLimit(Duration.ofMinutes(1));
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int depth;
+
+    @Benchmark
+    public long evaluate() {
+        return sum(0L, depth).evaluate();
+    }
+
+    @Benchmark
+    public long evaluate_withOptions() {
+        return sum(0L, depth).evaluate(OPTIONS).result();
+    }
+
+    private static TailCall<Long> sum(long acc, int remaining) {
+        return remaining == 0 ? returning(acc) : suspending(() -> sum(acc + remaining, remaining - 1));
+    }
+}
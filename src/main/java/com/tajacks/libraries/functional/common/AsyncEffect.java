@@ -0,0 +1,271 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An effect which hands the items it is applied to over to a dedicated consumer thread, which applies the
+ * wrapped effect to them. Created through {@link Effect#async(Effect)} and its overloads. Example usage:
+ *
+ * <pre>
+ * try (AsyncEffect&lt;String&gt; log = Effect.async(logger::info)) {
+ *     log.apply("request served"); // Returns without waiting for the logger
+ * }
+ * </pre>
+ * <p>
+ * Items are published to a preallocated, lock-free ring buffer, so applying this effect costs the caller an
+ * array write and, with multiple producers, a compare-and-set, rather than the cost of the wrapped effect.
+ * The consumer applies the wrapped effect to items in the order they were published. What happens when the
+ * consumer falls behind and the buffer fills is determined by the {@link OverflowPolicy}, and how the
+ * consumer and blocked producers wait by the {@link WaitStrategy}.
+ * <p>
+ * An exception or error thrown by the wrapped effect fails only the item it was applied to; it is counted in
+ * the {@link #stats()} and rethrown, as the cause of an {@link IllegalStateException}, by the next call to
+ * {@link #flush()} or {@link #close()}. Should the consumer thread nonetheless stop, every later call, including
+ * one blocked waiting for room, throws an {@link IllegalStateException}. Null items are not permitted.
+ * <p>
+ * The consumer thread runs until the effect is closed, so an asynchronous effect should always be closed.
+ * Items applied concurrently with {@link #close()} may be discarded.
+ *
+ * @param <T> The type of input to the effect
+ */
+public final class AsyncEffect<T> implements Effect<T>, AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final int SPINS = 100;
+    private static final int YIELDS = 100;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Effect<T> effect;
+    private final RingBuffer buffer;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread consumer;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean closed = false;
+    private volatile boolean sleeping = false;
+    private volatile boolean stopped = false;
+
+    // Written only by the consumer thread
+    private volatile long applied;
+    private volatile long failed;
+
+    AsyncEffect(Effect<T> effect, AsyncOptions options) {
+        this.effect = Objects.requireNonNull(effect);
+        this.buffer = new RingBuffer(options.capacity(), options.producerType() == ProducerType.SINGLE);
+        this.waitStrategy = options.waitStrategy();
+        this.overflowPolicy = options.overflowPolicy();
+        this.consumer = new Thread(this::run, "asyncEffect-" + THREAD_COUNT.incrementAndGet());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Publishes the given item for the consumer thread to apply the wrapped effect to. If the buffer is full,
+     * blocks, discards the item or discards the oldest buffered item, according to the overflow policy
+     *
+     * @param input The item to publish
+     * @throws IllegalStateException if this effect has been closed, or if its consumer thread has stopped
+     * @throws NullPointerException  if the item is null
+     * @throws CancellationException if the calling thread is interrupted while waiting for room
+     */
+    @Override
+    public void apply(T input) {
+        Objects.requireNonNull(input);
+        ensureRunning();
+        if (!buffer.offer(input)) {
+            overflow(input);
+        }
+        if (sleeping) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Returns once the wrapped effect has been applied to every item published before this call,
+     * other than those discarded by the overflow policy
+     *
+     * @throws IllegalStateException if the wrapped effect threw an exception since the last flush or close,
+     *                               if called from within the wrapped effect, or if the consumer thread stopped
+     *                               before applying it to every item
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     */
+    public void flush() {
+        if (Thread.currentThread() == consumer) {
+            throw new IllegalStateException("flush called from within the effect of an AsyncEffect");
+        }
+        long target = buffer.published();
+        for (int attempt = 0; applied + evicted.sum() < target && !stopped; attempt++) {
+            LockSupport.unpark(consumer);
+            waitForConsumer(attempt);
+        }
+        if (applied + evicted.sum() < target && !closed) {
+            throw consumerStopped();
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Applies the wrapped effect to every buffered item and stops the consumer thread. Subsequent calls do nothing
+     *
+     * @throws IllegalStateException if the wrapped effect threw an exception since the last flush, or if called
+     *                               from within the wrapped effect
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() == consumer) {
+            throw new IllegalStateException("close called from within the effect of an AsyncEffect");
+        }
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while closing");
+        }
+        drain();
+        rethrowFailure();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this effect
+     *
+     * @return A snapshot of the statistics
+     */
+    public AsyncStats stats() {
+        return new AsyncStats(buffer.published(), applied, dropped.sum(), evicted.sum(), failed);
+    }
+
+    /**
+     * Returns the number of items the buffer holds
+     *
+     * @return The capacity of the buffer
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    private void overflow(T input) {
+        switch (overflowPolicy) {
+            case DROP -> dropped.increment();
+            case DROP_OLDEST -> {
+                do {
+                    if (buffer.poll() != null) {
+                        evicted.increment();
+                    }
+                } while (!buffer.offer(input));
+            }
+            case BLOCK -> {
+                for (int attempt = 0; !buffer.offer(input); attempt++) {
+                    ensureRunning();
+                    if (sleeping) {
+                        LockSupport.unpark(consumer);
+                    }
+                    waitForConsumer(attempt);
+                }
+            }
+        }
+    }
+
+    private void ensureRunning() {
+        if (closed) {
+            throw new IllegalStateException("apply called on a closed AsyncEffect");
+        }
+        if (stopped) {
+            throw consumerStopped();
+        }
+    }
+
+    private IllegalStateException consumerStopped() {
+        return new IllegalStateException("The consumer thread of an AsyncEffect has stopped", failure.get());
+    }
+
+    private void waitForConsumer(int attempt) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN || attempt < SPINS) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || attempt < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for the consumer");
+            }
+        }
+    }
+
+    private void run() {
+        int idle = 0;
+        try {
+            while (true) {
+                Object item = buffer.poll();
+                if (item != null) {
+                    idle = 0;
+                    applyEffect(item);
+                } else if (closed) {
+                    return;
+                } else {
+                    idle(idle++);
+                }
+            }
+        } catch (Throwable e) {
+            // Effect failures are caught per item, so this is a failure of the consumer itself
+            failure.compareAndSet(null, e);
+        } finally {
+            stopped = true;
+        }
+    }
+
+    private void idle(int attempt) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN || attempt < SPINS) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || attempt < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            sleeping = true;
+            // Producers only signal after seeing the flag, so recheck before parking. The timeout bounds the
+            // delay should a signal race with the flag being set
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+
+    private void drain() {
+        Object item;
+        while ((item = buffer.poll()) != null) {
+            applyEffect(item);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyEffect(Object item) {
+        try {
+            effect.apply((T) item);
+        } catch (Throwable e) {
+            failed++;
+            failure.compareAndSet(null, e);
+        }
+        applied++;
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure.getAndSet(null);
+        if (e != null) {
+            throw new IllegalStateException("The effect of an AsyncEffect failed", e);
+        }
+    }
+}
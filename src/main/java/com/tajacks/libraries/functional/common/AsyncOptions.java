@@ -0,0 +1,91 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+
+/**
+ * Configures an {@link AsyncEffect}. Example usage:
+ *
+ * <pre>
+ * AsyncOptions options = AsyncOptions.defaults()
+ *         .withCapacity(8192)
+ *         .withWaitStrategy(WaitStrategy.YIELD)
+ *         .withOverflowPolicy(OverflowPolicy.DROP);
+ * </pre>
+ *
+ * @param capacity       The number of items the buffer holds, rounded up to a power of two
+ * @param producerType   How many threads apply the effect
+ * @param waitStrategy   How threads wait for items or room
+ * @param overflowPolicy What to do with an item applied while the buffer is full
+ */
+public record AsyncOptions(
+        int capacity, ProducerType producerType, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+
+    /**
+     * The capacity used unless configured otherwise
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The largest capacity permitted
+     */
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    public AsyncOptions {
+        Objects.requireNonNull(producerType);
+        Objects.requireNonNull(waitStrategy);
+        Objects.requireNonNull(overflowPolicy);
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+    }
+
+    /**
+     * Returns the options of a buffer of {@link #DEFAULT_CAPACITY} items, published to by any number of threads,
+     * whose consumer parks while idle and whose producers block while it is full
+     *
+     * @return The default options
+     */
+    public static AsyncOptions defaults() {
+        return new AsyncOptions(DEFAULT_CAPACITY, ProducerType.MULTI, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Returns a copy of these options with the given capacity
+     *
+     * @param capacity The number of items the buffer holds, rounded up to a power of two
+     * @return A copy of these options with the given capacity
+     */
+    public AsyncOptions withCapacity(int capacity) {
+        return new AsyncOptions(capacity, producerType, waitStrategy, overflowPolicy);
+    }
+
+    /**
+     * Returns a copy of these options with the given producer type
+     *
+     * @param producerType How many threads apply the effect
+     * @return A copy of these options with the given producer type
+     */
+    public AsyncOptions withProducerType(ProducerType producerType) {
+        return new AsyncOptions(capacity, producerType, waitStrategy, overflowPolicy);
+    }
+
+    /**
+     * Returns a copy of these options with the given wait strategy
+     *
+     * @param waitStrategy How threads wait for items or room
+     * @return A copy of these options with the given wait strategy
+     */
+    public AsyncOptions withWaitStrategy(WaitStrategy waitStrategy) {
+        return new AsyncOptions(capacity, producerType, waitStrategy, overflowPolicy);
+    }
+
+    /**
+     * Returns a copy of these options with the given overflow policy
+     *
+     * @param overflowPolicy What to do with an item applied while the buffer is full
+     * @return A copy of these options with the given overflow policy
+     */
+    public AsyncOptions withOverflowPolicy(OverflowPolicy overflowPolicy) {
+        return new AsyncOptions(capacity, producerType, waitStrategy, overflowPolicy);
+    }
+}
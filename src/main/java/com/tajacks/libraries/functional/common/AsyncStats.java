@@ -0,0 +1,23 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A point in time snapshot of the statistics of an {@link AsyncEffect}
+ *
+ * @param publishedCount The number of items published to the buffer
+ * @param appliedCount   The number of items the wrapped effect was applied to, including those for which it threw
+ * @param droppedCount   The number of items discarded without being published, because the buffer was full
+ * @param evictedCount   The number of published items discarded to make room for newer items
+ * @param failedCount    The number of items for which the wrapped effect threw an exception
+ */
+public record AsyncStats(
+        long publishedCount, long appliedCount, long droppedCount, long evictedCount, long failedCount) {
+
+    /**
+     * Returns the number of published items not yet applied or evicted
+     *
+     * @return The number of items waiting in the buffer
+     */
+    public long backlog() {
+        return Math.max(0, publishedCount - appliedCount - evictedCount);
+    }
+}
@@ -0,0 +1,49 @@
+package com.tajacks.libraries.functional.common;
+
+import java.time.Duration;
+
+/**
+ * A point in time snapshot of the statistics of a {@link BatchingEffect}
+ *
+ * @param itemCount        The number of items delivered to the sink
+ * @param batchCount       The number of batches delivered to the sink
+ * @param failedBatchCount The number of batches for which the sink threw an exception
+ * @param largestBatchSize The number of items in the largest batch delivered
+ * @param totalFlushNanos  The total time spent in the sink, in nanoseconds
+ * @param maxFlushNanos    The longest time spent in the sink delivering a single batch, in nanoseconds
+ */
+public record BatchStats(
+        long itemCount,
+        long batchCount,
+        long failedBatchCount,
+        int largestBatchSize,
+        long totalFlushNanos,
+        long maxFlushNanos) {
+
+    /**
+     * Returns the mean number of items per batch, or 0.0 if no batch was delivered
+     *
+     * @return The ratio of items to batches
+     */
+    public double meanBatchSize() {
+        return batchCount == 0 ? 0.0 : (double) itemCount / batchCount;
+    }
+
+    /**
+     * Returns the mean time spent in the sink delivering a batch, or zero if no batch was delivered
+     *
+     * @return The mean flush latency
+     */
+    public Duration meanFlushLatency() {
+        return batchCount == 0 ? Duration.ZERO : Duration.ofNanos(totalFlushNanos / batchCount);
+    }
+
+    /**
+     * Returns the longest time spent in the sink delivering a single batch
+     *
+     * @return The maximum flush latency
+     */
+    public Duration maxFlushLatency() {
+        return Duration.ofNanos(maxFlushNanos);
+    }
+}
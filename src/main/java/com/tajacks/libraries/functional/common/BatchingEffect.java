@@ -0,0 +1,317 @@
+package com.tajacks.libraries.functional.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An effect which buffers the items it is applied to and delivers them to a sink in batches, so that an
+ * expensive operation such as a write is performed once per batch rather than once per item. Created through
+ * {@link Effect#batching(int, Duration, Effect)} and its overloads. Example usage:
+ *
+ * <pre>
+ * try (BatchingEffect&lt;String&gt; log = Effect.batching(512, Duration.ofMillis(50), lines -> writer.write(lines))) {
+ *     log.apply("started");
+ *     ...
+ * } // Delivers any buffered items before returning
+ * </pre>
+ * <p>
+ * Items are delivered, in the order they were applied, by a single background thread. A batch is delivered
+ * once it holds the maximum batch size, or once the maximum delay has passed since its first item arrived,
+ * whichever comes first. At most a fixed number of items may wait to be delivered; once the sink falls that
+ * far behind, {@link #apply(Object)} blocks until there is room, slowing producers to the pace of the sink.
+ * <p>
+ * An exception or error thrown by the sink fails only the batch being delivered; it is counted in the
+ * {@link #stats()} and rethrown, as the cause of an {@link IllegalStateException}, by the next call to
+ * {@link #flush()} or {@link #close()}. Should the background thread nonetheless stop, for instance because it
+ * is interrupted, every call waiting on it is released and every later call throws an
+ * {@link IllegalStateException}, rather than blocking forever. Null items are not permitted.
+ * <p>
+ * The background thread runs until the effect is closed, so a batching effect should always be closed.
+ *
+ * @param <T> The type of input to the effect
+ */
+public final class BatchingEffect<T> implements Effect<T>, AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final long POLL_MILLIS = 10;
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Effect<List<T>> sink;
+    private final BlockingQueue<Object> queue;
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Thread worker;
+    private volatile boolean closed = false;
+    private volatile boolean stopped = false;
+
+    // Written only by the worker thread
+    private volatile long itemCount;
+    private volatile long batchCount;
+    private volatile long failedBatchCount;
+    private volatile int largestBatchSize;
+    private volatile long totalFlushNanos;
+    private volatile long maxFlushNanos;
+
+    BatchingEffect(int maxBatchSize, Duration maxDelay, int maxPending, Effect<List<T>> sink) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive: " + maxDelay);
+        }
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("maxPending must be positive: " + maxPending);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.sink = Objects.requireNonNull(sink);
+        this.queue = new ArrayBlockingQueue<>(maxPending);
+        this.worker = new Thread(this::run, "batchingEffect-" + THREAD_COUNT.incrementAndGet());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Buffers the given item for delivery to the sink, blocking while the maximum number of items
+     * are already waiting to be delivered
+     *
+     * @param input The item to deliver
+     * @throws IllegalStateException if this effect has been closed, or if its background thread has stopped
+     * @throws NullPointerException  if the item is null
+     * @throws CancellationException if the calling thread is interrupted while waiting for room
+     */
+    @Override
+    public void apply(T input) {
+        Objects.requireNonNull(input);
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("apply called on a closed BatchingEffect");
+            }
+            enqueue(input);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for room in the batch buffer");
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    /**
+     * Delivers every item applied before this call to the sink, returning once they have been delivered.
+     * Does nothing if this effect has been closed
+     *
+     * @throws IllegalStateException if the sink threw an exception since the last flush or close, if called
+     *                               from within the sink, or if the background thread has stopped
+     * @throws CancellationException if the calling thread is interrupted while waiting for delivery
+     */
+    public void flush() {
+        if (Thread.currentThread() == worker) {
+            throw new IllegalStateException("flush called from within the sink of a BatchingEffect");
+        }
+        Marker marker = new Marker(false);
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            enqueue(marker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while flushing");
+        } finally {
+            closing.readLock().unlock();
+        }
+        await(marker);
+        rethrowFailure();
+    }
+
+    /**
+     * Delivers every buffered item to the sink and stops the background thread. Subsequent calls do nothing
+     *
+     * @throws IllegalStateException if the sink threw an exception since the last flush, if called from within
+     *                               the sink, or if the background thread had stopped
+     * @throws CancellationException if the calling thread is interrupted while waiting for delivery
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() == worker) {
+            throw new IllegalStateException("close called from within the sink of a BatchingEffect");
+        }
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        if (stopped) {
+            Throwable e = failure.getAndSet(null);
+            if (e != null) {
+                throw new IllegalStateException("The background thread of a BatchingEffect has stopped", e);
+            }
+            return;
+        }
+        Marker marker = new Marker(true);
+        try {
+            enqueue(marker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while closing");
+        }
+        await(marker);
+        rethrowFailure();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the batches delivered so far
+     *
+     * @return A snapshot of the batch statistics
+     */
+    public BatchStats stats() {
+        return new BatchStats(
+                itemCount, batchCount, failedBatchCount, largestBatchSize, totalFlushNanos, maxFlushNanos);
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (true) {
+                Object next = queue.take();
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (!(next instanceof Marker) && batch.size() < maxBatchSize) {
+                    batch.add(cast(next));
+                    if (batch.size() == maxBatchSize) {
+                        next = null;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                }
+                deliver(batch);
+                if (next instanceof Marker marker) {
+                    marker.done.countDown();
+                    if (marker.close) {
+                        return;
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            // Sink failures are caught per batch, so this is an interrupt or a failure of the worker itself
+            failure.compareAndSet(null, e);
+        } finally {
+            stopped = true;
+            Object pending;
+            while ((pending = queue.poll()) != null) {
+                if (pending instanceof Marker marker) {
+                    release(marker);
+                }
+            }
+        }
+    }
+
+    private void deliver(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<T> delivered = Collections.unmodifiableList(new ArrayList<>(batch));
+        batch.clear();
+        long start = System.nanoTime();
+        try {
+            sink.apply(delivered);
+        } catch (Throwable e) {
+            failedBatchCount++;
+            failure.compareAndSet(null, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        itemCount += delivered.size();
+        batchCount++;
+        largestBatchSize = Math.max(largestBatchSize, delivered.size());
+        totalFlushNanos += elapsed;
+        maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+    }
+
+    /**
+     * Queues an item or marker, waiting for room only while the background thread is running
+     */
+    private void enqueue(Object item) throws InterruptedException {
+        do {
+            if (stopped) {
+                throw workerStopped();
+            }
+        } while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private void await(Marker marker) {
+        try {
+            while (!marker.done.await(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (stopped) {
+                    release(marker);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for delivery");
+        }
+        if (marker.abandoned) {
+            throw workerStopped();
+        }
+    }
+
+    /**
+     * Releases the waiter on a marker which the stopped background thread will never reach
+     */
+    private static void release(Marker marker) {
+        if (marker.done.getCount() != 0) {
+            marker.abandoned = true;
+            marker.done.countDown();
+        }
+    }
+
+    private IllegalStateException workerStopped() {
+        return new IllegalStateException("The background thread of a BatchingEffect has stopped", failure.get());
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure.getAndSet(null);
+        if (e != null) {
+            throw new IllegalStateException("The sink of a BatchingEffect failed", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object item) {
+        return (T) item;
+    }
+
+    /**
+     * Queued behind buffered items to request their delivery, and counted down once they have been delivered
+     */
+    private static final class Marker {
+        private final boolean close;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean abandoned = false;
+
+        private Marker(boolean close) {
+            this.close = close;
+        }
+    }
+}
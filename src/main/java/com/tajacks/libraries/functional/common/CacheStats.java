@@ -0,0 +1,31 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A point in time snapshot of the statistics of a memoization cache
+ *
+ * @param hitCount        The number of lookups which found a cached result
+ * @param missCount       The number of lookups which computed a result
+ * @param evictionCount   The number of entries discarded because the cache was full
+ * @param expirationCount The number of entries discarded because they expired
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+
+    /**
+     * Returns the total number of lookups
+     *
+     * @return The sum of hits and misses
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which found a cached result, or 1.0 if there were no lookups
+     *
+     * @return The ratio of hits to lookups
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,107 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * A composition of effects, applied as a flat array in a loop. Composing a composite with another effect only
+ * records the two halves, which are flattened into an array, iteratively, the first time the composite is
+ * applied. Building a composition one effect at a time therefore takes linear time overall, and applying a
+ * composition of any length uses constant stack space
+ *
+ * @param <T> The type of input to the effect
+ */
+final class CompositeEffect<T> implements Effect<T> {
+
+    // Cleared once flattened, so that a long chain does not keep every intermediate composite reachable
+    private volatile Effect<?> first;
+    private volatile Effect<?> second;
+    private final int size;
+    private volatile Effect<Object>[] effects;
+
+    private CompositeEffect(Effect<?> first, Effect<?> second) {
+        this.first = first;
+        this.second = second;
+        this.size = Math.addExact(sizeOf(first), sizeOf(second));
+    }
+
+    /**
+     * Returns an effect which applies the first effect followed by the second
+     *
+     * @param first  The effect to apply first
+     * @param second The effect to apply second
+     * @param <T>    The type of input to the effect
+     * @return A composite effect applying both effects in order
+     */
+    static <T> Effect<T> of(Effect<? super T> first, Effect<? super T> second) {
+        return new CompositeEffect<>(Objects.requireNonNull(first), Objects.requireNonNull(second));
+    }
+
+    @Override
+    public void apply(T input) {
+        Effect<Object>[] effects = this.effects;
+        if (effects == null) {
+            effects = flatten();
+            this.effects = effects;
+            first = null;
+            second = null;
+        }
+        if (effects.length == 2) {
+            effects[0].apply(input);
+            effects[1].apply(input);
+            return;
+        }
+        for (Effect<Object> effect : effects) {
+            effect.apply(input);
+        }
+    }
+
+    /**
+     * Returns the number of effects this composite applies
+     *
+     * @return The number of effects in this composite
+     */
+    int effects() {
+        return size;
+    }
+
+    /**
+     * Collects the effects of this composite in order, reusing the effects of any composite already flattened
+     */
+    @SuppressWarnings("unchecked")
+    private Effect<Object>[] flatten() {
+        Effect<Object>[] result = (Effect<Object>[]) new Effect<?>[size];
+        Deque<Effect<?>> pending = new ArrayDeque<>();
+        pending.push(this);
+        int index = 0;
+        while (!pending.isEmpty()) {
+            Effect<?> next = pending.pop();
+            if (!(next instanceof CompositeEffect<?> composite)) {
+                result[index++] = (Effect<Object>) next;
+                continue;
+            }
+            Effect<Object>[] flat = composite.effects;
+            if (flat != null) {
+                System.arraycopy(flat, 0, result, index, flat.length);
+                index += flat.length;
+                continue;
+            }
+            Effect<?> left = composite.first;
+            Effect<?> right = composite.second;
+            if (left != null && right != null) {
+                pending.push(right);
+                pending.push(left);
+            } else {
+                // Halves are only cleared after the flattened array is published
+                System.arraycopy(composite.effects, 0, result, index, composite.size);
+                index += composite.size;
+            }
+        }
+        return result;
+    }
+
+    private static int sizeOf(Effect<?> effect) {
+        return effect instanceof CompositeEffect<?> composite ? composite.size : 1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * A composition of functions, applied as a flat array of stages in a loop. Composing a composite with another
+ * function, composite or not, only records the two halves, so building a composition one stage at a time takes
+ * linear time overall. The halves are flattened into an array of stages, iteratively, the first time the
+ * composite is applied, so applying a composition of any length uses constant stack space.
+ * <p>
+ * Compositions of two and three stages, by far the most common, are applied without a loop.
+ *
+ * @param <T> The type of element to apply the function against
+ * @param <R> The type of element resulting from applying the function
+ */
+final class CompositeFunction<T, R> implements Function<T, R> {
+
+    // Cleared once flattened, so that a long chain does not keep every intermediate composite reachable
+    private volatile Function<?, ?> first;
+    private volatile Function<?, ?> second;
+    private final int size;
+    private volatile Function<Object, Object>[] stages;
+
+    private CompositeFunction(Function<?, ?> first, Function<?, ?> second) {
+        this.first = first;
+        this.second = second;
+        this.size = Math.addExact(sizeOf(first), sizeOf(second));
+    }
+
+    /**
+     * Returns a function which applies the second function against the product of applying the first
+     *
+     * @param first  The function to apply first
+     * @param second The function to apply to the result of the first
+     * @param <T>    The type of element to apply the composed function against
+     * @param <R>    The type of element resulting from the first function
+     * @param <V>    The type of element resulting from the composed function
+     * @return A composite function applying both functions in order
+     */
+    static <T, R, V> Function<T, V> of(
+            Function<? super T, ? extends R> first, Function<? super R, ? extends V> second) {
+        return new CompositeFunction<>(Objects.requireNonNull(first), Objects.requireNonNull(second));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T arg) {
+        Function<Object, Object>[] stages = this.stages;
+        if (stages == null) {
+            stages = flatten();
+            this.stages = stages;
+            first = null;
+            second = null;
+        }
+        switch (stages.length) {
+            case 2:
+                return (R) stages[1].apply(stages[0].apply(arg));
+            case 3:
+                return (R) stages[2].apply(stages[1].apply(stages[0].apply(arg)));
+            default:
+                Object result = arg;
+                for (Function<Object, Object> stage : stages) {
+                    result = stage.apply(result);
+                }
+                return (R) result;
+        }
+    }
+
+    /**
+     * Returns the number of functions this composite applies
+     *
+     * @return The number of stages in this composite
+     */
+    int stages() {
+        return size;
+    }
+
+    /**
+     * Collects the stages of this composite in order, reusing the stages of any composite already flattened
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object>[] flatten() {
+        Function<Object, Object>[] result = (Function<Object, Object>[]) new Function<?, ?>[size];
+        Deque<Function<?, ?>> pending = new ArrayDeque<>();
+        pending.push(this);
+        int index = 0;
+        while (!pending.isEmpty()) {
+            Function<?, ?> next = pending.pop();
+            if (!(next instanceof CompositeFunction<?, ?> composite)) {
+                result[index++] = (Function<Object, Object>) next;
+                continue;
+            }
+            Function<Object, Object>[] flat = composite.stages;
+            if (flat != null) {
+                System.arraycopy(flat, 0, result, index, flat.length);
+                index += flat.length;
+                continue;
+            }
+            Function<?, ?> left = composite.first;
+            Function<?, ?> right = composite.second;
+            if (left != null && right != null) {
+                pending.push(right);
+                pending.push(left);
+            } else {
+                // Halves are only cleared after the flattened array is published
+                System.arraycopy(composite.stages, 0, result, index, composite.size);
+                index += composite.size;
+            }
+        }
+        return result;
+    }
+
+    private static int sizeOf(Function<?, ?> function) {
+        return function instanceof CompositeFunction<?, ?> composite ? composite.size : 1;
+    }
+}
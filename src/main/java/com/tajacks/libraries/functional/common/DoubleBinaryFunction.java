@@ -0,0 +1,29 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes two primitive doubles and produces a double, without boxing. Typically used as the
+ * folding function of a primitive fold, applied to the accumulated value and each element
+ */
+@FunctionalInterface
+public interface DoubleBinaryFunction {
+
+    /**
+     * Applies this function against the given doubles
+     *
+     * @param left  The first argument, the accumulated value when folding
+     * @param right The second argument, the element when folding
+     * @return The result of applying this function
+     */
+    double apply(double left, double right);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against two input doubles
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default DoubleBinaryFunction andThen(DoubleToDoubleFunction f) {
+        return (left, right) -> f.apply(apply(left, right));
+    }
+}
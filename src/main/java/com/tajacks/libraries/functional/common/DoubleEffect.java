@@ -0,0 +1,32 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+
+/**
+ * An effect on a primitive double, applied without boxing the argument
+ */
+@FunctionalInterface
+public interface DoubleEffect {
+
+    /**
+     * Applies this effect on the given argument
+     *
+     * @param input The input argument
+     */
+    void apply(double input);
+
+    /**
+     * Returns a composed effect that applies this effect followed by the after effect
+     *
+     * @param after The effect to apply after this one
+     * @return A composed effect that applies this effect followed by the after effect
+     * @throws NullPointerException if after is null
+     */
+    default DoubleEffect andThen(DoubleEffect after) {
+        Objects.requireNonNull(after);
+        return x -> {
+            apply(x);
+            after.apply(x);
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive double and produces a result, without boxing the argument
+ *
+ * @param <R> The type of element resulting from applying the function
+ */
+@FunctionalInterface
+public interface DoubleFunction<R> {
+
+    /**
+     * Applies this function against the given double
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    R apply(double arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input double
+     *
+     * @param f   The function to apply to the result of this function
+     * @param <V> The type of element resulting from the composed function
+     * @return The composed function
+     */
+    default <V> DoubleFunction<V> andThen(Function<? super R, ? extends V> f) {
+        return x -> f.apply(apply(x));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input double
+     *
+     * @param f The function to first apply to an input double
+     * @return The composed function
+     */
+    default DoubleFunction<R> compose(DoubleToDoubleFunction f) {
+        return x -> apply(f.apply(x));
+    }
+}
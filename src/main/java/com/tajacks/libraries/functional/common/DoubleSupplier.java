@@ -0,0 +1,15 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A supplier of primitive doubles, which supplies without boxing
+ */
+@FunctionalInterface
+public interface DoubleSupplier {
+
+    /**
+     * Gets a result
+     *
+     * @return A double
+     */
+    double get();
+}
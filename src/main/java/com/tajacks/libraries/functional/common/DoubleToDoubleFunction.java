@@ -0,0 +1,47 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive double and produces a primitive double, without boxing
+ */
+@FunctionalInterface
+public interface DoubleToDoubleFunction {
+
+    /**
+     * Applies this function against the given double
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    double apply(double arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input double
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default DoubleToDoubleFunction andThen(DoubleToDoubleFunction f) {
+        return x -> f.apply(apply(x));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input double
+     *
+     * @param f The function to first apply to an input double
+     * @return The composed function
+     */
+    default DoubleToDoubleFunction compose(DoubleToDoubleFunction f) {
+        return x -> apply(f.apply(x));
+    }
+
+    /**
+     * Returns a function which returns its input argument
+     *
+     * @return A function which returns its input argument
+     */
+    static DoubleToDoubleFunction identity() {
+        return x -> x;
+    }
+}
@@ -1,5 +1,7 @@
 package com.tajacks.libraries.functional.common;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -18,7 +20,8 @@ public interface Effect<T> {
     void apply(T input);
 
     /**
-     * Returns a composed Effect that applies this effect followed by the after effect
+     * Returns a composed Effect that applies this effect followed by the after effect. Compositions are flattened
+     * rather than nested, so an effect composed from any number of effects is applied in constant stack space
      *
      * @param after The effect to apply after this one
      * @return A composed Effect that applies this effect followed by the after effect.
@@ -26,10 +29,94 @@ public interface Effect<T> {
      */
     default Effect<T> andThen(Effect<? super T> after) {
         Objects.requireNonNull(after);
-        return t -> {
-            apply(t);
-            after.apply(t);
-        };
+        return CompositeEffect.of(this, after);
+    }
+
+    /**
+     * Returns an effect which buffers the items it is applied to and delivers them to the given sink in batches
+     * of at most maxBatchSize items, delivering a partial batch once maxDelay has passed since its first item
+     * arrived. At most four batches worth of items may wait to be delivered before applying the effect blocks
+     *
+     * @param maxBatchSize The maximum number of items delivered to the sink at once
+     * @param maxDelay     The longest an item waits for its batch to fill before the batch is delivered
+     * @param sink         The effect applied to each batch
+     * @param <T>          The type of input to the effect
+     * @return A batching effect delivering to the given sink, which should be closed once no longer used
+     * @throws IllegalArgumentException if maxBatchSize or maxDelay is not positive
+     */
+    static <T> BatchingEffect<T> batching(int maxBatchSize, Duration maxDelay, Effect<List<T>> sink) {
+        return batching(maxBatchSize, maxDelay, (int) Math.min(Integer.MAX_VALUE, 4L * maxBatchSize), sink);
+    }
+
+    /**
+     * Returns an effect which buffers the items it is applied to and delivers them to the given sink in batches
+     * of at most maxBatchSize items, delivering a partial batch once maxDelay has passed since its first item
+     * arrived. Once maxPending items are waiting to be delivered, applying the effect blocks until there is room
+     *
+     * @param maxBatchSize The maximum number of items delivered to the sink at once
+     * @param maxDelay     The longest an item waits for its batch to fill before the batch is delivered
+     * @param maxPending   The maximum number of items waiting to be delivered
+     * @param sink         The effect applied to each batch
+     * @param <T>          The type of input to the effect
+     * @return A batching effect delivering to the given sink, which should be closed once no longer used
+     * @throws IllegalArgumentException if maxBatchSize, maxDelay or maxPending is not positive
+     */
+    static <T> BatchingEffect<T> batching(int maxBatchSize, Duration maxDelay, int maxPending, Effect<List<T>> sink) {
+        return new BatchingEffect<>(maxBatchSize, maxDelay, maxPending, sink);
+    }
+
+    /**
+     * Returns an effect which publishes the items it is applied to into a lock-free buffer, from which a dedicated
+     * thread applies the given effect to them. Uses the {@link AsyncOptions#defaults() default options}
+     *
+     * @param effect The effect to apply asynchronously
+     * @param <T>    The type of input to the effect
+     * @return An asynchronous effect, which should be closed once no longer used
+     */
+    static <T> AsyncEffect<T> async(Effect<T> effect) {
+        return async(effect, AsyncOptions.defaults());
+    }
+
+    /**
+     * Returns an effect which publishes the items it is applied to into a lock-free buffer, from which a dedicated
+     * thread applies the given effect to them, configured by the given options
+     *
+     * @param effect  The effect to apply asynchronously
+     * @param options The configuration of the buffer and its threads
+     * @param <T>     The type of input to the effect
+     * @return An asynchronous effect, which should be closed once no longer used
+     */
+    static <T> AsyncEffect<T> async(Effect<T> effect, AsyncOptions options) {
+        return new AsyncEffect<>(effect, options);
+    }
+
+    /**
+     * Returns an effect which records the count, errors and latency histogram of its invocations of the given
+     * effect, available through {@link InstrumentedEffect#stats()}. Emits no JFR events
+     *
+     * @param name   The name identifying the effect in its statistics
+     * @param effect The effect to instrument
+     * @param <T>    The type of input to the effect
+     * @return An instrumented effect delegating to the given effect
+     */
+    static <T> InstrumentedEffect<T> instrumented(String name, Effect<T> effect) {
+        return instrumented(name, effect, false);
+    }
+
+    /**
+     * Returns an effect which records the count, errors and latency histogram of its invocations of the given
+     * effect, available through {@link InstrumentedEffect#stats()}. If events are enabled, each
+     * invocation also emits a {@code com.tajacks.libraries.functional.Invocation} JFR event, when that event is
+     * enabled in a running flight recording
+     *
+     * @param name   The name identifying the effect in its statistics and events
+     * @param effect The effect to instrument
+     * @param events True to emit a JFR event for each invocation
+     * @param <T>    The type of input to the effect
+     * @return An instrumented effect delegating to the given effect
+     */
+    static <T> InstrumentedEffect<T> instrumented(String name, Effect<T> effect, boolean events) {
+        return new InstrumentedEffect<>(effect, new InvocationRecorder(name, events));
     }
 
     /**
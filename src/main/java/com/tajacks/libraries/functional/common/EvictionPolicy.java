@@ -0,0 +1,15 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * Determines which entry a bounded memoization cache discards when it is full
+ */
+public enum EvictionPolicy {
+    /**
+     * Discard the least recently used entry
+     */
+    LRU,
+    /**
+     * Discard the least frequently used entry, breaking ties by discarding the least recently used
+     */
+    LFU
+}
@@ -12,4 +12,31 @@ public interface Executable {
      * Do something, anything!
      */
     void exec();
+
+    /**
+     * Returns an executable which records the count, errors and latency histogram of its invocations of the given
+     * executable, available through {@link InstrumentedExecutable#stats()}. Emits no JFR events
+     *
+     * @param name       The name identifying the executable in its statistics
+     * @param executable The executable to instrument
+     * @return An instrumented executable delegating to the given executable
+     */
+    static InstrumentedExecutable instrumented(String name, Executable executable) {
+        return instrumented(name, executable, false);
+    }
+
+    /**
+     * Returns an executable which records the count, errors and latency histogram of its invocations of the given
+     * executable, available through {@link InstrumentedExecutable#stats()}. If events are enabled, each
+     * invocation also emits a {@code com.tajacks.libraries.functional.Invocation} JFR event, when that event is
+     * enabled in a running flight recording
+     *
+     * @param name       The name identifying the executable in its statistics and events
+     * @param executable The executable to instrument
+     * @param events     True to emit a JFR event for each invocation
+     * @return An instrumented executable delegating to the given executable
+     */
+    static InstrumentedExecutable instrumented(String name, Executable executable, boolean events) {
+        return new InstrumentedExecutable(executable, new InvocationRecorder(name, events));
+    }
 }
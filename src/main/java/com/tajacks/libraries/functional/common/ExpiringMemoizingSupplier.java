@@ -0,0 +1,87 @@
+package com.tajacks.libraries.functional.common;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caches the value of the given supplier for a fixed duration. Reads of an unexpired value are a single
+ * volatile read and take no lock.
+ * <p>
+ * Without a refresh executor, the first caller to find the value expired recomputes it while other callers wait.
+ * With a refresh executor, callers finding the value expired receive the expired value while a single refresh
+ * runs on the executor, so only the very first computation blocks. A failed refresh leaves the expired value in
+ * place and is retried by the next caller. Do not use directly, see {@link Supplier#memoizeWithExpiration}
+ *
+ * @param <T> The type of element supplied
+ */
+final class ExpiringMemoizingSupplier<T> implements Supplier<T> {
+    private final Supplier<T> delegate;
+    private final long durationNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Holder<T> holder;
+
+    private record Holder<T>(T value, long expiresAt) {}
+
+    ExpiringMemoizingSupplier(Supplier<T> delegate, Duration duration, Executor refreshExecutor) {
+        this(delegate, duration, refreshExecutor, System::nanoTime);
+    }
+
+    ExpiringMemoizingSupplier(Supplier<T> delegate, Duration duration, Executor refreshExecutor, LongSupplier ticker) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.durationNanos = duration.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public T get() {
+        Holder<T> current = holder;
+        long now = ticker.get();
+        if (current != null && now - current.expiresAt() < 0) {
+            return current.value();
+        }
+        if (current != null && refreshExecutor != null) {
+            refreshAhead();
+            return current.value();
+        }
+        synchronized (this) {
+            current = holder;
+            now = ticker.get();
+            if (current == null || now - current.expiresAt() >= 0) {
+                current = compute();
+            }
+            return current.value();
+        }
+    }
+
+    private Holder<T> compute() {
+        T value = delegate.get();
+        Holder<T> computed = new Holder<>(value, ticker.get() + durationNanos);
+        holder = computed;
+        return computed;
+    }
+
+    private void refreshAhead() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    compute();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+        }
+    }
+}
@@ -19,26 +19,92 @@ public interface Function<T, R> {
 
     /**
      * Returns a composed function which applies this function against the product
-     * of applying the given function against an input element
+     * of applying the given function against an input element. Compositions are flattened rather than nested,
+     * so a function composed from any number of functions is applied in constant stack space
      *
      * @param f The function to first apply to an input element
      * @return The composed function which applies this function against the product
      * of applying the given function against an input element
      */
     default <V> Function<V, R> compose(Function<? super V, ? extends T> f) {
-        return x -> apply(f.apply(x));
+        return CompositeFunction.of(f, this);
     }
 
     /**
      * Returns a composed function which applies the given function
-     * against the product of applying this function against an input element
+     * against the product of applying this function against an input element. Compositions are flattened rather
+     * than nested, so a function composed from any number of functions is applied in constant stack space
      *
      * @param f The function to compose with this
      * @return A composed function which applies the given function
      * against the product of applying this function against an input element
      */
     default <V> Function<T, V> andThen(Function<? super R, ? extends V> f) {
-        return x -> f.apply(apply(x));
+        return CompositeFunction.of(this, f);
+    }
+
+    /**
+     * Returns a function which caches the result of applying this function to each distinct argument,
+     * without bound. The cached results of arguments are looked up without locking
+     *
+     * @return A function which caches the results of applying this function
+     */
+    default MemoizedFunction<T, R> memoize() {
+        return memoize(MemoizationOptions.defaults());
+    }
+
+    /**
+     * Returns a function which caches the result of applying this function to at most maximumSize arguments,
+     * discarding the least recently used result when full
+     *
+     * @param maximumSize The maximum number of cached results
+     * @return A function which caches the results of applying this function
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    default MemoizedFunction<T, R> memoize(long maximumSize) {
+        return memoize(MemoizationOptions.defaults().withMaximumSize(maximumSize));
+    }
+
+    /**
+     * Returns a function which caches the result of applying this function, configured by the given options.
+     * The returned function is thread safe if this function is, and composes like any other function
+     *
+     * @param options The configuration of the cache
+     * @return A function which caches the results of applying this function
+     */
+    default MemoizedFunction<T, R> memoize(MemoizationOptions options) {
+        return new MemoizedFunction<>(this, options);
+    }
+
+    /**
+     * Returns a function which records the count, errors and latency histogram of its invocations of the given
+     * function, available through {@link InstrumentedFunction#stats()}. Emits no JFR events
+     *
+     * @param name     The name identifying the function in its statistics
+     * @param function The function to instrument
+     * @param <T>      The type of element to apply the function against
+     * @param <R>      The type of element resulting from applying the function
+     * @return An instrumented function delegating to the given function
+     */
+    static <T, R> InstrumentedFunction<T, R> instrumented(String name, Function<T, R> function) {
+        return instrumented(name, function, false);
+    }
+
+    /**
+     * Returns a function which records the count, errors and latency histogram of its invocations of the given
+     * function, available through {@link InstrumentedFunction#stats()}. If events are enabled, each
+     * invocation also emits a {@code com.tajacks.libraries.functional.Invocation} JFR event, when that event is
+     * enabled in a running flight recording
+     *
+     * @param name     The name identifying the function in its statistics and events
+     * @param function The function to instrument
+     * @param events   True to emit a JFR event for each invocation
+     * @param <T>      The type of element to apply the function against
+     * @param <R>      The type of element resulting from applying the function
+     * @return An instrumented function delegating to the given function
+     */
+    static <T, R> InstrumentedFunction<T, R> instrumented(String name, Function<T, R> function, boolean events) {
+        return new InstrumentedFunction<>(function, new InvocationRecorder(name, events));
     }
 
     /**
@@ -60,7 +126,7 @@ public interface Function<T, R> {
      * @return A composed function which applies functionOne to the product of applying functionTwo to an input element
      */
     static <T, R, V> Function<V, R> compose(Function<T, R> functionOne, Function<V, T> functionTwo) {
-        return x -> functionOne.apply(functionTwo.apply(x));
+        return CompositeFunction.of(functionTwo, functionOne);
     }
 
     /**
@@ -74,7 +140,7 @@ public interface Function<T, R> {
      * the second function to the product of the aforementioned operation
      */
     static <T, R, V> Function<T, V> andThen(Function<T, R> first, Function<R, V> second) {
-        return x -> second.apply(first.apply(x));
+        return CompositeFunction.of(first, second);
     }
 
     /**
@@ -96,7 +162,7 @@ public interface Function<T, R> {
      * @return A Function which composes functions in the 'andThen' style
      */
     static <T, R, V> Function<Function<T, R>, Function<Function<R, V>, Function<T, V>>> andThen() {
-        return (Function<T, R> x) -> (Function<R, V> y) -> (T z) -> y.apply(x.apply(z));
+        return (Function<T, R> x) -> (Function<R, V> y) -> CompositeFunction.of(x, y);
     }
 
     /**
@@ -118,6 +184,6 @@ public interface Function<T, R> {
      * @return A Function which composes functions
      */
     static <T, R, V> Function<Function<R, V>, Function<Function<T, R>, Function<T, V>>> compose() {
-        return (Function<R, V> x) -> (Function<T, R> y) -> (T z) -> x.apply(y.apply(z));
+        return (Function<R, V> x) -> (Function<T, R> y) -> CompositeFunction.of(y, x);
     }
 }
@@ -0,0 +1,51 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * An effect which records the number of invocations, the number which threw, and a histogram of their latencies.
+ * Created through {@link Effect#instrumented(String, Effect)} and its overloads.
+ * <p>
+ * Recording takes no lock and adds two clock reads and a few uncontended atomic increments to each invocation.
+ *
+ * @param <T> The type of input to the effect
+ */
+public final class InstrumentedEffect<T> implements Effect<T> {
+
+    private final Effect<T> effect;
+    private final InvocationRecorder recorder;
+
+    InstrumentedEffect(Effect<T> effect, InvocationRecorder recorder) {
+        this.effect = effect;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void apply(T input) {
+        InvocationEvent event = recorder.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            effect.apply(input);
+            failed = false;
+        } finally {
+            recorder.record(start, failed, event);
+        }
+    }
+
+    /**
+     * Returns the name this effect was instrumented with
+     *
+     * @return The name of this effect
+     */
+    public String name() {
+        return recorder.name();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this effect's invocations
+     *
+     * @return A snapshot of the invocation statistics
+     */
+    public InvocationStats stats() {
+        return recorder.stats();
+    }
+}
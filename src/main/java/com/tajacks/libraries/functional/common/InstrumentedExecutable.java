@@ -0,0 +1,49 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * An executable which records the number of invocations, the number which threw, and a histogram of their latencies.
+ * Created through {@link Executable#instrumented(String, Executable)} and its overloads.
+ * <p>
+ * Recording takes no lock and adds two clock reads and a few uncontended atomic increments to each invocation.
+ */
+public final class InstrumentedExecutable implements Executable {
+
+    private final Executable executable;
+    private final InvocationRecorder recorder;
+
+    InstrumentedExecutable(Executable executable, InvocationRecorder recorder) {
+        this.executable = executable;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void exec() {
+        InvocationEvent event = recorder.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            executable.exec();
+            failed = false;
+        } finally {
+            recorder.record(start, failed, event);
+        }
+    }
+
+    /**
+     * Returns the name this executable was instrumented with
+     *
+     * @return The name of this executable
+     */
+    public String name() {
+        return recorder.name();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this executable's invocations
+     *
+     * @return A snapshot of the invocation statistics
+     */
+    public InvocationStats stats() {
+        return recorder.stats();
+    }
+}
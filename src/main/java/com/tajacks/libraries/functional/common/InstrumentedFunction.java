@@ -0,0 +1,53 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function which records the number of invocations, the number which threw, and a histogram of their latencies.
+ * Created through {@link Function#instrumented(String, Function)} and its overloads.
+ * <p>
+ * Recording takes no lock and adds two clock reads and a few uncontended atomic increments to each invocation.
+ *
+ * @param <T> The type of element to apply the function against
+ * @param <R> The type of element resulting from applying the function
+ */
+public final class InstrumentedFunction<T, R> implements Function<T, R> {
+
+    private final Function<T, R> function;
+    private final InvocationRecorder recorder;
+
+    InstrumentedFunction(Function<T, R> function, InvocationRecorder recorder) {
+        this.function = function;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public R apply(T arg) {
+        InvocationEvent event = recorder.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            R result = function.apply(arg);
+            failed = false;
+            return result;
+        } finally {
+            recorder.record(start, failed, event);
+        }
+    }
+
+    /**
+     * Returns the name this function was instrumented with
+     *
+     * @return The name of this function
+     */
+    public String name() {
+        return recorder.name();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this function's invocations
+     *
+     * @return A snapshot of the invocation statistics
+     */
+    public InvocationStats stats() {
+        return recorder.stats();
+    }
+}
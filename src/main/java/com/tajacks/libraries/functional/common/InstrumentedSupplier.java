@@ -0,0 +1,52 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A supplier which records the number of invocations, the number which threw, and a histogram of their latencies.
+ * Created through {@link Supplier#instrumented(String, Supplier)} and its overloads.
+ * <p>
+ * Recording takes no lock and adds two clock reads and a few uncontended atomic increments to each invocation.
+ *
+ * @param <T> The type of element supplied
+ */
+public final class InstrumentedSupplier<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private final InvocationRecorder recorder;
+
+    InstrumentedSupplier(Supplier<T> supplier, InvocationRecorder recorder) {
+        this.supplier = supplier;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public T get() {
+        InvocationEvent event = recorder.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = supplier.get();
+            failed = false;
+            return result;
+        } finally {
+            recorder.record(start, failed, event);
+        }
+    }
+
+    /**
+     * Returns the name this supplier was instrumented with
+     *
+     * @return The name of this supplier
+     */
+    public String name() {
+        return recorder.name();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this supplier's invocations
+     *
+     * @return A snapshot of the invocation statistics
+     */
+    public InvocationStats stats() {
+        return recorder.stats();
+    }
+}
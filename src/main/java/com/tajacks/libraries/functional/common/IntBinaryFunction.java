@@ -0,0 +1,29 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes two primitive ints and produces an int, without boxing. Typically used as the
+ * folding function of a primitive fold, applied to the accumulated value and each element
+ */
+@FunctionalInterface
+public interface IntBinaryFunction {
+
+    /**
+     * Applies this function against the given ints
+     *
+     * @param left  The first argument, the accumulated value when folding
+     * @param right The second argument, the element when folding
+     * @return The result of applying this function
+     */
+    int apply(int left, int right);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against two input ints
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default IntBinaryFunction andThen(IntToIntFunction f) {
+        return (left, right) -> f.apply(apply(left, right));
+    }
+}
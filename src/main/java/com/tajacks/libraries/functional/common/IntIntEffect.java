@@ -0,0 +1,33 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+
+/**
+ * An effect on a primitive int and a primitive int, applied without boxing the arguments
+ */
+@FunctionalInterface
+public interface IntIntEffect {
+
+    /**
+     * Applies this effect on the given arguments
+     *
+     * @param first  The first argument
+     * @param second The second argument
+     */
+    void apply(int first, int second);
+
+    /**
+     * Returns a composed effect that applies this effect followed by the after effect
+     *
+     * @param after The effect to apply after this one
+     * @return A composed effect that applies this effect followed by the after effect
+     * @throws NullPointerException if after is null
+     */
+    default IntIntEffect andThen(IntIntEffect after) {
+        Objects.requireNonNull(after);
+        return (first, second) -> {
+            apply(first, second);
+            after.apply(first, second);
+        };
+    }
+}
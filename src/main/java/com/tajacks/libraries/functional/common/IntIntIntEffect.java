@@ -0,0 +1,34 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+
+/**
+ * An effect on three primitive ints, applied without boxing the arguments
+ */
+@FunctionalInterface
+public interface IntIntIntEffect {
+
+    /**
+     * Applies this effect on the given arguments
+     *
+     * @param first  The first argument
+     * @param second The second argument
+     * @param third  The third argument
+     */
+    void apply(int first, int second, int third);
+
+    /**
+     * Returns a composed effect that applies this effect followed by the after effect
+     *
+     * @param after The effect to apply after this one
+     * @return A composed effect that applies this effect followed by the after effect
+     * @throws NullPointerException if after is null
+     */
+    default IntIntIntEffect andThen(IntIntIntEffect after) {
+        Objects.requireNonNull(after);
+        return (first, second, third) -> {
+            apply(first, second, third);
+            after.apply(first, second, third);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive int and a primitive long and produces a result, without boxing the arguments
+ *
+ * @param <R> The type of element resulting from applying the function
+ */
+@FunctionalInterface
+public interface IntLongFunction<R> {
+
+    /**
+     * Applies this function against the given arguments
+     *
+     * @param first  The first argument
+     * @param second The second argument
+     * @return The result of applying this function
+     */
+    R apply(int first, long second);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against the input arguments
+     *
+     * @param f   The function to apply to the result of this function
+     * @param <V> The type of element resulting from the composed function
+     * @return The composed function
+     */
+    default <V> IntLongFunction<V> andThen(Function<? super R, ? extends V> f) {
+        return (first, second) -> f.apply(apply(first, second));
+    }
+}
@@ -0,0 +1,15 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A supplier of primitive ints, which supplies without boxing
+ */
+@FunctionalInterface
+public interface IntSupplier {
+
+    /**
+     * Gets a result
+     *
+     * @return A int
+     */
+    int get();
+}
@@ -0,0 +1,38 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive int and produces a primitive long, without boxing
+ */
+@FunctionalInterface
+public interface IntToLongFunction {
+
+    /**
+     * Applies this function against the given int
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    long apply(int arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input int
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default IntToLongFunction andThen(LongToLongFunction f) {
+        return x -> f.apply(apply(x));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input int
+     *
+     * @param f The function to first apply to an input int
+     * @return The composed function
+     */
+    default IntToLongFunction compose(IntToIntFunction f) {
+        return x -> apply(f.apply(x));
+    }
+}
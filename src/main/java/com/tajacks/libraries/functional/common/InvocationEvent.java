@@ -0,0 +1,25 @@
+package com.tajacks.libraries.functional.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event recording one invocation of an instrumented object. Disabled unless enabled in the recording
+ * settings, and emitted only by objects instrumented with events
+ */
+@Name("com.tajacks.libraries.functional.Invocation")
+@Label("Invocation")
+@Category("Functional")
+@Description("An invocation of an instrumented function, effect, supplier or executable")
+@StackTrace(false)
+final class InvocationEvent extends jdk.jfr.Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Failed")
+    boolean failed;
+}
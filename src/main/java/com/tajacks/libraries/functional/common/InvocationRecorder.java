@@ -0,0 +1,55 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the outcome and latency of each invocation of an instrumented object
+ */
+final class InvocationRecorder {
+    private final String name;
+    private final boolean events;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    InvocationRecorder(String name, boolean events) {
+        this.name = Objects.requireNonNull(name);
+        this.events = events;
+    }
+
+    /**
+     * Begins a JFR event for an invocation, or returns null if this recorder emits no events
+     */
+    InvocationEvent begin() {
+        if (!events) {
+            return null;
+        }
+        InvocationEvent event = new InvocationEvent();
+        event.begin();
+        return event;
+    }
+
+    void record(long start, boolean failed, InvocationEvent event) {
+        latency.record(System.nanoTime() - start);
+        if (failed) {
+            errors.increment();
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.name = name;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    InvocationStats stats() {
+        LatencySnapshot snapshot = latency.snapshot();
+        return new InvocationStats(name, snapshot.count(), errors.sum(), snapshot);
+    }
+}
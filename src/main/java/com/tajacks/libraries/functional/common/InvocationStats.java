@@ -0,0 +1,21 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A point in time snapshot of the statistics of an instrumented function, effect, supplier or executable
+ *
+ * @param name        The name the instrumented object was given
+ * @param invocations The number of completed invocations, including those which threw
+ * @param errors      The number of invocations which threw
+ * @param latency     The latencies of all completed invocations
+ */
+public record InvocationStats(String name, long invocations, long errors, LatencySnapshot latency) {
+
+    /**
+     * Returns the fraction of invocations which threw, or 0.0 if there were no invocations
+     *
+     * @return The ratio of errors to invocations
+     */
+    public double errorRate() {
+        return invocations == 0 ? 0.0 : (double) errors / invocations;
+    }
+}
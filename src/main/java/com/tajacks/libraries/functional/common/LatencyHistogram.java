@@ -0,0 +1,99 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, with log-linear buckets in the style of HdrHistogram.
+ * Each power of two is split into 32 equal buckets, so any recorded value is reported within about 3% of
+ * its true value, from one nanosecond up to {@link Long#MAX_VALUE}, in a fixed amount of memory.
+ * <p>
+ * Recording takes no lock. To keep concurrent recorders from contending on the same counters, each thread
+ * records into one of several stripes chosen by its id; stripes are merged only when a snapshot is taken.
+ * A snapshot taken while values are being recorded may include only some of the concurrent recordings.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+    private static final int MAXIMUM_STRIPES = 8;
+    private static final int SUM = BUCKETS;
+    private static final int MAX = BUCKETS + 1;
+
+    private final AtomicLongArray[] stripes;
+    private final int mask;
+
+    /**
+     * Creates an empty histogram with one stripe per available processor, up to eight
+     */
+    public LatencyHistogram() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAXIMUM_STRIPES);
+        int count = Integer.highestOneBit(processors * 2 - 1);
+        this.stripes = new AtomicLongArray[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS + 2);
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Records a latency. Negative latencies are recorded as zero
+     *
+     * @param nanos The latency to record, in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        AtomicLongArray stripe = stripes[stripe()];
+        stripe.getAndIncrement(bucket(value));
+        stripe.getAndAdd(SUM, value);
+        long max = stripe.get(MAX);
+        while (value > max && !stripe.weakCompareAndSetVolatile(MAX, max, value)) {
+            max = stripe.get(MAX);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the latencies recorded so far
+     *
+     * @return A snapshot of the recorded latencies
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        long max = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+            total += stripe.get(SUM);
+            max = Math.max(max, stripe.get(MAX));
+        }
+        return new LatencySnapshot(counts, total, max);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the greatest value recorded into the given bucket
+     */
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) ((bucket & (SUB_BUCKETS - 1)) | SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,107 @@
+package com.tajacks.libraries.functional.common;
+
+import java.time.Duration;
+
+/**
+ * A point in time snapshot of a {@link LatencyHistogram}. Percentiles are reported as the greatest value of the
+ * bucket they fall in, so they are never lower than the true value and at most about 3% higher
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        long sum = 0;
+        for (long c : counts) {
+            sum += c;
+        }
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of latencies recorded
+     *
+     * @return The number of latencies recorded
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all latencies recorded, in nanoseconds
+     *
+     * @return The sum of all latencies recorded
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the greatest latency recorded, in nanoseconds, exactly
+     *
+     * @return The greatest latency recorded, or 0 if none was recorded
+     */
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean latency, or zero if no latency was recorded
+     *
+     * @return The mean latency
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * Returns the latency which the given percentage of recorded latencies do not exceed, in nanoseconds
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The latency at the given percentile, or 0 if no latency was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Applies the given effect to the greatest value and count of every non-empty bucket, in increasing order of
+     * value, for export to other monitoring systems
+     *
+     * @param effect The effect applied to each bucket's greatest value, in nanoseconds, and count
+     */
+    public void forEachBucket(LongLongEffect effect) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                effect.apply(LatencyHistogram.highestValue(i), counts[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot[count=" + count + ", mean=" + mean().toNanos() + "ns, p50=" + valueAtPercentile(50)
+                + "ns, p99=" + valueAtPercentile(99) + "ns, max=" + maxNanos + "ns]";
+    }
+}
@@ -0,0 +1,15 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A supplier of primitive longs, which supplies without boxing
+ */
+@FunctionalInterface
+public interface LongSupplier {
+
+    /**
+     * Gets a result
+     *
+     * @return A long
+     */
+    long get();
+}
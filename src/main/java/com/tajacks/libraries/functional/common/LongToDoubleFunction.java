@@ -0,0 +1,38 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive long and produces a primitive double, without boxing
+ */
+@FunctionalInterface
+public interface LongToDoubleFunction {
+
+    /**
+     * Applies this function against the given long
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    double apply(long arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input long
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default LongToDoubleFunction andThen(DoubleToDoubleFunction f) {
+        return x -> f.apply(apply(x));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input long
+     *
+     * @param f The function to first apply to an input long
+     * @return The composed function
+     */
+    default LongToDoubleFunction compose(LongToLongFunction f) {
+        return x -> apply(f.apply(x));
+    }
+}
@@ -0,0 +1,47 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes a primitive long and produces a primitive long, without boxing
+ */
+@FunctionalInterface
+public interface LongToLongFunction {
+
+    /**
+     * Applies this function against the given long
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    long apply(long arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input long
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default LongToLongFunction andThen(LongToLongFunction f) {
+        return x -> f.apply(apply(x));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input long
+     *
+     * @param f The function to first apply to an input long
+     * @return The composed function
+     */
+    default LongToLongFunction compose(LongToLongFunction f) {
+        return x -> apply(f.apply(x));
+    }
+
+    /**
+     * Returns a function which returns its input argument
+     *
+     * @return A function which returns its input argument
+     */
+    static LongToLongFunction identity() {
+        return x -> x;
+    }
+}
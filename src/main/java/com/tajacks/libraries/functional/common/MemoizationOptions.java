@@ -0,0 +1,99 @@
+package com.tajacks.libraries.functional.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures the cache backing a {@link MemoizedFunction}. Example usage:
+ *
+ * <pre>
+ * MemoizationOptions options = MemoizationOptions.defaults()
+ *         .withMaximumSize(10_000)
+ *         .withEvictionPolicy(EvictionPolicy.LFU)
+ *         .withExpireAfterWrite(Duration.ofMinutes(5));
+ * </pre>
+ *
+ * @param maximumSize      The maximum number of cached results, {@link Long#MAX_VALUE} for an unbounded cache
+ * @param evictionPolicy   The entry to discard when the cache is full
+ * @param expireAfterWrite How long a result remains cached after being computed, null if results never expire
+ * @param concurrencyLevel The number of independently locked segments the cache is split into
+ */
+public record MemoizationOptions(
+        long maximumSize, EvictionPolicy evictionPolicy, Duration expireAfterWrite, int concurrencyLevel) {
+
+    /**
+     * The number of segments used unless configured otherwise
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    public MemoizationOptions {
+        Objects.requireNonNull(evictionPolicy);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive: " + expireAfterWrite);
+        }
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+        }
+    }
+
+    /**
+     * Returns the options of an unbounded cache whose results never expire
+     *
+     * @return The default options
+     */
+    public static MemoizationOptions defaults() {
+        return new MemoizationOptions(Long.MAX_VALUE, EvictionPolicy.LRU, null, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Returns a copy of these options with the given maximum size
+     *
+     * @param maximumSize The maximum number of cached results
+     * @return A copy of these options with the given maximum size
+     */
+    public MemoizationOptions withMaximumSize(long maximumSize) {
+        return new MemoizationOptions(maximumSize, evictionPolicy, expireAfterWrite, concurrencyLevel);
+    }
+
+    /**
+     * Returns a copy of these options with the given eviction policy
+     *
+     * @param evictionPolicy The entry to discard when the cache is full
+     * @return A copy of these options with the given eviction policy
+     */
+    public MemoizationOptions withEvictionPolicy(EvictionPolicy evictionPolicy) {
+        return new MemoizationOptions(maximumSize, evictionPolicy, expireAfterWrite, concurrencyLevel);
+    }
+
+    /**
+     * Returns a copy of these options with the given expiry
+     *
+     * @param expireAfterWrite How long a result remains cached after being computed
+     * @return A copy of these options with the given expiry
+     */
+    public MemoizationOptions withExpireAfterWrite(Duration expireAfterWrite) {
+        return new MemoizationOptions(maximumSize, evictionPolicy, expireAfterWrite, concurrencyLevel);
+    }
+
+    /**
+     * Returns a copy of these options with the given concurrency level
+     *
+     * @param concurrencyLevel The number of independently locked segments the cache is split into
+     * @return A copy of these options with the given concurrency level
+     */
+    public MemoizationOptions withConcurrencyLevel(int concurrencyLevel) {
+        return new MemoizationOptions(maximumSize, evictionPolicy, expireAfterWrite, concurrencyLevel);
+    }
+
+    /**
+     * Indicates if these options describe a cache which never discards results
+     *
+     * @return True if the cache is unbounded and results never expire, false otherwise
+     */
+    public boolean isUnbounded() {
+        return maximumSize == Long.MAX_VALUE && expireAfterWrite == null;
+    }
+}
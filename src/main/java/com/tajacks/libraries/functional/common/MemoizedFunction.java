@@ -0,0 +1,311 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A function which caches the results of applying another function. Created through
+ * {@link Function#memoize()} and its overloads.
+ * <p>
+ * An unbounded cache whose results never expire is backed by a {@link ConcurrentHashMap}, and lookups of cached
+ * results take no locks. Any other cache is split into independently locked segments, by key hash, so that
+ * concurrent lookups of different keys rarely contend.
+ * <p>
+ * Results are computed without holding any lock, so the memoized function may safely call itself recursively.
+ * Two threads missing the same key at the same time may both compute a result; the first result cached is
+ * the one returned to both.
+ *
+ * @param <T> The type of element to apply the function against
+ * @param <R> The type of element resulting from applying the function
+ */
+public final class MemoizedFunction<T, R> implements Function<T, R> {
+
+    private static final Object NULL = new Object();
+
+    private final Function<T, R> function;
+    private final Segment[] segments;
+    private final LongSupplier ticker;
+    private final long expireAfterNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    MemoizedFunction(Function<T, R> function, MemoizationOptions options) {
+        this(function, options, System::nanoTime);
+    }
+
+    MemoizedFunction(Function<T, R> function, MemoizationOptions options, LongSupplier ticker) {
+        this.function = Objects.requireNonNull(function);
+        this.ticker = ticker;
+        this.expireAfterNanos = options.expireAfterWrite() == null
+                ? Long.MAX_VALUE
+                : options.expireAfterWrite().toNanos();
+        if (options.isUnbounded()) {
+            this.segments = new Segment[] {new ConcurrentSegment()};
+        } else {
+            int count = (int) Math.min(options.concurrencyLevel(), options.maximumSize());
+            this.segments = new Segment[count];
+            for (int i = 0; i < count; i++) {
+                long capacity = options.maximumSize() / count + (i < options.maximumSize() % count ? 1 : 0);
+                segments[i] = options.evictionPolicy() == EvictionPolicy.LRU
+                        ? new LruSegment(capacity)
+                        : new LfuSegment(capacity);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T arg) {
+        Segment segment = segmentFor(arg);
+        Object cached = segment.get(arg, ticker.get());
+        if (cached != null) {
+            hits.increment();
+            return cached == NULL ? null : (R) cached;
+        }
+        misses.increment();
+        R result = function.apply(arg);
+        Object stored = segment.putIfAbsent(arg, result == null ? NULL : result, ticker.get());
+        return stored == NULL ? null : (R) stored;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this function's cache
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    /**
+     * Returns the number of results currently cached, including any which have expired but are not yet discarded
+     *
+     * @return The number of cached results
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Discards every cached result
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(Object key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        int h = Objects.hashCode(key);
+        h ^= h >>> 16;
+        return segments[Math.floorMod(h, segments.length)];
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return expireAfterNanos != Long.MAX_VALUE && now - entry.writtenAt >= expireAfterNanos;
+    }
+
+    /**
+     * A portion of the cache. Values are never null; null results are stored as {@link #NULL}
+     */
+    private interface Segment {
+        /**
+         * Returns the cached value for the key, or null if there is none
+         */
+        Object get(Object key, long now);
+
+        /**
+         * Caches the value if the key has no cached value, returning whichever value is now cached
+         */
+        Object putIfAbsent(Object key, Object value, long now);
+
+        long size();
+
+        void clear();
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long writtenAt;
+        private long frequency = 1;
+
+        private Entry(Object value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private static final class ConcurrentSegment implements Segment {
+        private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+
+        @Override
+        public Object get(Object key, long now) {
+            return map.get(wrap(key));
+        }
+
+        @Override
+        public Object putIfAbsent(Object key, Object value, long now) {
+            Object existing = map.putIfAbsent(wrap(key), value);
+            return existing == null ? value : existing;
+        }
+
+        @Override
+        public long size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+
+        private static Object wrap(Object key) {
+            return key == null ? NULL : key;
+        }
+    }
+
+    private final class LruSegment implements Segment {
+        private final long capacity;
+        private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private LruSegment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized Object get(Object key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, now)) {
+                entries.remove(key);
+                expirations.increment();
+                return null;
+            }
+            return entry.value;
+        }
+
+        @Override
+        public synchronized Object putIfAbsent(Object key, Object value, long now) {
+            Entry existing = entries.get(key);
+            if (existing != null && !isExpired(existing, now)) {
+                return existing.value;
+            }
+            entries.put(key, new Entry(value, now));
+            if (entries.size() > capacity) {
+                Iterator<Entry> eldest = entries.values().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public synchronized long size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Evicts in constant time by keeping keys in buckets by access frequency, each bucket in access order
+     */
+    private final class LfuSegment implements Segment {
+        private final long capacity;
+        private final HashMap<Object, Entry> entries = new HashMap<>();
+        private final HashMap<Long, LinkedHashSet<Object>> buckets = new HashMap<>();
+        private long minFrequency = 0;
+
+        private LfuSegment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized Object get(Object key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, now)) {
+                remove(key, entry);
+                expirations.increment();
+                return null;
+            }
+            LinkedHashSet<Object> bucket = buckets.get(entry.frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.remove(entry.frequency);
+                if (minFrequency == entry.frequency) {
+                    minFrequency++;
+                }
+            }
+            entry.frequency++;
+            buckets.computeIfAbsent(entry.frequency, f -> new LinkedHashSet<>()).add(key);
+            return entry.value;
+        }
+
+        @Override
+        public synchronized Object putIfAbsent(Object key, Object value, long now) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                if (!isExpired(existing, now)) {
+                    return existing.value;
+                }
+                remove(key, existing);
+            }
+            if (entries.size() >= capacity) {
+                LinkedHashSet<Object> bucket = buckets.get(minFrequency);
+                Object victim = bucket.iterator().next();
+                remove(victim, entries.get(victim));
+                evictions.increment();
+            }
+            entries.put(key, new Entry(value, now));
+            buckets.computeIfAbsent(1L, f -> new LinkedHashSet<>()).add(key);
+            minFrequency = 1;
+            return value;
+        }
+
+        private void remove(Object key, Entry entry) {
+            entries.remove(key);
+            LinkedHashSet<Object> bucket = buckets.get(entry.frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.remove(entry.frequency);
+                if (minFrequency == entry.frequency) {
+                    minFrequency = buckets.keySet().stream()
+                            .mapToLong(Long::longValue)
+                            .min()
+                            .orElse(0);
+                }
+            }
+        }
+
+        @Override
+        public synchronized long size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+            buckets.clear();
+            minFrequency = 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tajacks.libraries.functional.common;
+
+import java.util.Objects;
+
+/**
+ * Computes the value of the given supplier at most once, on first demand. Reads after initialization
+ * are a single volatile read and take no lock. The delegate supplier is released once its value is computed.
+ * Do not use directly, see {@link Supplier#memoize()}
+ *
+ * @param <T> The type of element supplied
+ */
+final class MemoizingSupplier<T> implements Supplier<T> {
+    private Supplier<T> delegate;
+    private volatile boolean initialized;
+    // Published by the volatile write of initialized
+    private T value;
+
+    MemoizingSupplier(Supplier<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public T get() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    value = delegate.get();
+                    initialized = true;
+                    delegate = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Supplier<T> memoize() {
+        return this;
+    }
+}
@@ -0,0 +1,19 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * Determines what an {@link AsyncEffect} does with an item applied while its buffer is full
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for room, slowing the caller to the pace of the consumer
+     */
+    BLOCK,
+    /**
+     * Discard the item being applied
+     */
+    DROP,
+    /**
+     * Discard the oldest item waiting in the buffer to make room for the item being applied
+     */
+    DROP_OLDEST
+}
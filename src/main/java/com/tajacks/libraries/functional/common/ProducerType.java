@@ -0,0 +1,16 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * Declares how many threads publish to an {@link AsyncEffect}
+ */
+public enum ProducerType {
+    /**
+     * Exactly one thread applies the effect. Publishing needs no atomic read-modify-write instruction,
+     * but applying the effect from more than one thread corrupts the buffer
+     */
+    SINGLE,
+    /**
+     * Any number of threads apply the effect
+     */
+    MULTI
+}
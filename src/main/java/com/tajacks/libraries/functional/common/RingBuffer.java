@@ -0,0 +1,129 @@
+package com.tajacks.libraries.functional.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A bounded, lock-free queue over a preallocated array, after Dmitry Vyukov's bounded MPMC queue. Each slot
+ * carries a sequence number which tells producers and consumers whether the slot is free to write or ready
+ * to read, so that neither ever waits on the other's lock. Any number of threads may poll; offering is
+ * either safe from any number of threads, or, for a single producer, performed without a compare-and-set.
+ * <p>
+ * Elements must not be null.
+ */
+final class RingBuffer {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBuffer.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] elements;
+    private final long[] sequences;
+    private final int mask;
+    private final boolean singleProducer;
+
+    // Padding keeps the head and tail, written by different threads, on different cache lines
+    private long p01, p02, p03, p04, p05, p06, p07;
+    private volatile long head;
+    private long p11, p12, p13, p14, p15, p16, p17;
+    private volatile long tail;
+    private long p21, p22, p23, p24, p25, p26, p27;
+
+    RingBuffer(int capacity, boolean singleProducer) {
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new long[size];
+        this.mask = size - 1;
+        this.singleProducer = singleProducer;
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Inserts the element if there is room
+     *
+     * @return True if the element was inserted, false if the buffer is full
+     */
+    boolean offer(Object element) {
+        long position = (long) TAIL.getAcquire(this);
+        while (true) {
+            int index = (int) position & mask;
+            long difference = (long) SEQUENCES.getAcquire(sequences, index) - position;
+            if (difference == 0) {
+                if (singleProducer) {
+                    TAIL.setRelease(this, position + 1);
+                    break;
+                }
+                if (TAIL.weakCompareAndSet(this, position, position + 1)) {
+                    break;
+                }
+                position = (long) TAIL.getAcquire(this);
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = (long) TAIL.getAcquire(this);
+            }
+        }
+        int index = (int) position & mask;
+        ELEMENTS.set(elements, index, element);
+        SEQUENCES.setRelease(sequences, index, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the oldest element
+     *
+     * @return The oldest element, or null if the buffer is empty
+     */
+    Object poll() {
+        long position = (long) HEAD.getAcquire(this);
+        while (true) {
+            int index = (int) position & mask;
+            long difference = (long) SEQUENCES.getAcquire(sequences, index) - (position + 1);
+            if (difference == 0) {
+                if (HEAD.weakCompareAndSet(this, position, position + 1)) {
+                    Object element = ELEMENTS.get(elements, index);
+                    ELEMENTS.set(elements, index, null);
+                    SEQUENCES.setRelease(sequences, index, position + mask + 1);
+                    return element;
+                }
+                position = (long) HEAD.getAcquire(this);
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = (long) HEAD.getAcquire(this);
+            }
+        }
+    }
+
+    /**
+     * Indicates if the buffer holds no published element. Elements being inserted concurrently may not be seen
+     */
+    boolean isEmpty() {
+        long position = (long) HEAD.getAcquire(this);
+        return (long) SEQUENCES.getAcquire(sequences, (int) position & mask) != position + 1;
+    }
+
+    /**
+     * Returns the number of elements ever inserted, including those being inserted concurrently
+     */
+    long published() {
+        return (long) TAIL.getAcquire(this);
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+}
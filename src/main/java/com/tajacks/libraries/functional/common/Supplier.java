@@ -1,5 +1,9 @@
 package com.tajacks.libraries.functional.common;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
 /**
  * Carbon copy of {@link java.util.function.Supplier}
  * A copy of the built-in Java supplier is used for flexibility if we wish to
@@ -16,4 +20,70 @@ public interface Supplier<T> {
      * @return An element of type T
      */
     T get();
+
+    /**
+     * Returns a supplier which computes the value of this supplier once, on first demand, and supplies that
+     * value thereafter. The returned supplier is thread safe, publishes the value safely and takes no lock
+     * once the value has been computed
+     *
+     * @return A supplier which computes the value of this supplier at most once
+     */
+    default Supplier<T> memoize() {
+        return new MemoizingSupplier<>(this);
+    }
+
+    /**
+     * Returns a supplier which caches the value of this supplier for the given duration, recomputing it on
+     * the first demand after it expires. Callers demanding the value during a recomputation wait for it
+     *
+     * @param duration How long a computed value is supplied for
+     * @return A supplier which caches the value of this supplier for the given duration
+     * @throws IllegalArgumentException if the duration is not positive
+     */
+    default Supplier<T> memoizeWithExpiration(Duration duration) {
+        return new ExpiringMemoizingSupplier<>(this, duration, null);
+    }
+
+    /**
+     * Returns a supplier which caches the value of this supplier for the given duration, refreshing it ahead
+     * of callers. Once a value exists, callers never block: a caller demanding an expired value receives it
+     * while a single recomputation runs on the given executor. Only the first computation blocks its callers
+     *
+     * @param duration        How long a computed value is supplied before it is refreshed
+     * @param refreshExecutor The executor to refresh expired values on
+     * @return A supplier which caches the value of this supplier, refreshing it in the background
+     * @throws IllegalArgumentException if the duration is not positive
+     */
+    default Supplier<T> memoizeWithExpiration(Duration duration, Executor refreshExecutor) {
+        return new ExpiringMemoizingSupplier<>(this, duration, Objects.requireNonNull(refreshExecutor));
+    }
+
+    /**
+     * Returns a supplier which records the count, errors and latency histogram of its invocations of the given
+     * supplier, available through {@link InstrumentedSupplier#stats()}. Emits no JFR events
+     *
+     * @param name     The name identifying the supplier in its statistics
+     * @param supplier The supplier to instrument
+     * @param <T>      The type of element supplied
+     * @return An instrumented supplier delegating to the given supplier
+     */
+    static <T> InstrumentedSupplier<T> instrumented(String name, Supplier<T> supplier) {
+        return instrumented(name, supplier, false);
+    }
+
+    /**
+     * Returns a supplier which records the count, errors and latency histogram of its invocations of the given
+     * supplier, available through {@link InstrumentedSupplier#stats()}. If events are enabled, each
+     * invocation also emits a {@code com.tajacks.libraries.functional.Invocation} JFR event, when that event is
+     * enabled in a running flight recording
+     *
+     * @param name     The name identifying the supplier in its statistics and events
+     * @param supplier The supplier to instrument
+     * @param events   True to emit a JFR event for each invocation
+     * @param <T>      The type of element supplied
+     * @return An instrumented supplier delegating to the given supplier
+     */
+    static <T> InstrumentedSupplier<T> instrumented(String name, Supplier<T> supplier, boolean events) {
+        return new InstrumentedSupplier<>(supplier, new InvocationRecorder(name, events));
+    }
 }
@@ -0,0 +1,41 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * A function that takes an element and produces a primitive double, without boxing the result
+ *
+ * @param <T> The type of element to apply the function against
+ */
+@FunctionalInterface
+public interface ToDoubleFunction<T> {
+
+    /**
+     * Applies this function against the element T, resulting in a double
+     *
+     * @param arg The argument to apply this function against
+     * @return The result of applying this function
+     */
+    double apply(T arg);
+
+    /**
+     * Returns a composed function which applies the given function against the product
+     * of applying this function against an input element
+     *
+     * @param f The function to apply to the result of this function
+     * @return The composed function
+     */
+    default ToDoubleFunction<T> andThen(DoubleToDoubleFunction f) {
+        return t -> f.apply(apply(t));
+    }
+
+    /**
+     * Returns a composed function which applies this function against the product
+     * of applying the given function against an input element
+     *
+     * @param f   The function to first apply to an input element
+     * @param <V> The type of element the composed function is applied against
+     * @return The composed function
+     */
+    default <V> ToDoubleFunction<V> compose(Function<? super V, ? extends T> f) {
+        return v -> apply(f.apply(v));
+    }
+}
@@ -0,0 +1,20 @@
+package com.tajacks.libraries.functional.common;
+
+/**
+ * Determines how a thread of an {@link AsyncEffect} waits, either for items to consume or for room to publish.
+ * Strategies which wait more eagerly react sooner, at the cost of occupying a processor while waiting
+ */
+public enum WaitStrategy {
+    /**
+     * Spin continuously. Lowest latency, but occupies a processor for as long as the thread waits
+     */
+    BUSY_SPIN,
+    /**
+     * Spin briefly, then repeatedly yield the processor to other threads
+     */
+    YIELD,
+    /**
+     * Spin briefly, then yield, then park the thread until it is signalled. Uses no processor while idle
+     */
+    PARK
+}
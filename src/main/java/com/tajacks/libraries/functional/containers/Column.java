@@ -0,0 +1,359 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.DoubleBinaryFunction;
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.IntBinaryFunction;
+import com.tajacks.libraries.functional.common.LongBinaryFunction;
+import java.util.*;
+
+/**
+ * An immutable column of values, one component of a {@link CoupleColumns} or {@link TripleColumns}. A column of
+ * Integers, Longs or Doubles is stored as an array of the corresponding primitive, which needs no object per value
+ * and is scanned sequentially; any other column is stored as an array of references.
+ * <p>
+ * Values of a primitive column are boxed only when accessed through {@link #get(int)}, {@link #asList()} or
+ * {@link #foldLeft(Object, Function)}. The primitive folds never box. An empty column holds no values of any
+ * type, so each primitive fold of an empty column returns its identity.
+ *
+ * @param <T> The type of values in the column
+ */
+public abstract sealed class Column<T> permits Column.OfObject, Column.OfInt, Column.OfLong, Column.OfDouble {
+
+    /**
+     * Returns the number of values in this column
+     *
+     * @return The number of values in this column
+     */
+    public abstract int size();
+
+    /**
+     * Returns the value at the given index of this column
+     *
+     * @param index The index of the value to return
+     * @return The value at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public abstract T get(int index);
+
+    /**
+     * Folds this column starting at the first value by applying the given folding function
+     * against the identity and all subsequent values
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each value
+     * @param <U>             The type of the resulting value
+     * @return The result of folding this column
+     */
+    public <U> U foldLeft(U identity, Function<U, Function<T, U>> foldingFunction) {
+        U result = identity;
+        for (int i = 0; i < size(); i++) {
+            result = foldingFunction.apply(result).apply(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Folds this column of ints without boxing
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each value
+     * @return The result of folding this column
+     * @throws IllegalStateException if this column is not empty and does not hold ints
+     */
+    public int foldLeftInt(int identity, IntBinaryFunction foldingFunction) {
+        if (size() == 0) {
+            return identity;
+        }
+        throw new IllegalStateException("Column of " + kind() + " does not hold ints");
+    }
+
+    /**
+     * Folds this column of ints or longs without boxing. Ints are widened to longs
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each value
+     * @return The result of folding this column
+     * @throws IllegalStateException if this column is not empty and does not hold ints or longs
+     */
+    public long foldLeftLong(long identity, LongBinaryFunction foldingFunction) {
+        if (size() == 0) {
+            return identity;
+        }
+        throw new IllegalStateException("Column of " + kind() + " does not hold longs");
+    }
+
+    /**
+     * Folds this column of ints, longs or doubles without boxing. Ints and longs are widened to doubles
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each value
+     * @return The result of folding this column
+     * @throws IllegalStateException if this column is not empty and does not hold ints, longs or doubles
+     */
+    public double foldLeftDouble(double identity, DoubleBinaryFunction foldingFunction) {
+        if (size() == 0) {
+            return identity;
+        }
+        throw new IllegalStateException("Column of " + kind() + " does not hold doubles");
+    }
+
+    /**
+     * Indicates if the values of this column are stored as primitives
+     *
+     * @return True if this column is stored as an array of primitives, false otherwise
+     */
+    public abstract boolean isPrimitive();
+
+    /**
+     * Returns an immutable, random access view of this column as a list
+     *
+     * @return An immutable list view of this column
+     */
+    public List<T> asList() {
+        return new ListView<>(this);
+    }
+
+    abstract String kind();
+
+    private Column() {
+        // Subclasses should only be instantiated via static factories
+    }
+
+    /**
+     * Returns a column holding the given values, stored as primitives if every value is an Integer,
+     * every value is a Long, or every value is a Double. The array is not copied and must not be modified
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Column<T> of(Object[] values) {
+        if (values.length > 0 && allOf(values, Integer.class)) {
+            int[] ints = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ints[i] = (Integer) values[i];
+            }
+            return (Column<T>) new OfInt(ints);
+        }
+        if (values.length > 0 && allOf(values, Long.class)) {
+            long[] longs = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                longs[i] = (Long) values[i];
+            }
+            return (Column<T>) new OfLong(longs);
+        }
+        if (values.length > 0 && allOf(values, Double.class)) {
+            double[] doubles = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                doubles[i] = (Double) values[i];
+            }
+            return (Column<T>) new OfDouble(doubles);
+        }
+        return new OfObject<>(values);
+    }
+
+    private static boolean allOf(Object[] values, Class<?> type) {
+        for (Object value : values) {
+            if (value == null || value.getClass() != type) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A column of references
+     *
+     * @param <T> The type of values in the column
+     */
+    protected static final class OfObject<T> extends Column<T> {
+        private final Object[] values;
+
+        private OfObject(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) values[index];
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return false;
+        }
+
+        @Override
+        String kind() {
+            return "objects";
+        }
+    }
+
+    /**
+     * A column of ints, stored unboxed
+     */
+    protected static final class OfInt extends Column<Integer> {
+        private final int[] values;
+
+        private OfInt(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int foldLeftInt(int identity, IntBinaryFunction foldingFunction) {
+            int result = identity;
+            for (int value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public long foldLeftLong(long identity, LongBinaryFunction foldingFunction) {
+            long result = identity;
+            for (int value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public double foldLeftDouble(double identity, DoubleBinaryFunction foldingFunction) {
+            double result = identity;
+            for (int value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return true;
+        }
+
+        @Override
+        String kind() {
+            return "ints";
+        }
+    }
+
+    /**
+     * A column of longs, stored unboxed
+     */
+    protected static final class OfLong extends Column<Long> {
+        private final long[] values;
+
+        private OfLong(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public long foldLeftLong(long identity, LongBinaryFunction foldingFunction) {
+            long result = identity;
+            for (long value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public double foldLeftDouble(double identity, DoubleBinaryFunction foldingFunction) {
+            double result = identity;
+            for (long value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return true;
+        }
+
+        @Override
+        String kind() {
+            return "longs";
+        }
+    }
+
+    /**
+     * A column of doubles, stored unboxed
+     */
+    protected static final class OfDouble extends Column<Double> {
+        private final double[] values;
+
+        private OfDouble(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public double foldLeftDouble(double identity, DoubleBinaryFunction foldingFunction) {
+            double result = identity;
+            for (double value : values) {
+                result = foldingFunction.apply(result, value);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return true;
+        }
+
+        @Override
+        String kind() {
+            return "doubles";
+        }
+    }
+
+    private static final class ListView<T> extends AbstractList<T> implements RandomAccess {
+        private final Column<T> column;
+
+        private ListView(Column<T> column) {
+            this.column = column;
+        }
+
+        @Override
+        public T get(int index) {
+            return column.get(index);
+        }
+
+        @Override
+        public int size() {
+            return column.size();
+        }
+    }
+}
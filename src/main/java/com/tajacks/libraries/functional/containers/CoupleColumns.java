@@ -0,0 +1,141 @@
+package com.tajacks.libraries.functional.containers;
+
+import java.util.*;
+
+/**
+ * An immutable sequence of couples stored column by column: the first values of every couple in one
+ * {@link Column}, and the second values in another. No {@link Couple} is stored; couples are created only
+ * when accessed. Columns of Integers, Longs or Doubles are stored as primitive arrays, so a sequence of
+ * millions of numeric couples costs two arrays rather than millions of objects, and a scan of a single
+ * component reads memory sequentially. Example usage:
+ *
+ * <pre>
+ * CoupleColumns&lt;String, Integer&gt; scores = CoupleColumns.from(List.of(new Couple&lt;&gt;("a", 3), new Couple&lt;&gt;("b", 4)));
+ * int total = scores.second().foldLeftInt(0, Integer::sum); // 7, without boxing
+ * List&lt;Couple&lt;String, Integer&gt;&gt; couples = scores.asList(); // [Couple[_1=a, _2=3], Couple[_1=b, _2=4]]
+ * </pre>
+ *
+ * @param <A> The type of the first value of each couple
+ * @param <B> The type of the second value of each couple
+ */
+public final class CoupleColumns<A, B> {
+
+    private final Column<A> first;
+    private final Column<B> second;
+
+    private CoupleColumns(Column<A> first, Column<B> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Returns the columns of the given couples, in iteration order
+     *
+     * @param couples The couples to store
+     * @param <A>     The type of the first value of each couple
+     * @param <B>     The type of the second value of each couple
+     * @return The columns of the given couples
+     */
+    public static <A, B> CoupleColumns<A, B> from(Collection<Couple<A, B>> couples) {
+        Object[] firsts = new Object[couples.size()];
+        Object[] seconds = new Object[couples.size()];
+        int i = 0;
+        for (Couple<A, B> couple : couples) {
+            firsts[i] = couple._1();
+            seconds[i] = couple._2();
+            i++;
+        }
+        return new CoupleColumns<>(Column.of(firsts), Column.of(seconds));
+    }
+
+    /**
+     * Returns the columns of the couples formed by pairing the elements of the given lists by index.
+     * If the lists differ in size, the elements beyond the end of the shorter list are ignored
+     *
+     * @param firsts  The first values of the couples
+     * @param seconds The second values of the couples
+     * @param <A>     The type of the first value of each couple
+     * @param <B>     The type of the second value of each couple
+     * @return The columns of the couples formed from the given lists
+     * @throws NullPointerException if either list contains null, as couples hold non-null values
+     */
+    public static <A, B> CoupleColumns<A, B> zip(List<A> firsts, List<B> seconds) {
+        int size = Math.min(firsts.size(), seconds.size());
+        return new CoupleColumns<>(Column.of(copy(firsts, size)), Column.of(copy(seconds, size)));
+    }
+
+    /**
+     * Returns the number of couples
+     *
+     * @return The number of couples
+     */
+    public int size() {
+        return first.size();
+    }
+
+    /**
+     * Returns a new couple holding the values at the given index
+     *
+     * @param index The index of the couple to return
+     * @return The couple at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Couple<A, B> get(int index) {
+        return new Couple<>(first.get(index), second.get(index));
+    }
+
+    /**
+     * Returns the column of first values
+     *
+     * @return The column of first values
+     */
+    public Column<A> first() {
+        return first;
+    }
+
+    /**
+     * Returns the column of second values
+     *
+     * @return The column of second values
+     */
+    public Column<B> second() {
+        return second;
+    }
+
+    /**
+     * Returns an immutable, random access view of the couples as a list. A new couple is created each time
+     * an element is accessed
+     *
+     * @return An immutable list view of the couples
+     */
+    public List<Couple<A, B>> asList() {
+        return new ListView<>(this);
+    }
+
+    static Object[] copy(List<?> values, int size) {
+        Object[] result = new Object[size];
+        Iterator<?> iterator = values.iterator();
+        for (int i = 0; i < size; i++) {
+            result[i] = Objects.requireNonNull(iterator.next());
+        }
+        return result;
+    }
+
+    private static final class ListView<A, B> extends AbstractList<Couple<A, B>> implements RandomAccess {
+        private final CoupleColumns<A, B> columns;
+
+        private ListView(CoupleColumns<A, B> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Couple<A, B> get(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.IntBinaryFunction;
+import com.tajacks.libraries.functional.common.IntEffect;
+import java.util.*;
+
+/**
+ * An immutable range of consecutive ints. Elements are computed on demand rather than stored, making
+ * a range of any size a constant memory object. Iteration and folds operate on primitive ints and do
+ * not box. Example usage:
+ *
+ * <pre>
+ * IntRange range = IntRange.exclusive(0, 5); // 0, 1, 2, 3, 4
+ * int sum = range.foldLeft(0, Integer::sum);  // 10
+ * List&lt;Integer&gt; list = range.asList();     // a lazy view, [0, 1, 2, 3, 4]
+ * </pre>
+ */
+public final class IntRange implements Iterable<Integer> {
+
+    private static final IntRange EMPTY = new IntRange(0, 0);
+
+    private final int start;
+    private final int size;
+
+    private IntRange(int start, int size) {
+        this.start = start;
+        this.size = size;
+    }
+
+    /**
+     * Returns a range of ints from the start value to the end value - 1.
+     * If the end value is smaller or equal to the start value, the range is empty
+     *
+     * @param start The start of the range
+     * @param end   The end of the range, exclusive
+     * @return A range of ints from the start value to the end value - 1
+     * @throws IllegalArgumentException if the range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public static IntRange exclusive(int start, int end) {
+        return of(start, (long) end - start);
+    }
+
+    /**
+     * Returns a range of ints from the start value to the end value.
+     * If the end value is smaller than the start value, the range is empty
+     *
+     * @param start The start of the range
+     * @param end   The end of the range, inclusive
+     * @return A range of ints from the start value to the end value
+     * @throws IllegalArgumentException if the range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public static IntRange inclusive(int start, int end) {
+        return of(start, (long) end - start + 1);
+    }
+
+    private static IntRange of(int start, long size) {
+        if (size <= 0) {
+            return EMPTY;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range of " + size + " elements exceeds Integer.MAX_VALUE");
+        }
+        return new IntRange(start, (int) size);
+    }
+
+    /**
+     * Returns the number of elements in this range
+     *
+     * @return The number of elements in this range
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this range contains no elements
+     *
+     * @return True if this range is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the given index of this range
+     *
+     * @param index The index of the element to return
+     * @return The element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        return start + Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Indicates if the given value is an element of this range
+     *
+     * @param value The value to test for
+     * @return True if the value is an element of this range, false otherwise
+     */
+    public boolean contains(int value) {
+        long offset = (long) value - start;
+        return offset >= 0 && offset < size;
+    }
+
+    /**
+     * Folds this range starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @return The result of folding this range
+     */
+    public int foldLeft(int identity, IntBinaryFunction foldingFunction) {
+        int result = identity;
+        for (int i = 0; i < size; i++) {
+            result = foldingFunction.apply(result, start + i);
+        }
+        return result;
+    }
+
+    /**
+     * Applies an effect to each element of this range, in order
+     *
+     * @param effect The effect to apply to each element
+     */
+    public void forEachInt(IntEffect effect) {
+        for (int i = 0; i < size; i++) {
+            effect.apply(start + i);
+        }
+    }
+
+    /**
+     * Returns a new array containing the elements of this range
+     *
+     * @return A new array containing the elements of this range
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = start + i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an immutable, random access view of this range as a list. Elements are boxed as they are accessed
+     *
+     * @return An immutable list view of this range
+     */
+    public List<Integer> asList() {
+        return new ListView(this);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return start + index++;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IntRange other && size == other.size && (size == 0 || start == other.start);
+    }
+
+    @Override
+    public int hashCode() {
+        return size == 0 ? 0 : 31 * start + size;
+    }
+
+    @Override
+    public String toString() {
+        return size == 0 ? "IntRange[]" : "IntRange[" + start + ".." + (start + size - 1) + "]";
+    }
+
+    private static final class ListView extends AbstractList<Integer> implements RandomAccess {
+        private final IntRange range;
+
+        private ListView(IntRange range) {
+            this.range = range;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return range.get(index);
+        }
+
+        @Override
+        public int size() {
+            return range.size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer i && range.contains(i);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return contains(o) ? (Integer) o - range.start : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
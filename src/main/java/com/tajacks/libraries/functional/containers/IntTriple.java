@@ -0,0 +1,52 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.IntIntIntEffect;
+import com.tajacks.libraries.functional.common.IntIntIntFunction;
+
+/**
+ * Holds three primitive ints. Unlike a {@link Triple}, no value is boxed
+ * @param _1 The first value
+ * @param _2 The second value
+ * @param _3 The third value
+ */
+public record IntTriple(int _1, int _2, int _3) {
+
+    /**
+     * Returns a primitive triple holding the values of the given triple, unboxed
+     *
+     * @param triple The triple to unbox
+     * @return A primitive triple holding the same values
+     */
+    public static IntTriple from(Triple<Integer, Integer, Integer> triple) {
+        return new IntTriple(triple._1(), triple._2(), triple._3());
+    }
+
+    /**
+     * Returns a triple holding the values of this triple, boxed
+     *
+     * @return A triple holding the same values
+     */
+    public Triple<Integer, Integer, Integer> toTriple() {
+        return new Triple<>(_1, _2, _3);
+    }
+
+    /**
+     * Applies the given function against the values of this triple, without boxing them
+     *
+     * @param f   The function to apply against the first, second and third values
+     * @param <R> The type of element resulting from applying the function
+     * @return The result of applying the function
+     */
+    public <R> R apply(IntIntIntFunction<R> f) {
+        return f.apply(_1, _2, _3);
+    }
+
+    /**
+     * Applies the given effect on the values of this triple, without boxing them
+     *
+     * @param effect The effect to apply on the first, second and third values
+     */
+    public void forEach(IntIntIntEffect effect) {
+        effect.apply(_1, _2, _3);
+    }
+}
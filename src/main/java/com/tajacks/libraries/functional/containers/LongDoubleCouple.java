@@ -0,0 +1,51 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.LongDoubleEffect;
+import com.tajacks.libraries.functional.common.LongDoubleFunction;
+
+/**
+ * Holds a primitive long and a primitive double. Unlike a {@link Couple}, neither value is boxed
+ * @param _1 The first value
+ * @param _2 The second value
+ */
+public record LongDoubleCouple(long _1, double _2) {
+
+    /**
+     * Returns a primitive couple holding the values of the given couple, unboxed
+     *
+     * @param couple The couple to unbox
+     * @return A primitive couple holding the same values
+     */
+    public static LongDoubleCouple from(Couple<Long, Double> couple) {
+        return new LongDoubleCouple(couple._1(), couple._2());
+    }
+
+    /**
+     * Returns a couple holding the values of this couple, boxed
+     *
+     * @return A couple holding the same values
+     */
+    public Couple<Long, Double> toCouple() {
+        return new Couple<>(_1, _2);
+    }
+
+    /**
+     * Applies the given function against the values of this couple, without boxing them
+     *
+     * @param f   The function to apply against the first and second values
+     * @param <R> The type of element resulting from applying the function
+     * @return The result of applying the function
+     */
+    public <R> R apply(LongDoubleFunction<R> f) {
+        return f.apply(_1, _2);
+    }
+
+    /**
+     * Applies the given effect on the values of this couple, without boxing them
+     *
+     * @param effect The effect to apply on the first and second values
+     */
+    public void forEach(LongDoubleEffect effect) {
+        effect.apply(_1, _2);
+    }
+}
@@ -0,0 +1,239 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.LongBinaryFunction;
+import com.tajacks.libraries.functional.common.LongEffect;
+import java.util.*;
+
+/**
+ * An immutable range of consecutive longs. Elements are computed on demand rather than stored, making
+ * a range of any size a constant memory object. Iteration and folds operate on primitive longs and do
+ * not box. Example usage:
+ *
+ * <pre>
+ * LongRange range = LongRange.exclusive(0L, 5L); // 0, 1, 2, 3, 4
+ * long sum = range.foldLeft(0L, Long::sum);       // 10
+ * List&lt;Long&gt; list = range.asList();            // a lazy view, [0, 1, 2, 3, 4]
+ * </pre>
+ */
+public final class LongRange implements Iterable<Long> {
+
+    private static final LongRange EMPTY = new LongRange(0L, 0L);
+
+    private final long start;
+    private final long size;
+
+    private LongRange(long start, long size) {
+        this.start = start;
+        this.size = size;
+    }
+
+    /**
+     * Returns a range of longs from the start value to the end value - 1.
+     * If the end value is smaller or equal to the start value, the range is empty
+     *
+     * @param start The start of the range
+     * @param end   The end of the range, exclusive
+     * @return A range of longs from the start value to the end value - 1
+     * @throws IllegalArgumentException if the range contains more than {@link Long#MAX_VALUE} elements
+     */
+    public static LongRange exclusive(long start, long end) {
+        if (end <= start) {
+            return EMPTY;
+        }
+        return of(start, end - start);
+    }
+
+    /**
+     * Returns a range of longs from the start value to the end value.
+     * If the end value is smaller than the start value, the range is empty
+     *
+     * @param start The start of the range
+     * @param end   The end of the range, inclusive
+     * @return A range of longs from the start value to the end value
+     * @throws IllegalArgumentException if the range contains more than {@link Long#MAX_VALUE} elements
+     */
+    public static LongRange inclusive(long start, long end) {
+        if (end < start) {
+            return EMPTY;
+        }
+        return of(start, end - start + 1);
+    }
+
+    private static LongRange of(long start, long size) {
+        // Overflow of end - start is the only way to arrive at a non-positive size here
+        if (size <= 0) {
+            throw new IllegalArgumentException("Range exceeds Long.MAX_VALUE elements");
+        }
+        return new LongRange(start, size);
+    }
+
+    /**
+     * Returns the number of elements in this range
+     *
+     * @return The number of elements in this range
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this range contains no elements
+     *
+     * @return True if this range is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the given index of this range
+     *
+     * @param index The index of the element to return
+     * @return The element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long get(long index) {
+        return start + Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Indicates if the given value is an element of this range
+     *
+     * @param value The value to test for
+     * @return True if the value is an element of this range, false otherwise
+     */
+    public boolean contains(long value) {
+        return value >= start && Long.compareUnsigned(value - start, size) < 0;
+    }
+
+    /**
+     * Folds this range starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @return The result of folding this range
+     */
+    public long foldLeft(long identity, LongBinaryFunction foldingFunction) {
+        long result = identity;
+        for (long i = 0; i < size; i++) {
+            result = foldingFunction.apply(result, start + i);
+        }
+        return result;
+    }
+
+    /**
+     * Applies an effect to each element of this range, in order
+     *
+     * @param effect The effect to apply to each element
+     */
+    public void forEachLong(LongEffect effect) {
+        for (long i = 0; i < size; i++) {
+            effect.apply(start + i);
+        }
+    }
+
+    /**
+     * Returns a new array containing the elements of this range
+     *
+     * @return A new array containing the elements of this range
+     * @throws IllegalStateException if this range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public long[] toArray() {
+        long[] result = new long[intSize()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = start + i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an immutable, random access view of this range as a list. Elements are boxed as they are accessed
+     *
+     * @return An immutable list view of this range
+     * @throws IllegalStateException if this range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public List<Long> asList() {
+        return new ListView(this, intSize());
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return start + index++;
+            }
+        };
+    }
+
+    private int intSize() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Range of " + size + " elements exceeds Integer.MAX_VALUE");
+        }
+        return (int) size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LongRange other && size == other.size && (size == 0 || start == other.start);
+    }
+
+    @Override
+    public int hashCode() {
+        return size == 0 ? 0 : 31 * Long.hashCode(start) + Long.hashCode(size);
+    }
+
+    @Override
+    public String toString() {
+        return size == 0 ? "LongRange[]" : "LongRange[" + start + ".." + (start + size - 1) + "]";
+    }
+
+    private static final class ListView extends AbstractList<Long> implements RandomAccess {
+        private final LongRange range;
+        private final int size;
+
+        private ListView(LongRange range, int size) {
+            this.range = range;
+            this.size = size;
+        }
+
+        @Override
+        public Long get(int index) {
+            return range.get(Objects.checkIndex(index, size));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long l && range.contains(l);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return contains(o) ? (int) ((Long) o - range.start) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
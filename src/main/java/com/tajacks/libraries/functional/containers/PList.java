@@ -0,0 +1,342 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.*;
+
+/**
+ * An immutable, persistent singly linked list. Prepending an element, as well as retrieving the head
+ * or tail of a list, are constant time operations which share the structure of the original list
+ * rather than copying it. Example usage:
+ *
+ * <pre>
+ * PList&lt;Integer&gt; list = PList.of(2, 3);
+ * PList&lt;Integer&gt; prepended = list.prepend(1); // [1, 2, 3], sharing [2, 3] with list
+ * list == prepended.tail(); // true
+ * </pre>
+ * <p>
+ * All traversals (folds, map, reverse, equality) are iterative and therefore safe for lists of any length.
+ *
+ * @param <T> The type of elements in the list
+ */
+public abstract sealed class PList<T> implements Iterable<T> permits PList.Nil, PList.Cons {
+
+    @SuppressWarnings("rawtypes")
+    private static final PList NIL = new Nil();
+
+    /**
+     * Returns the first element of this list
+     *
+     * @return The first element of this list
+     * @throws IllegalStateException if this list is empty
+     */
+    public abstract T head();
+
+    /**
+     * Returns the list of all elements following the head of this list. No elements are copied
+     *
+     * @return The list of elements following the head of this list
+     * @throws IllegalStateException if this list is empty
+     */
+    public abstract PList<T> tail();
+
+    /**
+     * Indicates if this list contains no elements
+     *
+     * @return True if this list is empty, false otherwise
+     */
+    public abstract boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this list. This is a constant time operation
+     *
+     * @return The number of elements in this list
+     */
+    public abstract int length();
+
+    private PList() {
+        // Subclasses should only be instantiated via static factories
+    }
+
+    /**
+     * Returns the empty list
+     *
+     * @param <T> The type of elements in the list
+     * @return The empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PList<T> empty() {
+        return NIL;
+    }
+
+    /**
+     * Returns a list containing the given elements in the order they are given
+     *
+     * @param ts  The elements to create the list from
+     * @param <T> The type of elements in the list
+     * @return A list containing the given elements
+     */
+    @SafeVarargs
+    public static <T> PList<T> of(T... ts) {
+        PList<T> result = empty();
+        for (int i = ts.length - 1; i >= 0; i--) {
+            result = result.prepend(ts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list containing the elements of the given iterable in iteration order
+     *
+     * @param ts  The elements to create the list from
+     * @param <T> The type of elements in the list
+     * @return A list containing the elements of the given iterable
+     */
+    public static <T> PList<T> from(Iterable<T> ts) {
+        if (ts instanceof PList<T> pList) {
+            return pList;
+        }
+        List<T> source = ts instanceof List<T> list ? list : copy(ts);
+        PList<T> result = empty();
+        ListIterator<T> iterator = source.listIterator(source.size());
+        while (iterator.hasPrevious()) {
+            result = result.prepend(iterator.previous());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list with the given element in the first position, followed by the elements of this list.
+     * This is a constant time operation
+     *
+     * @param t The element to place in the first position
+     * @return A list containing the given element followed by all elements of this list
+     */
+    public PList<T> prepend(T t) {
+        return new Cons<>(t, this);
+    }
+
+    /**
+     * Returns a list containing the elements of this list followed by the given element.
+     * As with any singly linked list, this copies every element and is a linear time operation
+     *
+     * @param t The element to place in the last position
+     * @return A list containing all elements of this list followed by the given element
+     */
+    public PList<T> append(T t) {
+        return reverse().prepend(t).reverse();
+    }
+
+    /**
+     * Retrieves the optional first element in this list. If this list is empty, returns an empty optional
+     *
+     * @return An Optional containing either the first element in this list, or, nothing if this list is empty
+     */
+    public Optional<T> headOption() {
+        return isEmpty() ? Optional.empty() : Optional.ofNullable(head());
+    }
+
+    /**
+     * Folds this list starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements in the list
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @param <U>             The type of the resulting value
+     * @return The result of folding this list
+     */
+    public <U> U foldLeft(U identity, Function<U, Function<T, U>> foldingFunction) {
+        U result = identity;
+        for (PList<T> current = this; !current.isEmpty(); current = current.tail()) {
+            result = foldingFunction.apply(result).apply(current.head());
+        }
+        return result;
+    }
+
+    /**
+     * Folds this list starting at the last element by applying the given folding function
+     * against the identity and all previous elements in the list
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to each element and the accumulated value
+     * @param <U>             The type of the resulting value
+     * @return The result of folding this list
+     */
+    public <U> U foldRight(U identity, Function<T, Function<U, U>> foldingFunction) {
+        return reverse().foldLeft(identity, acc -> t -> foldingFunction.apply(t).apply(acc));
+    }
+
+    /**
+     * Returns a list containing the elements of this list in reverse order
+     *
+     * @return A list containing the elements of this list in reverse order
+     */
+    public PList<T> reverse() {
+        return foldLeft(empty(), acc -> acc::prepend);
+    }
+
+    /**
+     * Returns a list containing the results of applying the given mapping function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return A list containing the results of applying the mapping function to each element
+     */
+    public <U> PList<U> map(Function<T, U> toApply) {
+        return reverse().foldLeft(empty(), acc -> t -> acc.prepend(toApply.apply(t)));
+    }
+
+    /**
+     * Returns an immutable {@link List} containing the elements of this list
+     *
+     * @return An immutable list containing the elements of this list
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(length());
+        for (T t : this) {
+            result.add(t);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private PList<T> current = PList.this;
+
+            @Override
+            public boolean hasNext() {
+                return !current.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (current.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                T head = current.head();
+                current = current.tail();
+                return head;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PList<?> other) || other.length() != length()) {
+            return false;
+        }
+        PList<?> left = this;
+        PList<?> right = other;
+        while (!left.isEmpty()) {
+            if (left == right) {
+                return true;
+            }
+            if (!Objects.equals(left.head(), right.head())) {
+                return false;
+            }
+            left = left.tail();
+            right = right.tail();
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return foldLeft(1, acc -> t -> 31 * acc + Objects.hashCode(t));
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (T t : this) {
+            joiner.add(String.valueOf(t));
+        }
+        return joiner.toString();
+    }
+
+    private static <T> List<T> copy(Iterable<T> ts) {
+        List<T> result = new ArrayList<>();
+        ts.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Represents the empty list
+     *
+     * @param <T> The type of elements in the list
+     */
+    protected static final class Nil<T> extends PList<T> {
+
+        private Nil() {}
+
+        /**
+         * It is illegal for the head method to be called on an empty list
+         *
+         * @return Nothing is returned from this implementation
+         */
+        @Override
+        public T head() {
+            throw new IllegalStateException("head called on an empty list");
+        }
+
+        /**
+         * It is illegal for the tail method to be called on an empty list
+         *
+         * @return Nothing is returned from this implementation
+         */
+        @Override
+        public PList<T> tail() {
+            throw new IllegalStateException("tail called on an empty list");
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public int length() {
+            return 0;
+        }
+    }
+
+    /**
+     * Represents a list made up of a head element and a tail list
+     *
+     * @param <T> The type of elements in the list
+     */
+    protected static final class Cons<T> extends PList<T> {
+        private final T head;
+        private final PList<T> tail;
+        private final int length;
+
+        private Cons(T head, PList<T> tail) {
+            this.head = head;
+            this.tail = tail;
+            this.length = tail.length() + 1;
+        }
+
+        @Override
+        public T head() {
+            return head;
+        }
+
+        @Override
+        public PList<T> tail() {
+            return tail;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.tajacks.libraries.functional.containers;
+
+import java.util.*;
+
+/**
+ * An immutable, persistent indexed sequence backed by a 32-way branching trie with a tail buffer.
+ * Appending, updating and random access are effectively constant time (O(log32 n)); modified
+ * vectors share all untouched nodes with the vector they were derived from. Example usage:
+ *
+ * <pre>
+ * PVector&lt;String&gt; vector = PVector.of("a", "b");
+ * PVector&lt;String&gt; appended = vector.append("c");    // [a, b, c]
+ * PVector&lt;String&gt; updated = appended.update(0, "z"); // [z, b, c], appended is unchanged
+ * </pre>
+ * <p>
+ * For bulk construction, a {@link Builder} mutates nodes it owns in place rather than copying a path
+ * for every element.
+ * <p>
+ * Implements {@link List} so that it may be used wherever a list is accepted. As the vector is immutable,
+ * all mutating methods of {@link List} throw {@link UnsupportedOperationException}.
+ *
+ * @param <T> The type of elements in the vector
+ */
+public final class PVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    @SuppressWarnings("rawtypes")
+    private static final PVector EMPTY = new PVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector
+     *
+     * @param <T> The type of elements in the vector
+     * @return The empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PVector<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a vector containing the given elements in the order they are given
+     *
+     * @param ts  The elements to create the vector from
+     * @param <T> The type of elements in the vector
+     * @return A vector containing the given elements
+     */
+    @SafeVarargs
+    public static <T> PVector<T> of(T... ts) {
+        Builder<T> builder = builder();
+        for (T t : ts) {
+            builder.add(t);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a vector containing the elements of the given iterable in iteration order
+     *
+     * @param ts  The elements to create the vector from
+     * @param <T> The type of elements in the vector
+     * @return A vector containing the elements of the given iterable
+     */
+    public static <T> PVector<T> from(Iterable<T> ts) {
+        if (ts instanceof PVector<T> vector) {
+            return vector;
+        }
+        return PVector.<T>builder().addAll(ts).build();
+    }
+
+    /**
+     * Returns a new builder which creates a vector from the empty vector
+     *
+     * @param <T> The type of elements in the vector
+     * @return A builder for a new vector
+     */
+    public static <T> Builder<T> builder() {
+        return PVector.<T>empty().toBuilder();
+    }
+
+    /**
+     * Returns a new builder initialized with the elements of this vector. This vector is not affected
+     * by any changes made through the builder
+     *
+     * @return A builder initialized with the elements of this vector
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) arrayFor(Objects.checkIndex(index, size))[index & MASK];
+    }
+
+    /**
+     * Returns a vector containing all elements of this vector followed by the given element
+     *
+     * @param t The element to place in the last position
+     * @return A vector containing all elements of this vector followed by the given element
+     */
+    public PVector<T> append(T t) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = t;
+            return new PVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode);
+        }
+        return new PVector<>(size + 1, newShift, newRoot, new Object[] {t});
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced with the given element
+     *
+     * @param index The index of the element to replace
+     * @param t     The element to place at the given index
+     * @return A vector with the element at the given index replaced
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PVector<T> update(int index, T t) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = t;
+            return new PVector<>(size, shift, root, newTail);
+        }
+        return new PVector<>(size, shift, assoc(shift, root, index, t), tail);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            private Object[] leaf = size > 0 ? arrayFor(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (index > 0 && (index & MASK) == 0) {
+                    leaf = arrayFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = new Node(null, parent.array.clone());
+        Node toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            toInsert = child != null
+                    ? pushTail(size, level - BITS, child, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+        result.array[subIndex] = toInsert;
+        return result;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(edit, new Object[WIDTH]);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object value) {
+        Node result = new Node(null, node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, value);
+        }
+        return result;
+    }
+
+    /**
+     * A node of the trie. Nodes created by a {@link Builder} are tagged with that builder's edit token,
+     * which permits the builder, and only the builder, to mutate them in place
+     */
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * A transient, batch-mutable view of a vector used for bulk construction. Nodes created by the builder
+     * are mutated in place rather than copied, making bulk appends as cheap as appending to an array.
+     * <p>
+     * A builder is not thread safe and may not be used after {@link #build()} has been called.
+     *
+     * @param <T> The type of elements in the vector
+     */
+    public static final class Builder<T> {
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PVector<T> vector) {
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = new Node(edit, vector.root.array.clone());
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Appends the given element to the vector being built
+         *
+         * @param t The element to append
+         * @return This builder
+         * @throws IllegalStateException if {@link #build()} has already been called
+         */
+        public Builder<T> add(T t) {
+            ensureEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = t;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = t;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends each element of the given iterable to the vector being built
+         *
+         * @param ts The elements to append
+         * @return This builder
+         * @throws IllegalStateException if {@link #build()} has already been called
+         */
+        public Builder<T> addAll(Iterable<? extends T> ts) {
+            for (T t : ts) {
+                add(t);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of elements added to this builder so far
+         *
+         * @return The number of elements in the vector being built
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the persistent vector containing all elements added to this builder. The builder
+         * may not be used afterwards
+         *
+         * @return The persistent vector containing all elements added to this builder
+         * @throws IllegalStateException if {@link #build()} has already been called
+         */
+        public PVector<T> build() {
+            ensureEditable();
+            edit = null;
+            return new PVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder used after build");
+            }
+        }
+
+        private Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node result = editable(parent);
+            Node toInsert;
+            if (level == BITS) {
+                toInsert = tailNode;
+            } else {
+                Node child = (Node) result.array[subIndex];
+                toInsert =
+                        child != null ? pushTail(level - BITS, child, tailNode) : newPath(edit, level - BITS, tailNode);
+            }
+            result.array[subIndex] = toInsert;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.tajacks.libraries.functional.containers;
+
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.Supplier;
+import java.util.*;
+
+/**
+ * An immutable, lazy and memoizing sequence of elements which may be infinite. No element is computed until
+ * it is demanded, and each element is computed at most once no matter how many times it is traversed. Example usage:
+ *
+ * <pre>
+ * // Only computes the elements up to and including the first match
+ * Optional&lt;Integer&gt; firstLargeSquare = Stream.iterate(1, i -> i + 1)
+ *         .map(i -> i * i)
+ *         .find(i -> i > 1000);
+ * </pre>
+ * <p>
+ * All operations which may traverse many elements at once (folds, filter, dropWhile, find) are iterative
+ * and therefore safe for streams of any length.
+ *
+ * @param <T> The type of elements in the stream
+ */
+public final class Stream<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final Stream EMPTY = new Stream<>(Empty::new);
+
+    private final Supplier<Step<T>> step;
+
+    private Stream(Supplier<Step<T>> step) {
+        this.step = step.memoize();
+    }
+
+    /**
+     * Returns the empty stream
+     *
+     * @param <T> The type of elements in the stream
+     * @return The empty stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a stream containing the given head followed by the lazily supplied tail
+     *
+     * @param head The first element of the stream
+     * @param tail A supplier of the remainder of the stream, evaluated only when demanded
+     * @param <T>  The type of elements in the stream
+     * @return A stream containing the given head followed by the supplied tail
+     */
+    public static <T> Stream<T> cons(T head, Supplier<Stream<T>> tail) {
+        return new Stream<>(() -> new Cons<>(head, defer(tail)));
+    }
+
+    /**
+     * Returns a finite stream containing the given elements
+     *
+     * @param ts  The elements of the stream
+     * @param <T> The type of elements in the stream
+     * @return A stream containing the given elements
+     */
+    @SafeVarargs
+    public static <T> Stream<T> of(T... ts) {
+        List<T> elements = new ArrayList<>(ts.length);
+        for (T t : ts) {
+            elements.add(Objects.requireNonNull(t));
+        }
+        return unfold(
+                0, i -> i < elements.size() ? Optional.of(new Couple<>(elements.get(i), i + 1)) : Optional.empty());
+    }
+
+    /**
+     * Returns an infinite stream made up of the seed, followed by the result of applying the function
+     * to the seed, followed by the result of applying the function to that result, and so on
+     *
+     * @param seed The first element of the stream
+     * @param f    The function used to compute each element from the previous element
+     * @param <T>  The type of elements in the stream
+     * @return An infinite stream of repeated applications of the function to the seed
+     */
+    public static <T> Stream<T> iterate(T seed, Function<T, T> f) {
+        return cons(seed, () -> iterate(f.apply(seed), f));
+    }
+
+    /**
+     * Returns a stream produced by repeatedly applying the unfolding function to a state, starting with the seed.
+     * Each application produces either an element and the next state, or nothing, ending the stream
+     *
+     * @param seed     The initial state
+     * @param unfolder A function producing the next element and state from a state, or empty to end the stream
+     * @param <S>      The type of the state
+     * @param <T>      The type of elements in the stream
+     * @return A stream of the elements produced by unfolding the seed
+     */
+    public static <S, T> Stream<T> unfold(S seed, Function<S, Optional<Couple<T, S>>> unfolder) {
+        return new Stream<>(() -> unfolder.apply(seed)
+                .<Step<T>>map(next -> new Cons<>(next._1(), unfold(next._2(), unfolder)))
+                .orElseGet(Empty::new));
+    }
+
+    /**
+     * Indicates if this stream contains no elements. Computes the first element, if any
+     *
+     * @return True if this stream is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return step.get() instanceof Empty;
+    }
+
+    /**
+     * Returns the first element of this stream
+     *
+     * @return The first element of this stream
+     * @throws IllegalStateException if this stream is empty
+     */
+    public T head() {
+        return cons("head").head();
+    }
+
+    /**
+     * Returns the stream of all elements following the head of this stream
+     *
+     * @return The stream of elements following the head of this stream
+     * @throws IllegalStateException if this stream is empty
+     */
+    public Stream<T> tail() {
+        return cons("tail").tail();
+    }
+
+    /**
+     * Retrieves the optional first element in this stream. If this stream is empty, returns an empty optional
+     *
+     * @return An Optional containing either the first element in this stream, or, nothing if this stream is empty
+     */
+    public Optional<T> headOption() {
+        return step.get() instanceof Cons<T> cons ? Optional.ofNullable(cons.head()) : Optional.empty();
+    }
+
+    /**
+     * Returns a lazy stream containing the results of applying the given mapping function to each element
+     *
+     * @param toApply The mapping function to apply to each element
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return A stream of the results of applying the mapping function to each element
+     */
+    public <U> Stream<U> map(Function<T, U> toApply) {
+        return new Stream<>(() -> step.get() instanceof Cons<T> cons
+                ? new Cons<>(toApply.apply(cons.head()), cons.tail().map(toApply))
+                : new Empty<>());
+    }
+
+    /**
+     * Returns a lazy stream containing only the elements matching the given predicate
+     *
+     * @param predicate The predicate elements must match to be retained
+     * @return A stream of the elements matching the predicate
+     */
+    public Stream<T> filter(Function<T, Boolean> predicate) {
+        return new Stream<>(() -> {
+            Stream<T> current = this.dropWhile(t -> !predicate.apply(t));
+            return current.step.get() instanceof Cons<T> cons
+                    ? new Cons<>(cons.head(), cons.tail().filter(predicate))
+                    : new Empty<>();
+        });
+    }
+
+    /**
+     * Returns a lazy stream containing the longest prefix of this stream whose elements match the given predicate
+     *
+     * @param predicate The predicate elements must match to be retained
+     * @return A stream of the leading elements matching the predicate
+     */
+    public Stream<T> takeWhile(Function<T, Boolean> predicate) {
+        return new Stream<>(() -> step.get() instanceof Cons<T> cons && predicate.apply(cons.head())
+                ? new Cons<>(cons.head(), cons.tail().takeWhile(predicate))
+                : new Empty<>());
+    }
+
+    /**
+     * Returns a lazy stream containing the elements remaining after the longest prefix of elements matching the
+     * given predicate is dropped
+     *
+     * @param predicate The predicate leading elements must match to be dropped
+     * @return A stream of the elements following the leading elements matching the predicate
+     */
+    public Stream<T> dropWhile(Function<T, Boolean> predicate) {
+        return new Stream<>(() -> {
+            Stream<T> current = this;
+            while (current.step.get() instanceof Cons<T> cons && predicate.apply(cons.head())) {
+                current = cons.tail();
+            }
+            return current.step.get();
+        });
+    }
+
+    /**
+     * Returns a lazy stream containing at most the first n elements of this stream
+     *
+     * @param n The maximum number of elements to retain
+     * @return A stream of at most the first n elements of this stream
+     */
+    public Stream<T> take(int n) {
+        if (n <= 0) {
+            return empty();
+        }
+        return new Stream<>(() -> step.get() instanceof Cons<T> cons
+                ? new Cons<>(cons.head(), cons.tail().take(n - 1))
+                : new Empty<>());
+    }
+
+    /**
+     * Returns a lazy stream containing all but the first n elements of this stream
+     *
+     * @param n The number of elements to drop
+     * @return A stream of the elements following the first n elements of this stream
+     */
+    public Stream<T> drop(int n) {
+        return new Stream<>(() -> {
+            Stream<T> current = this;
+            for (int i = 0; i < n && current.step.get() instanceof Cons<T> cons; i++) {
+                current = cons.tail();
+            }
+            return current.step.get();
+        });
+    }
+
+    /**
+     * Returns the first element matching the given predicate. Only the elements up to and including
+     * the first match are computed
+     *
+     * @param predicate The predicate to match
+     * @return An Optional containing the first matching element, or, nothing if no element matches
+     */
+    public Optional<T> find(Function<T, Boolean> predicate) {
+        return filter(predicate).headOption();
+    }
+
+    /**
+     * Folds this stream starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements. Never returns for an infinite stream
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @param <U>             The type of the resulting value
+     * @return The result of folding this stream
+     */
+    public <U> U foldLeft(U identity, Function<U, Function<T, U>> foldingFunction) {
+        U result = identity;
+        Stream<T> current = this;
+        while (current.step.get() instanceof Cons<T> cons) {
+            result = foldingFunction.apply(result).apply(cons.head());
+            current = cons.tail();
+        }
+        return result;
+    }
+
+    /**
+     * Returns an immutable list containing all elements of this stream. Never returns for an infinite stream
+     *
+     * @return An immutable list containing all elements of this stream
+     */
+    public List<T> toList() {
+        List<T> result = foldLeft(new ArrayList<>(), list -> t -> {
+            list.add(t);
+            return list;
+        });
+        return Collections.unmodifiableList(result);
+    }
+
+    private Cons<T> cons(String operation) {
+        if (step.get() instanceof Cons<T> cons) {
+            return cons;
+        }
+        throw new IllegalStateException(operation + " called on an empty stream");
+    }
+
+    private static <T> Stream<T> defer(Supplier<Stream<T>> stream) {
+        return new Stream<>(() -> stream.get().step.get());
+    }
+
+    private sealed interface Step<T> permits Empty, Cons {}
+
+    private record Empty<T>() implements Step<T> {}
+
+    private record Cons<T>(T head, Stream<T> tail) implements Step<T> {}
+}
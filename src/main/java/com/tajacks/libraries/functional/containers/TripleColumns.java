@@ -0,0 +1,144 @@
+package com.tajacks.libraries.functional.containers;
+
+import java.util.*;
+
+/**
+ * An immutable sequence of triples stored column by column, one {@link Column} per component. No {@link Triple}
+ * is stored; triples are created only when accessed. Columns of Integers, Longs or Doubles are stored as
+ * primitive arrays. See {@link CoupleColumns} for an example of use
+ *
+ * @param <A> The type of the first value of each triple
+ * @param <B> The type of the second value of each triple
+ * @param <C> The type of the third value of each triple
+ */
+public final class TripleColumns<A, B, C> {
+
+    private final Column<A> first;
+    private final Column<B> second;
+    private final Column<C> third;
+
+    private TripleColumns(Column<A> first, Column<B> second, Column<C> third) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * Returns the columns of the given triples, in iteration order
+     *
+     * @param triples The triples to store
+     * @param <A>     The type of the first value of each triple
+     * @param <B>     The type of the second value of each triple
+     * @param <C>     The type of the third value of each triple
+     * @return The columns of the given triples
+     */
+    public static <A, B, C> TripleColumns<A, B, C> from(Collection<Triple<A, B, C>> triples) {
+        Object[] firsts = new Object[triples.size()];
+        Object[] seconds = new Object[triples.size()];
+        Object[] thirds = new Object[triples.size()];
+        int i = 0;
+        for (Triple<A, B, C> triple : triples) {
+            firsts[i] = triple._1();
+            seconds[i] = triple._2();
+            thirds[i] = triple._3();
+            i++;
+        }
+        return new TripleColumns<>(Column.of(firsts), Column.of(seconds), Column.of(thirds));
+    }
+
+    /**
+     * Returns the columns of the triples formed by combining the elements of the given lists by index.
+     * If the lists differ in size, the elements beyond the end of the shortest list are ignored
+     *
+     * @param firsts  The first values of the triples
+     * @param seconds The second values of the triples
+     * @param thirds  The third values of the triples
+     * @param <A>     The type of the first value of each triple
+     * @param <B>     The type of the second value of each triple
+     * @param <C>     The type of the third value of each triple
+     * @return The columns of the triples formed from the given lists
+     * @throws NullPointerException if any list contains null, as triples hold non-null values
+     */
+    public static <A, B, C> TripleColumns<A, B, C> zip(List<A> firsts, List<B> seconds, List<C> thirds) {
+        int size = Math.min(firsts.size(), Math.min(seconds.size(), thirds.size()));
+        return new TripleColumns<>(
+                Column.of(CoupleColumns.copy(firsts, size)),
+                Column.of(CoupleColumns.copy(seconds, size)),
+                Column.of(CoupleColumns.copy(thirds, size)));
+    }
+
+    /**
+     * Returns the number of triples
+     *
+     * @return The number of triples
+     */
+    public int size() {
+        return first.size();
+    }
+
+    /**
+     * Returns a new triple holding the values at the given index
+     *
+     * @param index The index of the triple to return
+     * @return The triple at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Triple<A, B, C> get(int index) {
+        return new Triple<>(first.get(index), second.get(index), third.get(index));
+    }
+
+    /**
+     * Returns the column of first values
+     *
+     * @return The column of first values
+     */
+    public Column<A> first() {
+        return first;
+    }
+
+    /**
+     * Returns the column of second values
+     *
+     * @return The column of second values
+     */
+    public Column<B> second() {
+        return second;
+    }
+
+    /**
+     * Returns the column of third values
+     *
+     * @return The column of third values
+     */
+    public Column<C> third() {
+        return third;
+    }
+
+    /**
+     * Returns an immutable, random access view of the triples as a list. A new triple is created each time
+     * an element is accessed
+     *
+     * @return An immutable list view of the triples
+     */
+    public List<Triple<A, B, C>> asList() {
+        return new ListView<>(this);
+    }
+
+    private static final class ListView<A, B, C> extends AbstractList<Triple<A, B, C>> implements RandomAccess {
+        private final TripleColumns<A, B, C> columns;
+
+        private ListView(TripleColumns<A, B, C> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Triple<A, B, C> get(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.tajacks.libraries.functional.fold;
+
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.Supplier;
+import com.tajacks.libraries.functional.containers.Couple;
+import com.tajacks.libraries.functional.containers.Triple;
+import java.util.Objects;
+
+/**
+ * An immutable description of an incremental, mergeable aggregation. A fold creates a new state, steps it
+ * with each element, merges two states computed over separate partitions, and finishes a state into a result.
+ * Because a state may be fed elements as they arrive and finished at any time, a fold can aggregate a stream
+ * which arrives in pieces, and because states merge, partitions can be aggregated independently. Example usage:
+ *
+ * <pre>
+ * Fold&lt;Double, ?, Couple&lt;Long, Double&gt;&gt; countAndMean = Fold.zip(Folds.count(), Folds.mean(x -&gt; x));
+ * countAndMean.apply(List.of(1.0, 2.0, 6.0)); // Couple[_1=3, _2=3.0], in a single pass
+ *
+ * RunningFold&lt;Double, ?, Double&gt; running = Folds.&lt;Double&gt;mean(x -&gt; x).start();
+ * running.step(1.0).step(2.0);
+ * running.current(); // 1.5
+ * </pre>
+ * <p>
+ * A state may be mutable. The step and merge functions may modify the state they are given and return it,
+ * and must not modify the right hand state of a merge. The finishing function must not modify the state, so
+ * that a running result may be computed at any time.
+ *
+ * @param <T> The type of elements folded
+ * @param <S> The type of the intermediate state
+ * @param <R> The type of the result
+ */
+public final class Fold<T, S, R> {
+
+    private final Supplier<S> initial;
+    private final Function<S, Function<T, S>> step;
+    private final Function<S, Function<S, S>> merge;
+    private final Function<S, R> finish;
+
+    private Fold(
+            Supplier<S> initial,
+            Function<S, Function<T, S>> step,
+            Function<S, Function<S, S>> merge,
+            Function<S, R> finish) {
+        this.initial = Objects.requireNonNull(initial);
+        this.step = Objects.requireNonNull(step);
+        this.merge = Objects.requireNonNull(merge);
+        this.finish = Objects.requireNonNull(finish);
+    }
+
+    /**
+     * Returns a fold made up of the given functions
+     *
+     * @param initial A supplier of a new, empty state
+     * @param step    A function folding an element into a state
+     * @param merge   An associative function combining the states of two partitions, the left partition first
+     * @param finish  A function computing the result of a state, without modifying it
+     * @param <T>     The type of elements folded
+     * @param <S>     The type of the intermediate state
+     * @param <R>     The type of the result
+     * @return A fold made up of the given functions
+     */
+    public static <T, S, R> Fold<T, S, R> of(
+            Supplier<S> initial,
+            Function<S, Function<T, S>> step,
+            Function<S, Function<S, S>> merge,
+            Function<S, R> finish) {
+        return new Fold<>(initial, step, merge, finish);
+    }
+
+    /**
+     * Returns a fold running both given folds over the same elements in a single pass. When both folds step or
+     * merge their states in place, as the built-in {@link Folds} do, the couple of states is reused rather than
+     * recreated for every element. As a {@link Couple} holds no nulls, neither fold may have a null state or result
+     *
+     * @param first  The first fold
+     * @param second The second fold
+     * @param <T>    The type of elements folded
+     * @param <S1>   The type of the state of the first fold
+     * @param <S2>   The type of the state of the second fold
+     * @param <R1>   The type of the result of the first fold
+     * @param <R2>   The type of the result of the second fold
+     * @return A fold whose result is the couple of the results of the given folds. Stepping, merging or finishing
+     *         it throws {@link NullPointerException} should either fold produce a null state or result
+     */
+    public static <T, S1, S2, R1, R2> Fold<T, Couple<S1, S2>, Couple<R1, R2>> zip(
+            Fold<T, S1, R1> first, Fold<T, S2, R2> second) {
+        return new Fold<>(
+                () -> new Couple<>(first.initial(), second.initial()),
+                s -> t -> couple(s, first.step(s._1(), t), second.step(s._2(), t)),
+                l -> r -> couple(l, first.merge(l._1(), r._1()), second.merge(l._2(), r._2())),
+                s -> new Couple<>(first.finish(s._1()), second.finish(s._2())));
+    }
+
+    /**
+     * Returns a fold running the three given folds over the same elements in a single pass. When every fold steps
+     * or merges its state in place, as the built-in {@link Folds} do, the triple of states is reused rather than
+     * recreated for every element. As a {@link Triple} holds no nulls, no fold may have a null state or result
+     *
+     * @param first  The first fold
+     * @param second The second fold
+     * @param third  The third fold
+     * @param <T>    The type of elements folded
+     * @param <S1>   The type of the state of the first fold
+     * @param <S2>   The type of the state of the second fold
+     * @param <S3>   The type of the state of the third fold
+     * @param <R1>   The type of the result of the first fold
+     * @param <R2>   The type of the result of the second fold
+     * @param <R3>   The type of the result of the third fold
+     * @return A fold whose result is the triple of the results of the given folds. Stepping, merging or finishing
+     *         it throws {@link NullPointerException} should any fold produce a null state or result
+     */
+    public static <T, S1, S2, S3, R1, R2, R3> Fold<T, Triple<S1, S2, S3>, Triple<R1, R2, R3>> zip(
+            Fold<T, S1, R1> first, Fold<T, S2, R2> second, Fold<T, S3, R3> third) {
+        return new Fold<>(
+                () -> new Triple<>(first.initial(), second.initial(), third.initial()),
+                s -> t -> triple(s, first.step(s._1(), t), second.step(s._2(), t), third.step(s._3(), t)),
+                l -> r -> triple(
+                        l, first.merge(l._1(), r._1()), second.merge(l._2(), r._2()), third.merge(l._3(), r._3())),
+                s -> new Triple<>(first.finish(s._1()), second.finish(s._2()), third.finish(s._3())));
+    }
+
+    /**
+     * Returns a new, empty state
+     *
+     * @return A new, empty state
+     */
+    public S initial() {
+        return initial.get();
+    }
+
+    /**
+     * Folds an element into the given state
+     *
+     * @param state   The state to fold the element into, which may be modified
+     * @param element The element to fold
+     * @return The resulting state
+     */
+    public S step(S state, T element) {
+        return step.apply(state).apply(element);
+    }
+
+    /**
+     * Combines the states of two partitions, the left partition preceding the right
+     *
+     * @param left  The state of the left partition, which may be modified
+     * @param right The state of the right partition, which is not modified
+     * @return The state of both partitions
+     */
+    public S merge(S left, S right) {
+        return merge.apply(left).apply(right);
+    }
+
+    /**
+     * Computes the result of the given state, without modifying it
+     *
+     * @param state The state to compute the result of
+     * @return The result of the state
+     */
+    public R finish(S state) {
+        return finish.apply(state);
+    }
+
+    /**
+     * Folds the given elements, in iteration order, from a new state and returns the result
+     *
+     * @param elements The elements to fold
+     * @return The result of folding the elements
+     */
+    public R apply(Iterable<T> elements) {
+        S state = initial();
+        for (T element : elements) {
+            state = step(state, element);
+        }
+        return finish(state);
+    }
+
+    /**
+     * Returns a running fold with a new, empty state
+     *
+     * @return A new running fold
+     */
+    public RunningFold<T, S, R> start() {
+        return new RunningFold<>(this, initial());
+    }
+
+    /**
+     * Returns a fold whose result is the result of this fold with the given function applied
+     *
+     * @param toApply The function to apply to the result of this fold
+     * @param <U>     The type of the mapped result
+     * @return A fold with a mapped result
+     */
+    public <U> Fold<T, S, U> map(Function<R, U> toApply) {
+        return new Fold<>(initial, step, merge, finish.andThen(toApply));
+    }
+
+    /**
+     * Returns a fold which applies the given function to each element before folding it with this fold
+     *
+     * @param toApply The function to apply to each element
+     * @param <U>     The type of elements folded by the returned fold
+     * @return A fold of the elements mapped by the given function
+     */
+    public <U> Fold<U, S, R> compose(Function<U, T> toApply) {
+        return new Fold<>(initial, s -> u -> step(s, toApply.apply(u)), merge, finish);
+    }
+
+    /**
+     * Returns a fold which folds only the elements matching the given predicate
+     *
+     * @param predicate The predicate elements must match to be folded
+     * @return A fold of the elements matching the predicate
+     */
+    public Fold<T, S, R> filter(Function<T, Boolean> predicate) {
+        return new Fold<>(initial, s -> t -> predicate.apply(t) ? step(s, t) : s, merge, finish);
+    }
+
+    /**
+     * Returns the given couple if it already holds the given states, or a new couple of them otherwise
+     */
+    private static <A, B> Couple<A, B> couple(Couple<A, B> previous, A first, B second) {
+        return previous._1() == first && previous._2() == second ? previous : new Couple<>(first, second);
+    }
+
+    /**
+     * Returns the given triple if it already holds the given states, or a new triple of them otherwise
+     */
+    private static <A, B, C> Triple<A, B, C> triple(Triple<A, B, C> previous, A first, B second, C third) {
+        return previous._1() == first && previous._2() == second && previous._3() == third
+                ? previous
+                : new Triple<>(first, second, third);
+    }
+}
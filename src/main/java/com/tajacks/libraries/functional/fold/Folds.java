@@ -0,0 +1,297 @@
+package com.tajacks.libraries.functional.fold;
+
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.ToDoubleFunction;
+import com.tajacks.libraries.functional.common.ToLongFunction;
+import java.util.*;
+
+/**
+ * Built-in {@link Fold}s. Every built-in fold keeps a small mutable state which it steps and merges in place,
+ * so that stepping an element creates no new state, even when combined with others through
+ * {@link Fold#zip(Fold, Fold)} to compute several aggregations in a single pass. Example usage:
+ *
+ * <pre>
+ * Fold&lt;Order, ?, Triple&lt;Long, Double, List&lt;Order&gt;&gt;&gt; summary = Fold.zip(
+ *         Folds.count(),
+ *         Folds.mean(Order::total),
+ *         Folds.topK(3, Comparator.comparing(Order::total)));
+ * </pre>
+ */
+public final class Folds {
+
+    /**
+     * The precision of {@link #approximateDistinct()}, giving a standard error of about 0.8%
+     */
+    public static final int DEFAULT_DISTINCT_PRECISION = 14;
+
+    private Folds() {
+        // Utility class
+    }
+
+    /**
+     * Returns a fold counting its elements
+     *
+     * @param <T> The type of elements folded
+     * @return A fold counting its elements
+     */
+    public static <T> Fold<T, ?, Long> count() {
+        return Fold.<T, LongState, Long>of(
+                LongState::new,
+                s -> t -> {
+                    s.value++;
+                    return s;
+                },
+                LongState::merge,
+                s -> s.value);
+    }
+
+    /**
+     * Returns a fold summing the longs computed from its elements, without boxing each element's value
+     *
+     * @param toLong The function computing the value of an element
+     * @param <T>    The type of elements folded
+     * @return A fold summing the values of its elements
+     */
+    public static <T> Fold<T, ?, Long> sumLong(ToLongFunction<T> toLong) {
+        return Fold.<T, LongState, Long>of(
+                LongState::new,
+                s -> t -> {
+                    s.value += toLong.apply(t);
+                    return s;
+                },
+                LongState::merge,
+                s -> s.value);
+    }
+
+    /**
+     * Returns a fold summing the doubles computed from its elements, without boxing each element's value.
+     * The sum is compensated, so that rounding errors do not accumulate over many elements
+     *
+     * @param toDouble The function computing the value of an element
+     * @param <T>      The type of elements folded
+     * @return A fold summing the values of its elements
+     */
+    public static <T> Fold<T, ?, Double> sumDouble(ToDoubleFunction<T> toDouble) {
+        return Fold.<T, SumState, Double>of(
+                SumState::new,
+                s -> t -> s.add(toDouble.apply(t)),
+                l -> r -> l.add(r.sum).add(-r.compensation),
+                s -> s.sum);
+    }
+
+    /**
+     * Returns a fold finding the least of its elements according to the given comparator. Of several least
+     * elements, the first is kept
+     *
+     * @param comparator The comparator ordering elements
+     * @param <T>        The type of elements folded
+     * @return A fold whose result contains the least element, or nothing if there were no elements
+     */
+    public static <T> Fold<T, ?, Optional<T>> min(Comparator<? super T> comparator) {
+        return extreme(comparator, -1);
+    }
+
+    /**
+     * Returns a fold finding the greatest of its elements according to the given comparator. Of several greatest
+     * elements, the first is kept
+     *
+     * @param comparator The comparator ordering elements
+     * @param <T>        The type of elements folded
+     * @return A fold whose result contains the greatest element, or nothing if there were no elements
+     */
+    public static <T> Fold<T, ?, Optional<T>> max(Comparator<? super T> comparator) {
+        return extreme(comparator, 1);
+    }
+
+    /**
+     * Returns a fold computing the arithmetic mean of the doubles computed from its elements
+     *
+     * @param toDouble The function computing the value of an element
+     * @param <T>      The type of elements folded
+     * @return A fold computing the mean, which is NaN if there were no elements
+     */
+    public static <T> Fold<T, ?, Double> mean(ToDoubleFunction<T> toDouble) {
+        return moments(toDouble, s -> s.count == 0 ? Double.NaN : s.mean);
+    }
+
+    /**
+     * Returns a fold computing the population variance of the doubles computed from its elements. The variance
+     * is updated incrementally, which avoids the cancellation error of subtracting the squared mean from the mean
+     * of squares
+     *
+     * @param toDouble The function computing the value of an element
+     * @param <T>      The type of elements folded
+     * @return A fold computing the population variance, which is NaN if there were no elements
+     */
+    public static <T> Fold<T, ?, Double> variance(ToDoubleFunction<T> toDouble) {
+        return moments(toDouble, s -> s.count == 0 ? Double.NaN : s.sumOfSquares / s.count);
+    }
+
+    /**
+     * Returns a fold keeping the k greatest of its elements according to the given comparator. The state holds
+     * at most k elements, no matter how many elements are folded
+     *
+     * @param k          The number of elements to keep
+     * @param comparator The comparator ordering elements
+     * @param <T>        The type of elements folded
+     * @return A fold whose result is an immutable list of at most k greatest elements, greatest first
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public static <T> Fold<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        return Fold.<T, TopK<T>, List<T>>of(
+                () -> new TopK<>(k, comparator), s -> s::offer, l -> l::merge, TopK::toList);
+    }
+
+    /**
+     * Returns a fold estimating the number of distinct elements, by their hash codes, in constant memory
+     *
+     * @param <T> The type of elements folded
+     * @return A fold estimating the number of distinct elements
+     * @see #approximateDistinct(int)
+     */
+    public static <T> Fold<T, ?, Long> approximateDistinct() {
+        return approximateDistinct(DEFAULT_DISTINCT_PRECISION);
+    }
+
+    /**
+     * Returns a fold estimating the number of distinct elements, by their hash codes, with a HyperLogLog sketch.
+     * The state holds 2^precision bytes no matter how many elements are folded, and estimates have a standard
+     * error of about 1.04 / sqrt(2^precision). Elements with equal hash codes are counted once
+     *
+     * @param precision The number of bits of each hash used to select a register, between 4 and 18
+     * @param <T>       The type of elements folded
+     * @return A fold estimating the number of distinct elements
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static <T> Fold<T, ?, Long> approximateDistinct(int precision) {
+        HyperLogLog.checkPrecision(precision);
+        return Fold.<T, HyperLogLog, Long>of(
+                () -> new HyperLogLog(precision),
+                s -> t -> s.add(HyperLogLog.hash(Objects.hashCode(t))),
+                l -> l::merge,
+                HyperLogLog::estimate);
+    }
+
+    private static <T> Fold<T, ?, Optional<T>> extreme(Comparator<? super T> comparator, int direction) {
+        return Fold.<T, Holder<T>, Optional<T>>of(
+                Holder::new,
+                s -> t -> s.offer(t, comparator, direction),
+                l -> r -> r.present ? l.offer(r.value, comparator, direction) : l,
+                s -> s.present ? Optional.ofNullable(s.value) : Optional.empty());
+    }
+
+    private static <T, R> Fold<T, ?, R> moments(ToDoubleFunction<T> toDouble, Function<Moments, R> finish) {
+        return Fold.<T, Moments, R>of(Moments::new, s -> t -> s.add(toDouble.apply(t)), l -> l::merge, finish);
+    }
+
+    private static final class LongState {
+        private long value;
+
+        private static Function<LongState, LongState> merge(LongState left) {
+            return right -> {
+                left.value += right.value;
+                return left;
+            };
+        }
+    }
+
+    /**
+     * A Kahan compensated sum
+     */
+    private static final class SumState {
+        private double sum;
+        private double compensation;
+
+        private SumState add(double value) {
+            double y = value - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+            return this;
+        }
+    }
+
+    private static final class Holder<T> {
+        private T value;
+        private boolean present;
+
+        private Holder<T> offer(T t, Comparator<? super T> comparator, int direction) {
+            if (!present || Integer.signum(comparator.compare(t, value)) == direction) {
+                value = t;
+                present = true;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * The k greatest elements seen, in a heap whose head is the least of them
+     */
+    private static final class TopK<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final PriorityQueue<T> heap;
+
+        private TopK(int k, Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = new PriorityQueue<>(k, comparator);
+        }
+
+        private TopK<T> offer(T t) {
+            if (heap.size() < k) {
+                heap.add(t);
+            } else if (comparator.compare(t, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(t);
+            }
+            return this;
+        }
+
+        private TopK<T> merge(TopK<T> other) {
+            for (T t : other.heap) {
+                offer(t);
+            }
+            return this;
+        }
+
+        private List<T> toList() {
+            List<T> result = new ArrayList<>(heap);
+            result.sort(Collections.reverseOrder(comparator));
+            return Collections.unmodifiableList(result);
+        }
+    }
+
+    /**
+     * The count, mean and sum of squared differences from the mean, updated by Welford's method and merged by
+     * the method of Chan et al.
+     */
+    private static final class Moments {
+        private long count;
+        private double mean;
+        private double sumOfSquares;
+
+        private Moments add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            sumOfSquares += delta * (value - mean);
+            return this;
+        }
+
+        private Moments merge(Moments other) {
+            if (other.count == 0) {
+                return this;
+            }
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            sumOfSquares += other.sumOfSquares + delta * delta * ((double) count * other.count / total);
+            count = total;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.tajacks.libraries.functional.fold;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct hashes added to it. With a precision of p, the
+ * sketch holds 2^p one byte registers and its estimates have a standard error of about 1.04 / sqrt(2^p).
+ * Small cardinalities are estimated by linear counting
+ */
+final class HyperLogLog {
+    static final int MINIMUM_PRECISION = 4;
+    static final int MAXIMUM_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        this.precision = checkPrecision(precision);
+        this.registers = new byte[1 << precision];
+    }
+
+    HyperLogLog add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+        return this;
+    }
+
+    HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    static int checkPrecision(int precision) {
+        if (precision < MINIMUM_PRECISION || precision > MAXIMUM_PRECISION) {
+            throw new IllegalArgumentException(
+                    "precision must be between " + MINIMUM_PRECISION + " and " + MAXIMUM_PRECISION + ": " + precision);
+        }
+        return precision;
+    }
+
+    /**
+     * Spreads a 32 bit hash code over 64 bits, using the finalizer of MurmurHash3
+     */
+    static long hash(int hashCode) {
+        long h = hashCode;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.tajacks.libraries.functional.fold;
+
+/**
+ * The state of a {@link Fold} in progress. Elements are fed one at a time or in batches as they arrive, and
+ * the result of the elements seen so far may be computed at any time. Running folds over separate partitions
+ * may be merged. Created through {@link Fold#start()}.
+ * <p>
+ * A running fold is not thread safe. To aggregate concurrently, run one per thread and merge them.
+ *
+ * @param <T> The type of elements folded
+ * @param <S> The type of the intermediate state
+ * @param <R> The type of the result
+ */
+public final class RunningFold<T, S, R> {
+
+    private final Fold<T, S, R> fold;
+    private S state;
+
+    RunningFold(Fold<T, S, R> fold, S state) {
+        this.fold = fold;
+        this.state = state;
+    }
+
+    /**
+     * Folds an element into this running fold
+     *
+     * @param element The element to fold
+     * @return This running fold
+     */
+    public RunningFold<T, S, R> step(T element) {
+        state = fold.step(state, element);
+        return this;
+    }
+
+    /**
+     * Folds the given elements, in iteration order, into this running fold
+     *
+     * @param elements The elements to fold
+     * @return This running fold
+     */
+    public RunningFold<T, S, R> stepAll(Iterable<T> elements) {
+        S current = state;
+        for (T element : elements) {
+            current = fold.step(current, element);
+        }
+        state = current;
+        return this;
+    }
+
+    /**
+     * Folds the state of the given running fold, over elements following those of this fold, into this running
+     * fold. The given running fold is not modified
+     *
+     * @param other A running fold of the same fold over a later partition
+     * @return This running fold
+     * @throws IllegalArgumentException if the given running fold was started from a different fold, or is this
+     *                                  running fold
+     */
+    @SuppressWarnings("unchecked")
+    public RunningFold<T, S, R> merge(RunningFold<T, ?, R> other) {
+        if (other.fold != fold) {
+            throw new IllegalArgumentException("Cannot merge running folds of different folds");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge a running fold with itself");
+        }
+        state = fold.merge(state, (S) other.state);
+        return this;
+    }
+
+    /**
+     * Returns the result of the elements folded so far. Folding may continue afterwards
+     *
+     * @return The result of the elements folded so far
+     */
+    public R current() {
+        return fold.finish(state);
+    }
+
+    /**
+     * Returns the fold this running fold was started from
+     *
+     * @return The fold this running fold was started from
+     */
+    public Fold<T, S, R> fold() {
+        return fold;
+    }
+}
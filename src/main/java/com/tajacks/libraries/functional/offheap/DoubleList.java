@@ -0,0 +1,157 @@
+package com.tajacks.libraries.functional.offheap;
+
+import com.tajacks.libraries.functional.common.DoubleBinaryFunction;
+import com.tajacks.libraries.functional.common.DoubleEffect;
+import com.tajacks.libraries.functional.common.DoubleToDoubleFunction;
+import com.tajacks.libraries.functional.common.LongToDoubleFunction;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * A fixed size list of doubles stored outside the Java heap. Allocated through an {@link OffHeapArena}, and
+ * released when that arena is closed. Folds, maps and effects operate on primitive doubles and never box
+ */
+public final class DoubleList extends OffHeapList {
+
+    private DoubleBuffer[] chunks;
+
+    DoubleList(OffHeapArena arena, long size) {
+        super(arena, size);
+        ByteBuffer[] buffers = arena.allocate(size, Double.BYTES);
+        this.chunks = new DoubleBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            chunks[i] = buffers[i].asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Returns the element at the given index of this list
+     *
+     * @param index The index of the element to return
+     * @return The element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public double get(long index) {
+        Objects.checkIndex(index, size);
+        return chunks()[chunk(index)].get(offset(index));
+    }
+
+    /**
+     * Replaces the element at the given index of this list
+     *
+     * @param index The index of the element to replace
+     * @param value The element to place at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public void set(long index, double value) {
+        Objects.checkIndex(index, size);
+        chunks()[chunk(index)].put(offset(index), value);
+    }
+
+    /**
+     * Replaces every element of this list with the result of applying the given function to its index
+     *
+     * @param generator The function computing the element for each index
+     * @return This list
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public DoubleList setAll(LongToDoubleFunction generator) {
+        DoubleBuffer[] current = chunks();
+        for (int c = 0; c < current.length; c++) {
+            DoubleBuffer chunk = current[c];
+            long base = (long) c << CHUNK_SHIFT;
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                chunk.put(i, generator.apply(base + i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Folds this list starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @return The result of folding this list
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public double foldLeft(double identity, DoubleBinaryFunction foldingFunction) {
+        double result = identity;
+        for (DoubleBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                result = foldingFunction.apply(result, chunk.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies an effect to each element of this list, in order
+     *
+     * @param effect The effect to apply to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public void forEach(DoubleEffect effect) {
+        for (DoubleBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                effect.apply(chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public DoubleList map(DoubleToDoubleFunction toApply) {
+        DoubleBuffer[] source = chunks();
+        DoubleList result = arena.allocateDoubles(size);
+        DoubleBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            DoubleBuffer from = source[c];
+            DoubleBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new on-heap array containing the elements of this list
+     *
+     * @return A new array containing the elements of this list
+     * @throws IllegalStateException if this list contains more than {@link Integer#MAX_VALUE} elements,
+     *                               or if the arena of this list is closed
+     */
+    public double[] toArray() {
+        double[] result = new double[arrayLength()];
+        int position = 0;
+        for (DoubleBuffer chunk : chunks()) {
+            chunk.get(0, result, position, chunk.capacity());
+            position += chunk.capacity();
+        }
+        return result;
+    }
+
+    @Override
+    void release() {
+        chunks = null;
+    }
+
+    DoubleBuffer[] chunks() {
+        DoubleBuffer[] current = chunks;
+        if (current == null) {
+            throw closed();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,185 @@
+package com.tajacks.libraries.functional.offheap;
+
+import com.tajacks.libraries.functional.common.IntBinaryFunction;
+import com.tajacks.libraries.functional.common.IntEffect;
+import com.tajacks.libraries.functional.common.IntToDoubleFunction;
+import com.tajacks.libraries.functional.common.IntToIntFunction;
+import com.tajacks.libraries.functional.common.IntToLongFunction;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * A fixed size list of ints stored outside the Java heap. Allocated through an {@link OffHeapArena}, and
+ * released when that arena is closed. Folds, maps and effects operate on primitive ints and never box
+ */
+public final class IntList extends OffHeapList {
+
+    private IntBuffer[] chunks;
+
+    IntList(OffHeapArena arena, long size) {
+        super(arena, size);
+        ByteBuffer[] buffers = arena.allocate(size, Integer.BYTES);
+        this.chunks = new IntBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            chunks[i] = buffers[i].asIntBuffer();
+        }
+    }
+
+    /**
+     * Returns the element at the given index of this list
+     *
+     * @param index The index of the element to return
+     * @return The element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public int get(long index) {
+        Objects.checkIndex(index, size);
+        return chunks()[chunk(index)].get(offset(index));
+    }
+
+    /**
+     * Replaces the element at the given index of this list
+     *
+     * @param index The index of the element to replace
+     * @param value The element to place at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public void set(long index, int value) {
+        Objects.checkIndex(index, size);
+        chunks()[chunk(index)].put(offset(index), value);
+    }
+
+    /**
+     * Folds this list starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @return The result of folding this list
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public int foldLeft(int identity, IntBinaryFunction foldingFunction) {
+        int result = identity;
+        for (IntBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                result = foldingFunction.apply(result, chunk.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies an effect to each element of this list, in order
+     *
+     * @param effect The effect to apply to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public void forEach(IntEffect effect) {
+        for (IntBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                effect.apply(chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public IntList map(IntToIntFunction toApply) {
+        IntBuffer[] source = chunks();
+        IntList result = arena.allocateInts(size);
+        IntBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            IntBuffer from = source[c];
+            IntBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public LongList mapToLong(IntToLongFunction toApply) {
+        IntBuffer[] source = chunks();
+        LongList result = arena.allocateLongs(size);
+        LongBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            IntBuffer from = source[c];
+            LongBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public DoubleList mapToDouble(IntToDoubleFunction toApply) {
+        IntBuffer[] source = chunks();
+        DoubleList result = arena.allocateDoubles(size);
+        DoubleBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            IntBuffer from = source[c];
+            DoubleBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new on-heap array containing the elements of this list
+     *
+     * @return A new array containing the elements of this list
+     * @throws IllegalStateException if this list contains more than {@link Integer#MAX_VALUE} elements,
+     *                               or if the arena of this list is closed
+     */
+    public int[] toArray() {
+        int[] result = new int[arrayLength()];
+        int position = 0;
+        for (IntBuffer chunk : chunks()) {
+            chunk.get(0, result, position, chunk.capacity());
+            position += chunk.capacity();
+        }
+        return result;
+    }
+
+    @Override
+    void release() {
+        chunks = null;
+    }
+
+    IntBuffer[] chunks() {
+        IntBuffer[] current = chunks;
+        if (current == null) {
+            throw closed();
+        }
+        return current;
+    }
+}
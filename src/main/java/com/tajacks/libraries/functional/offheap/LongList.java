@@ -0,0 +1,180 @@
+package com.tajacks.libraries.functional.offheap;
+
+import com.tajacks.libraries.functional.common.LongBinaryFunction;
+import com.tajacks.libraries.functional.common.LongEffect;
+import com.tajacks.libraries.functional.common.LongToDoubleFunction;
+import com.tajacks.libraries.functional.common.LongToLongFunction;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * A fixed size list of longs stored outside the Java heap. Allocated through an {@link OffHeapArena}, and
+ * released when that arena is closed. Folds, maps and effects operate on primitive longs and never box
+ */
+public final class LongList extends OffHeapList {
+
+    private LongBuffer[] chunks;
+
+    LongList(OffHeapArena arena, long size) {
+        super(arena, size);
+        ByteBuffer[] buffers = arena.allocate(size, Long.BYTES);
+        this.chunks = new LongBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            chunks[i] = buffers[i].asLongBuffer();
+        }
+    }
+
+    /**
+     * Returns the element at the given index of this list
+     *
+     * @param index The index of the element to return
+     * @return The element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public long get(long index) {
+        Objects.checkIndex(index, size);
+        return chunks()[chunk(index)].get(offset(index));
+    }
+
+    /**
+     * Replaces the element at the given index of this list
+     *
+     * @param index The index of the element to replace
+     * @param value The element to place at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the arena of this list is closed
+     */
+    public void set(long index, long value) {
+        Objects.checkIndex(index, size);
+        chunks()[chunk(index)].put(offset(index), value);
+    }
+
+    /**
+     * Replaces every element of this list with the result of applying the given function to its index
+     *
+     * @param generator The function computing the element for each index
+     * @return This list
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public LongList setAll(LongToLongFunction generator) {
+        LongBuffer[] current = chunks();
+        for (int c = 0; c < current.length; c++) {
+            LongBuffer chunk = current[c];
+            long base = (long) c << CHUNK_SHIFT;
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                chunk.put(i, generator.apply(base + i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Folds this list starting at the first element by applying the given folding function
+     * against the identity and all subsequent elements
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @return The result of folding this list
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public long foldLeft(long identity, LongBinaryFunction foldingFunction) {
+        long result = identity;
+        for (LongBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                result = foldingFunction.apply(result, chunk.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies an effect to each element of this list, in order
+     *
+     * @param effect The effect to apply to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public void forEach(LongEffect effect) {
+        for (LongBuffer chunk : chunks()) {
+            for (int i = 0, n = chunk.capacity(); i < n; i++) {
+                effect.apply(chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public LongList map(LongToLongFunction toApply) {
+        LongBuffer[] source = chunks();
+        LongList result = arena.allocateLongs(size);
+        LongBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            LongBuffer from = source[c];
+            LongBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new list, allocated from the same arena, containing the results of applying the given mapping
+     * function to each element of this list
+     *
+     * @param toApply The mapping function to apply to each element
+     * @return A new list of the results of applying the mapping function to each element
+     * @throws IllegalStateException if the arena of this list is closed
+     */
+    public DoubleList mapToDouble(LongToDoubleFunction toApply) {
+        LongBuffer[] source = chunks();
+        DoubleList result = arena.allocateDoubles(size);
+        DoubleBuffer[] target = result.chunks();
+        for (int c = 0; c < source.length; c++) {
+            LongBuffer from = source[c];
+            DoubleBuffer to = target[c];
+            for (int i = 0, n = from.capacity(); i < n; i++) {
+                to.put(i, toApply.apply(from.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new on-heap array containing the elements of this list
+     *
+     * @return A new array containing the elements of this list
+     * @throws IllegalStateException if this list contains more than {@link Integer#MAX_VALUE} elements,
+     *                               or if the arena of this list is closed
+     */
+    public long[] toArray() {
+        long[] result = new long[arrayLength()];
+        int position = 0;
+        for (LongBuffer chunk : chunks()) {
+            chunk.get(0, result, position, chunk.capacity());
+            position += chunk.capacity();
+        }
+        return result;
+    }
+
+    @Override
+    void release() {
+        chunks = null;
+    }
+
+    LongBuffer[] chunks() {
+        LongBuffer[] current = chunks;
+        if (current == null) {
+            throw closed();
+        }
+        return current;
+    }
+}
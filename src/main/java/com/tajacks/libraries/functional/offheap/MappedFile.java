@@ -0,0 +1,327 @@
+package com.tajacks.libraries.functional.offheap;
+
+import com.tajacks.libraries.functional.common.Effect;
+import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.utilities.CollectionUtilities;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A file of records which is folded by memory mapping it, one chunk at a time, rather than reading it into
+ * memory. Records are either terminated by a delimiter byte or of a fixed width, and are passed to folds and
+ * effects as read-only slices of the mapped file; no record is copied. Example usage:
+ *
+ * <pre>
+ * try (MappedFile lines = MappedFile.delimited(path, (byte) '\n')) {
+ *     long count = lines.foldLeft(0L, acc -&gt; line -&gt; acc + 1);
+ * }
+ * </pre>
+ * <p>
+ * At most one chunk is mapped at a time by a sequential fold, and one chunk per task by a parallel fold, so
+ * memory use does not grow with the size of the file. Chunks are unmapped once collected by the garbage
+ * collector. A record slice remains valid after the fold that produced it, but should not be retained, as
+ * it keeps its whole chunk mapped.
+ * <p>
+ * In a delimited file, every delimiter ends a record, so consecutive delimiters produce empty records. Bytes
+ * following the last delimiter form a final record. Every record must be shorter than the chunk size, so that it
+ * fits in a single chunk together with its delimiter.
+ */
+public final class MappedFile implements AutoCloseable {
+
+    /**
+     * The number of bytes mapped at a time, unless another chunk size is given
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long chunkSize;
+    private final byte delimiter;
+    private final int width;
+
+    private MappedFile(FileChannel channel, long chunkSize, byte delimiter, int width) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.chunkSize = width > 0 ? chunkSize - chunkSize % width : chunkSize;
+        this.delimiter = delimiter;
+        this.width = width;
+    }
+
+    /**
+     * Opens a file of records each terminated by the given delimiter, mapped {@link #DEFAULT_CHUNK_SIZE}
+     * bytes at a time
+     *
+     * @param path      The file to open
+     * @param delimiter The byte terminating each record
+     * @return The opened file
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static MappedFile delimited(Path path, byte delimiter) {
+        return delimited(path, delimiter, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Opens a file of records each terminated by the given delimiter, mapped the given number of bytes at a time
+     *
+     * @param path      The file to open
+     * @param delimiter The byte terminating each record
+     * @param chunkSize The number of bytes mapped at a time, which every record must be shorter than
+     * @return The opened file
+     * @throws IllegalArgumentException if the chunk size is not positive or exceeds {@link Integer#MAX_VALUE}
+     * @throws UncheckedIOException     if the file cannot be opened
+     */
+    public static MappedFile delimited(Path path, byte delimiter, long chunkSize) {
+        checkChunkSize(chunkSize, 1);
+        return open(path, chunkSize, delimiter, 0);
+    }
+
+    /**
+     * Opens a file of records of the given width, mapped about {@link #DEFAULT_CHUNK_SIZE} bytes at a time
+     *
+     * @param path  The file to open
+     * @param width The number of bytes in each record
+     * @return The opened file
+     * @throws IllegalArgumentException if the width is not positive, or if the size of the file is not a multiple
+     *                                  of the width
+     * @throws UncheckedIOException     if the file cannot be opened
+     */
+    public static MappedFile fixedWidth(Path path, int width) {
+        return fixedWidth(path, width, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Opens a file of records of the given width, mapped about the given number of bytes at a time. The chunk
+     * size is rounded down to a whole number of records
+     *
+     * @param path      The file to open
+     * @param width     The number of bytes in each record
+     * @param chunkSize The number of bytes mapped at a time
+     * @return The opened file
+     * @throws IllegalArgumentException if the width is not positive, if the chunk size is smaller than the width
+     *                                  or exceeds {@link Integer#MAX_VALUE}, or if the size of the file is not a
+     *                                  multiple of the width
+     * @throws UncheckedIOException     if the file cannot be opened
+     */
+    public static MappedFile fixedWidth(Path path, int width, long chunkSize) {
+        if (width < 1) {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        checkChunkSize(chunkSize, width);
+        MappedFile file = open(path, chunkSize, (byte) 0, width);
+        if (file.size % width != 0) {
+            file.close();
+            throw new IllegalArgumentException(
+                    "File size " + file.size + " is not a multiple of the record width " + width);
+        }
+        return file;
+    }
+
+    /**
+     * Returns the size of the file in bytes
+     *
+     * @return The size of the file in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Folds the records of the file, in order, starting from the identity
+     *
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each record
+     * @param <U>             The type of the resulting value
+     * @return The result of folding the records of the file
+     * @throws IllegalStateException if the file is closed, or if a delimited record is not shorter than the chunk size
+     * @throws UncheckedIOException  if the file cannot be mapped
+     */
+    public <U> U foldLeft(U identity, Function<U, Function<ByteBuffer, U>> foldingFunction) {
+        return foldRange(0, size, identity, foldingFunction);
+    }
+
+    /**
+     * Applies an effect to each record of the file, in order
+     *
+     * @param effect The effect to apply to each record
+     * @throws IllegalStateException if the file is closed, or if a delimited record is not shorter than the chunk size
+     * @throws UncheckedIOException  if the file cannot be mapped
+     */
+    public void forEach(Effect<ByteBuffer> effect) {
+        foldLeft(null, ignored -> record -> {
+            effect.apply(record);
+            return null;
+        });
+    }
+
+    /**
+     * Folds the records of the file in parallel on the common {@link ForkJoinPool}
+     *
+     * @param identity    The starting value of each partial fold, which must be an identity of the combiner
+     * @param accumulator A function folding a record into a partial result
+     * @param combiner    An associative function combining two partial results
+     * @param <U>         The type of the folded result
+     * @return The result of folding the records of the file
+     * @see #parallelFold(Object, Function, Function, ForkJoinPool)
+     */
+    public <U> U parallelFold(
+            U identity, Function<U, Function<ByteBuffer, U>> accumulator, Function<U, Function<U, U>> combiner) {
+        return parallelFold(identity, accumulator, combiner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Folds the records of the file in parallel by splitting it into ranges of about one chunk, each beginning
+     * at a record boundary. Each range is mapped and folded sequentially from the identity using the accumulator,
+     * and the partial results are combined in file order using the combiner, as by
+     * {@link CollectionUtilities#parallelFold(List, Object, Function, Function, int, ForkJoinPool)}
+     *
+     * @param identity    The starting value of each partial fold, which must be an identity of the combiner
+     * @param accumulator A function folding a record into a partial result
+     * @param combiner    An associative function combining two partial results
+     * @param pool        The pool to run the fold on
+     * @param <U>         The type of the folded result
+     * @return The result of folding the records of the file
+     * @throws IllegalStateException if the file is closed, or if a delimited record is not shorter than the chunk size
+     * @throws UncheckedIOException  if the file cannot be mapped
+     */
+    public <U> U parallelFold(
+            U identity,
+            Function<U, Function<ByteBuffer, U>> accumulator,
+            Function<U, Function<U, U>> combiner,
+            ForkJoinPool pool) {
+        return CollectionUtilities.parallelFold(
+                ranges(),
+                identity,
+                u -> range -> foldRange(range.from(), range.to(), u, accumulator),
+                combiner,
+                1,
+                pool);
+    }
+
+    /**
+     * Closes the file. Closing a closed file has no effect
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <U> U foldRange(long from, long to, U identity, Function<U, Function<ByteBuffer, U>> foldingFunction) {
+        U result = identity;
+        long position = from;
+        while (position < to) {
+            int length = (int) Math.min(chunkSize, to - position);
+            MappedByteBuffer chunk = map(position, length);
+            if (width > 0) {
+                for (int start = 0; start < length; start += width) {
+                    result = foldingFunction.apply(result).apply(chunk.slice(start, width));
+                }
+                position += length;
+                continue;
+            }
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (chunk.get(i) == delimiter) {
+                    result = foldingFunction.apply(result).apply(chunk.slice(start, i - start));
+                    start = i + 1;
+                }
+            }
+            if (position + length == to) {
+                if (start < length) {
+                    result = foldingFunction.apply(result).apply(chunk.slice(start, length - start));
+                }
+                position = to;
+            } else if (start == 0) {
+                throw recordTooLong(position);
+            } else {
+                position += start;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits the file into ranges of about one chunk, each beginning at a record boundary
+     */
+    private List<Range> ranges() {
+        List<Range> ranges = new ArrayList<>();
+        long from = 0;
+        while (from < size) {
+            long to = Math.min(from + chunkSize, size);
+            if (width == 0 && to < size) {
+                to = nextRecordStart(to);
+            }
+            ranges.add(new Range(from, to));
+            from = to;
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the start of the first record beginning at or after the given position
+     */
+    private long nextRecordStart(long position) {
+        int length = (int) Math.min(chunkSize, size - position + 1);
+        MappedByteBuffer chunk = map(position - 1, length);
+        for (int i = 0; i < length; i++) {
+            if (chunk.get(i) == delimiter) {
+                return position + i;
+            }
+        }
+        if (position - 1 + length == size) {
+            return size;
+        }
+        throw recordTooLong(position);
+    }
+
+    private MappedByteBuffer map(long position, int length) {
+        if (!channel.isOpen()) {
+            throw new IllegalStateException("File is closed");
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IllegalStateException recordTooLong(long position) {
+        return new IllegalStateException(
+                "Record near byte " + position + " is not shorter than the chunk size of " + chunkSize);
+    }
+
+    private static MappedFile open(Path path, long chunkSize, byte delimiter, int width) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                return new MappedFile(channel, chunkSize, delimiter, width);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkChunkSize(long chunkSize, int minimum) {
+        if (chunkSize < minimum || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "chunkSize must be between " + minimum + " and " + Integer.MAX_VALUE + ": " + chunkSize);
+        }
+    }
+
+    private record Range(long from, long to) {}
+}
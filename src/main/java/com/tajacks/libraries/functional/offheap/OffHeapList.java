@@ -0,0 +1,75 @@
+package com.tajacks.libraries.functional.offheap;
+
+/**
+ * A fixed size list of primitives stored outside the Java heap, allocated from an {@link OffHeapArena}.
+ * Elements are stored in chunks of direct memory, so a list may hold more than {@link Integer#MAX_VALUE}
+ * elements and is indexed by long.
+ * <p>
+ * A list is not thread safe. Once its arena is closed, every operation other than {@link #size()} throws
+ * {@link IllegalStateException}.
+ */
+public abstract sealed class OffHeapList permits LongList, IntList, DoubleList {
+
+    static final int CHUNK_SHIFT = 23;
+    static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    final OffHeapArena arena;
+    final long size;
+
+    OffHeapList(OffHeapArena arena, long size) {
+        // Subclasses should only be instantiated via an arena
+        this.arena = arena;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return The number of elements in this list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this list contains no elements
+     *
+     * @return True if this list is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the arena this list was allocated from
+     *
+     * @return The arena this list was allocated from
+     */
+    public OffHeapArena arena() {
+        return arena;
+    }
+
+    /**
+     * Drops this list's references to its memory. Called by the arena when it is closed
+     */
+    abstract void release();
+
+    static int chunk(long index) {
+        return (int) (index >>> CHUNK_SHIFT);
+    }
+
+    static int offset(long index) {
+        return (int) (index & CHUNK_MASK);
+    }
+
+    static IllegalStateException closed() {
+        return new IllegalStateException("List used after its arena was closed");
+    }
+
+    int arrayLength() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("List of " + size + " elements exceeds Integer.MAX_VALUE");
+        }
+        return (int) size;
+    }
+}
@@ -0,0 +1,26 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the number of bytes allocated by the current thread, where the JVM supports it
+ */
+final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                            && threads.isThreadAllocatedMemorySupported()
+                    ? threads
+                    : null;
+
+    private AllocationCounter() {}
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if it cannot be measured
+     */
+    static long currentThread() {
+        if (THREADS == null || !THREADS.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,45 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A memo table for the int keys from 0 (inclusive) to a size (exclusive), indexing an array directly by key.
+ * Keys outside that range are rejected with an {@link IndexOutOfBoundsException}
+ *
+ * @param <V> The type of the result of a subproblem
+ */
+final class DenseMemoTable<V> implements MemoTable<Integer, V> {
+    private final Object[] values;
+    private int size;
+
+    DenseMemoTable(int size) {
+        this.values = new Object[size];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Integer key) {
+        return (V) values[Objects.checkIndex(key, values.length)];
+    }
+
+    @Override
+    public void put(Integer key, V value) {
+        int index = Objects.checkIndex(key, values.length);
+        if (values[index] == null) {
+            size++;
+        }
+        values[index] = Objects.requireNonNull(value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.tajacks.libraries.functional.recursion;
+
+/**
+ * The result of evaluating a {@link TailCall} through {@link TailCall#evaluate(EvaluationOptions)}, along with
+ * the statistics of the evaluation
+ *
+ * @param result The result of the operation
+ * @param stats  The statistics of the evaluation
+ * @param <T>    The type of element returned by the operation
+ */
+public record Evaluation<T>(T result, EvaluationStats stats) {}
@@ -0,0 +1,27 @@
+package com.tajacks.libraries.functional.recursion;
+
+/**
+ * Thrown when the evaluation of a {@link TailCall} exceeds the step budget or time limit of its
+ * {@link EvaluationOptions}
+ */
+public final class EvaluationAbortedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient EvaluationStats stats;
+
+    EvaluationAbortedException(String message, EvaluationStats stats) {
+        super(message + " after " + stats.steps() + " steps and "
+                + stats.elapsed().toMillis() + "ms");
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the statistics of the evaluation up to the point it was aborted
+     *
+     * @return The statistics of the aborted evaluation
+     */
+    public EvaluationStats stats() {
+        return stats;
+    }
+}
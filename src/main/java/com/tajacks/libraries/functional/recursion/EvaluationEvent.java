@@ -0,0 +1,28 @@
+package com.tajacks.libraries.functional.recursion;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event recording an evaluation of a {@link TailCall} which ran at least as long as the event threshold
+ * of its {@link EvaluationOptions}
+ */
+@Name("com.tajacks.libraries.functional.TailCallEvaluation")
+@Label("TailCall Evaluation")
+@Category("Functional")
+@Description("A TailCall evaluation running longer than its configured threshold")
+final class EvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Steps")
+    long steps;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Aborted")
+    boolean aborted;
+}
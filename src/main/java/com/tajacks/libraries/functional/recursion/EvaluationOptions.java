@@ -0,0 +1,85 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.time.Duration;
+
+/**
+ * Configures the evaluation of a {@link TailCall} through {@link TailCall#evaluate(EvaluationOptions)}.
+ * Example usage:
+ *
+ * <pre>
+ * EvaluationOptions options = EvaluationOptions.defaults()
+ *         .withMaxSteps(10_000_000)
+ *         .withTimeLimit(Duration.ofSeconds(1))
+ *         .withEventThreshold(Duration.ofMillis(10));
+ * </pre>
+ *
+ * @param maxSteps        The maximum number of steps taken before evaluation is aborted, {@link Long#MAX_VALUE}
+ *                        for no limit
+ * @param timeLimit       How long evaluation may run before it is aborted, null for no limit
+ * @param eventThreshold  How long an evaluation must run to emit a JFR event, null to emit no events
+ * @param trackAllocation Whether to measure the bytes allocated by the evaluating thread during evaluation
+ */
+public record EvaluationOptions(long maxSteps, Duration timeLimit, Duration eventThreshold, boolean trackAllocation) {
+
+    public EvaluationOptions {
+        if (maxSteps < 1) {
+            throw new IllegalArgumentException("maxSteps must be positive: " + maxSteps);
+        }
+        if (timeLimit != null && (timeLimit.isNegative() || timeLimit.isZero())) {
+            throw new IllegalArgumentException("timeLimit must be positive: " + timeLimit);
+        }
+        if (eventThreshold != null && eventThreshold.isNegative()) {
+            throw new IllegalArgumentException("eventThreshold must not be negative: " + eventThreshold);
+        }
+    }
+
+    /**
+     * Returns the options of an evaluation without limits, events or allocation tracking
+     *
+     * @return The default options
+     */
+    public static EvaluationOptions defaults() {
+        return new EvaluationOptions(Long.MAX_VALUE, null, null, false);
+    }
+
+    /**
+     * Returns a copy of these options with the given step budget
+     *
+     * @param maxSteps The maximum number of steps taken before evaluation is aborted
+     * @return A copy of these options with the given step budget
+     */
+    public EvaluationOptions withMaxSteps(long maxSteps) {
+        return new EvaluationOptions(maxSteps, timeLimit, eventThreshold, trackAllocation);
+    }
+
+    /**
+     * Returns a copy of these options with the given time limit
+     *
+     * @param timeLimit How long evaluation may run before it is aborted
+     * @return A copy of these options with the given time limit
+     */
+    public EvaluationOptions withTimeLimit(Duration timeLimit) {
+        return new EvaluationOptions(maxSteps, timeLimit, eventThreshold, trackAllocation);
+    }
+
+    /**
+     * Returns a copy of these options which emit a JFR event for each evaluation running at least as long as the
+     * given threshold, when the event is enabled in a running flight recording
+     *
+     * @param eventThreshold How long an evaluation must run to emit a JFR event
+     * @return A copy of these options with the given event threshold
+     */
+    public EvaluationOptions withEventThreshold(Duration eventThreshold) {
+        return new EvaluationOptions(maxSteps, timeLimit, eventThreshold, trackAllocation);
+    }
+
+    /**
+     * Returns a copy of these options with allocation tracking enabled or disabled
+     *
+     * @param trackAllocation Whether to measure the bytes allocated during evaluation
+     * @return A copy of these options with the given allocation tracking
+     */
+    public EvaluationOptions withAllocationTracking(boolean trackAllocation) {
+        return new EvaluationOptions(maxSteps, timeLimit, eventThreshold, trackAllocation);
+    }
+}
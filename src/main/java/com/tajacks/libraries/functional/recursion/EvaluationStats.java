@@ -0,0 +1,25 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.time.Duration;
+
+/**
+ * The statistics of a single evaluation of a {@link TailCall}
+ *
+ * @param steps          The number of steps taken: each resumed suspension, and each function of a
+ *                       {@link TailCall#flatMap(com.tajacks.libraries.functional.common.Function) flatMap} pushed or
+ *                       applied
+ * @param elapsedNanos   The time spent evaluating, in nanoseconds
+ * @param allocatedBytes The number of bytes allocated by the evaluating thread while evaluating, or -1 if
+ *                       allocation was not tracked or cannot be measured on this JVM
+ */
+public record EvaluationStats(long steps, long elapsedNanos, long allocatedBytes) {
+
+    /**
+     * Returns the time spent evaluating
+     *
+     * @return The time spent evaluating
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+}
@@ -0,0 +1,38 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A memo table delegating to a map, thread safe exactly when the map is
+ *
+ * @param <K> The type of key identifying a subproblem
+ * @param <V> The type of the result of a subproblem
+ */
+final class MapMemoTable<K, V> implements MemoTable<K, V> {
+    private final Map<K, V> map;
+
+    MapMemoTable(Map<K, V> map) {
+        this.map = map;
+    }
+
+    @Override
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        map.put(key, Objects.requireNonNull(value));
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package com.tajacks.libraries.functional.recursion;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table of the results of subproblems solved during a memoized recursion, used by
+ * {@link MemoizedRecursion}. Results are never null, so a null lookup
+ * indicates a subproblem which has not yet been solved
+ *
+ * @param <K> The type of key identifying a subproblem
+ * @param <V> The type of the result of a subproblem
+ */
+public interface MemoTable<K, V> {
+
+    /**
+     * Returns the result recorded for the given key
+     *
+     * @param key The key identifying the subproblem
+     * @return The result recorded for the key, or null if there is none
+     */
+    V get(K key);
+
+    /**
+     * Records the result of the subproblem identified by the given key
+     *
+     * @param key   The key identifying the subproblem
+     * @param value The result of the subproblem, never null
+     */
+    void put(K key, V value);
+
+    /**
+     * Returns the number of results recorded in this table
+     *
+     * @return The number of recorded results
+     */
+    int size();
+
+    /**
+     * Discards every recorded result
+     */
+    void clear();
+
+    /**
+     * Returns a table backed by a {@link HashMap}. The table is not thread safe
+     *
+     * @param <K> The type of key identifying a subproblem
+     * @param <V> The type of the result of a subproblem
+     * @return A new, empty hash based table
+     */
+    static <K, V> MemoTable<K, V> hash() {
+        return new MapMemoTable<>(new HashMap<>());
+    }
+
+    /**
+     * Returns a table backed by a {@link ConcurrentHashMap}, which may be shared by recursions running
+     * on different threads. Lookups take no locks
+     *
+     * @param <K> The type of key identifying a subproblem
+     * @param <V> The type of the result of a subproblem
+     * @return A new, empty thread safe table
+     */
+    static <K, V> MemoTable<K, V> concurrent() {
+        return new MapMemoTable<>(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns a table for the int keys from 0 (inclusive) to size (exclusive), backed by an array.
+     * Lookups index an array without hashing, making this the fastest table for recursions whose subproblems
+     * can be numbered densely, such as a grid of (i, j) encoded as {@code i * columns + j}. The table is
+     * not thread safe
+     *
+     * @param size The number of distinct keys
+     * @param <V>  The type of the result of a subproblem
+     * @return A new, empty array based table
+     * @throws IllegalArgumentException if size is negative
+     */
+    static <V> MemoTable<Integer, V> dense(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        return new DenseMemoTable<>(size);
+    }
+}
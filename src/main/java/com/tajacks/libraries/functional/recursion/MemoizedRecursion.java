@@ -0,0 +1,99 @@
+package com.tajacks.libraries.functional.recursion;
+
+import static com.tajacks.libraries.functional.recursion.TailCall.returning;
+import static com.tajacks.libraries.functional.recursion.TailCall.suspending;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.Objects;
+
+/**
+ * Memoizing fixed point combinators, which turn a recursion expressed in terms of an abstract
+ * recursive call into a function solving each distinct subproblem at most once. Recursive calls
+ * are made through {@link TailCall}, so the recursion is evaluated in constant stack space
+ * no matter how deep it goes. Example usage:
+ *
+ * <pre>
+ * Function&lt;Integer, BigInteger&gt; fib = MemoizedRecursion.memoizedFix(self -> n -> n &lt; 2
+ *         ? returning(BigInteger.valueOf(n))
+ *         : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(a::add)));
+ *
+ * fib.apply(10_000); // Linear time, and no StackOverflowError
+ * </pre>
+ * <p>
+ * Memoization turns recursions with overlapping subproblems, such as edit distance or partition counting,
+ * from exponential time into time proportional to the number of distinct subproblems. Results of
+ * subproblems must not be null.
+ */
+public final class MemoizedRecursion {
+
+    private MemoizedRecursion() {
+        // Utility class
+    }
+
+    /**
+     * Returns a function computing the fixed point of the given recursion, caching subproblem results
+     * in a thread safe table shared by every application of the returned function
+     *
+     * @param recursion A function which, given the recursive call, returns one step of the recursion
+     * @param <K>       The type of key identifying a subproblem
+     * @param <V>       The type of the result of a subproblem
+     * @return A function solving the recursion for a key
+     */
+    public static <K, V> Function<K, V> memoizedFix(
+            Function<Function<K, TailCall<V>>, Function<K, TailCall<V>>> recursion) {
+        return memoizedFix(recursion, MemoTable.concurrent());
+    }
+
+    /**
+     * Returns a function computing the fixed point of the given recursion, caching subproblem results
+     * in the given table. The table is shared by every application of the returned function, so results
+     * computed by one application are reused by the next
+     *
+     * @param recursion A function which, given the recursive call, returns one step of the recursion
+     * @param table     The table in which to record the result of each subproblem
+     * @param <K>       The type of key identifying a subproblem
+     * @param <V>       The type of the result of a subproblem
+     * @return A function solving the recursion for a key
+     */
+    public static <K, V> Function<K, V> memoizedFix(
+            Function<Function<K, TailCall<V>>, Function<K, TailCall<V>>> recursion, MemoTable<K, V> table) {
+        Function<K, TailCall<V>> recursive = memoizedFixTailCall(recursion, table);
+        return key -> recursive.apply(key).evaluate();
+    }
+
+    /**
+     * Returns the recursive call of the fixed point of the given recursion, caching subproblem results
+     * in the given table. Unlike {@link #memoizedFix(Function, MemoTable)}, the returned function does not
+     * evaluate the recursion, which permits it to be used as a step of a larger recursion
+     *
+     * @param recursion A function which, given the recursive call, returns one step of the recursion
+     * @param table     The table in which to record the result of each subproblem
+     * @param <K>       The type of key identifying a subproblem
+     * @param <V>       The type of the result of a subproblem
+     * @return A function returning the unevaluated solution of the recursion for a key
+     */
+    public static <K, V> Function<K, TailCall<V>> memoizedFixTailCall(
+            Function<Function<K, TailCall<V>>, Function<K, TailCall<V>>> recursion, MemoTable<K, V> table) {
+        Objects.requireNonNull(recursion);
+        Objects.requireNonNull(table);
+        return new Function<>() {
+            private final Function<K, TailCall<V>> step = recursion.apply(this);
+
+            @Override
+            public TailCall<V> apply(K key) {
+                V cached = table.get(key);
+                if (cached != null) {
+                    return returning(cached);
+                }
+                return suspending(() -> {
+                            V solved = table.get(key);
+                            return solved != null ? returning(solved) : step.apply(key);
+                        })
+                        .map(result -> {
+                            table.put(key, Objects.requireNonNull(result, "Recursion produced a null result"));
+                            return result;
+                        });
+            }
+        };
+    }
+}
@@ -1,6 +1,9 @@
 package com.tajacks.libraries.functional.recursion;
 
+import com.tajacks.libraries.functional.common.Function;
 import com.tajacks.libraries.functional.common.Supplier;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * Used to place tail recursive operations on the heap instead of the stack.
@@ -15,10 +18,20 @@ import com.tajacks.libraries.functional.common.Supplier;
  *     return y == 0 ? returning(x) : suspending(() -> add_(x + 1, y - 1));
  * }
  * </pre>
+ * <p>
+ * Recursion which is not in tail position, where the result of a recursive call is combined afterwards,
+ * may be expressed with {@link #map(Function)} and {@link #flatMap(Function)}. Such operations are also
+ * evaluated in constant stack space, keeping pending continuations on the heap:
+ *
+ * <pre>
+ * private static TailCall&lt;Long&gt; sum_(int n) {
+ *     return n == 0 ? returning(0L) : suspending(() -> sum_(n - 1)).map(x -> x + n);
+ * }
+ * </pre>
  *
  * @param <T> The type of element returned by the tail recursive operation
  */
-public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspend {
+public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspend, TailCall.FlatMap {
 
     /**
      * Calls the next TailCall in the recursive operation
@@ -43,6 +56,79 @@ public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspe
         // Subclasses should only be instantiated via static factories
     }
 
+    /**
+     * Returns a TailCall which applies the given function to the result of this operation,
+     * continuing with the TailCall it returns
+     *
+     * @param f   The function producing the next operation from the result of this operation
+     * @param <U> The type of element returned by the next operation
+     * @return A TailCall which continues this operation with the one produced by the given function
+     */
+    public <U> TailCall<U> flatMap(Function<T, TailCall<U>> f) {
+        return new FlatMap<>(this, f);
+    }
+
+    /**
+     * Returns a TailCall which applies the given function to the result of this operation
+     *
+     * @param f   The function to apply to the result of this operation
+     * @param <U> The type of element returned by the function
+     * @return A TailCall whose result is the result of applying the function to the result of this operation
+     */
+    public <U> TailCall<U> map(Function<T, U> f) {
+        return flatMap(t -> returning(f.apply(t)));
+    }
+
+    /**
+     * Evaluates this operation as by {@link #evaluate()}, measuring the evaluation and aborting it if it exceeds
+     * the step budget or time limit of the given options. The time limit is checked every 1024 steps.
+     * {@link #evaluate()} remains the fastest way to evaluate an operation without limits
+     *
+     * @param options The limits and measurements of the evaluation
+     * @return The result of this operation and the statistics of its evaluation
+     * @throws EvaluationAbortedException if the evaluation exceeds its step budget or time limit
+     */
+    @SuppressWarnings("unchecked")
+    public Evaluation<T> evaluate(EvaluationOptions options) {
+        long startBytes = options.trackAllocation() ? AllocationCounter.currentThread() : -1;
+        EvaluationEvent event = null;
+        if (options.eventThreshold() != null) {
+            event = new EvaluationEvent();
+            event.begin();
+        }
+        long start = System.nanoTime();
+        long maxSteps = options.maxSteps();
+        long timeLimit = options.timeLimit() == null
+                ? Long.MAX_VALUE
+                : options.timeLimit().toNanos();
+        Deque<Function<Object, TailCall<Object>>> continuations = new ArrayDeque<>();
+        TailCall<Object> current = (TailCall<Object>) this;
+        long steps = 0;
+        while (true) {
+            if (current instanceof Return<Object> returning && continuations.isEmpty()) {
+                EvaluationStats stats = stats(steps, start, startBytes);
+                commit(event, options, stats, false);
+                return new Evaluation<>((T) returning.result, stats);
+            }
+            if (steps == maxSteps) {
+                throw abort("Step budget of " + maxSteps + " exhausted", event, options, steps, start, startBytes);
+            }
+            if ((steps & 1023) == 1023 && System.nanoTime() - start >= timeLimit) {
+                throw abort(
+                        "Time limit of " + options.timeLimit() + " exceeded", event, options, steps, start, startBytes);
+            }
+            if (current instanceof FlatMap<?, ?> flatMap) {
+                continuations.push((Function<Object, TailCall<Object>>) (Function<?, ?>) flatMap.f);
+                current = (TailCall<Object>) flatMap.source;
+            } else if (current instanceof Suspend<Object> suspend) {
+                current = suspend.resume();
+            } else {
+                current = continuations.pop().apply(((Return<Object>) current).result);
+            }
+            steps++;
+        }
+    }
+
     /**
      * Creates a new returning TailCall. Should be used when the recursive operation
      * should be terminated, returning a final result.
@@ -51,7 +137,7 @@ public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspe
      * @param <T>    The type of element to be returned by the tail recursive operation
      * @return A TailCall holding the final result of a recursive operation
      */
-    public static <T> Return<T> returning(T result) {
+    public static <T> TailCall<T> returning(T result) {
         return new Return<>(result);
     }
 
@@ -63,10 +149,37 @@ public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspe
      * @param <T> The type of element to be returned by the tail recursive operation
      * @return A TailCall which is not the final result of a tail recursive operation
      */
-    public static <T> Suspend<T> suspending(Supplier<TailCall<T>> s) {
+    public static <T> TailCall<T> suspending(Supplier<TailCall<T>> s) {
         return new Suspend<>(s);
     }
 
+    private static EvaluationStats stats(long steps, long start, long startBytes) {
+        long elapsed = System.nanoTime() - start;
+        long endBytes = startBytes < 0 ? -1 : AllocationCounter.currentThread();
+        return new EvaluationStats(steps, elapsed, endBytes < 0 ? -1 : endBytes - startBytes);
+    }
+
+    private static EvaluationAbortedException abort(
+            String reason, EvaluationEvent event, EvaluationOptions options, long steps, long start, long startBytes) {
+        EvaluationStats stats = stats(steps, start, startBytes);
+        commit(event, options, stats, true);
+        return new EvaluationAbortedException(reason, stats);
+    }
+
+    private static void commit(
+            EvaluationEvent event, EvaluationOptions options, EvaluationStats stats, boolean aborted) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (stats.elapsedNanos() >= options.eventThreshold().toNanos() && event.shouldCommit()) {
+            event.steps = stats.steps();
+            event.allocatedBytes = stats.allocatedBytes();
+            event.aborted = aborted;
+            event.commit();
+        }
+    }
+
     /**
      * Represents the final result of a recursive operation, storing that value
      * in this objects result variable
@@ -143,8 +256,8 @@ public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspe
         @Override
         public T evaluate() {
             TailCall<T> tailRec = this;
-            while (tailRec.isSuspend()) {
-                tailRec = tailRec.resume();
+            while (tailRec instanceof Suspend<T> suspend) {
+                tailRec = suspend.resume();
             }
             return tailRec.evaluate();
         }
@@ -159,4 +272,79 @@ public abstract sealed class TailCall<T> permits TailCall.Return, TailCall.Suspe
             return true;
         }
     }
+
+    /**
+     * Represents an operation whose result is passed to a function producing the next operation
+     *
+     * @param <T> The type of element returned by the first operation
+     * @param <U> The type of element returned by the operation produced by the function
+     */
+    protected static final class FlatMap<T, U> extends TailCall<U> {
+        private final TailCall<T> source;
+        private final Function<T, TailCall<U>> f;
+
+        private FlatMap(TailCall<T> source, Function<T, TailCall<U>> f) {
+            this.source = source;
+            this.f = f;
+        }
+
+        /**
+         * Performs a single step of this operation. Left nested operations are reassociated to the right,
+         * so that stepping through any operation one resume at a time never grows the stack
+         *
+         * @return The next TailCall in the operation
+         */
+        @Override
+        public TailCall<U> resume() {
+            if (source instanceof Return<T> returning) {
+                return f.apply(returning.result);
+            }
+            if (source instanceof Suspend<T> suspend) {
+                return suspend.resume().flatMap(f);
+            }
+            return ((FlatMap<?, T>) source).reassociate(f);
+        }
+
+        private <V> TailCall<V> reassociate(Function<U, TailCall<V>> g) {
+            return source.flatMap(t -> f.apply(t).flatMap(g));
+        }
+
+        /**
+         * Evaluates this operation in constant stack space, keeping pending functions on a heap allocated
+         * stack. Functions of left nested operations are pushed in reverse order of application, which
+         * reassociates them without allocation, and keeps evaluation linear in the number of operations
+         *
+         * @return The result of this operation
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public U evaluate() {
+            Deque<Function<Object, TailCall<Object>>> continuations = new ArrayDeque<>();
+            TailCall<Object> current = (TailCall<Object>) (TailCall<?>) this;
+            while (true) {
+                if (current instanceof FlatMap<?, ?> flatMap) {
+                    continuations.push((Function<Object, TailCall<Object>>) (Function<?, ?>) flatMap.f);
+                    current = (TailCall<Object>) flatMap.source;
+                } else if (current instanceof Suspend<Object> suspend) {
+                    current = suspend.resume();
+                } else {
+                    Object result = ((Return<Object>) current).result;
+                    if (continuations.isEmpty()) {
+                        return (U) result;
+                    }
+                    current = continuations.pop().apply(result);
+                }
+            }
+        }
+
+        /**
+         * Indicates if this object is a suspending operation
+         *
+         * @return True, object is a suspending operation
+         */
+        @Override
+        public boolean isSuspend() {
+            return true;
+        }
+    }
 }
@@ -1,11 +1,44 @@
 package com.tajacks.libraries.functional.utilities;
 
+import com.tajacks.libraries.functional.common.DoubleBinaryFunction;
+import com.tajacks.libraries.functional.common.DoubleEffect;
+import com.tajacks.libraries.functional.common.DoubleToDoubleFunction;
 import com.tajacks.libraries.functional.common.Effect;
 import com.tajacks.libraries.functional.common.Function;
+import com.tajacks.libraries.functional.common.IntBinaryFunction;
+import com.tajacks.libraries.functional.common.IntEffect;
+import com.tajacks.libraries.functional.common.IntFunction;
+import com.tajacks.libraries.functional.common.IntToDoubleFunction;
+import com.tajacks.libraries.functional.common.IntToIntFunction;
+import com.tajacks.libraries.functional.common.IntToLongFunction;
+import com.tajacks.libraries.functional.common.LongBinaryFunction;
+import com.tajacks.libraries.functional.common.LongEffect;
+import com.tajacks.libraries.functional.common.LongFunction;
+import com.tajacks.libraries.functional.common.LongToDoubleFunction;
+import com.tajacks.libraries.functional.common.LongToLongFunction;
+import com.tajacks.libraries.functional.common.ToDoubleFunction;
+import com.tajacks.libraries.functional.common.ToIntFunction;
+import com.tajacks.libraries.functional.common.ToLongFunction;
+import com.tajacks.libraries.functional.containers.Couple;
+import com.tajacks.libraries.functional.containers.CoupleColumns;
+import com.tajacks.libraries.functional.containers.IntRange;
+import com.tajacks.libraries.functional.containers.LongRange;
+import com.tajacks.libraries.functional.containers.PList;
+import com.tajacks.libraries.functional.containers.PVector;
+import com.tajacks.libraries.functional.containers.Triple;
+import com.tajacks.libraries.functional.containers.TripleColumns;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class CollectionUtilities {
 
+    /**
+     * The default maximum number of elements processed sequentially by a single task of a parallel operation
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
     /**
      * Returns an immutable empty list
      *
@@ -60,13 +93,372 @@ public class CollectionUtilities {
      * @return An immutable list containing the results of applying the given mapping function to each item in the list
      */
     public static <T, U> List<U> map(Collection<T> toMap, Function<T, U> toApply) {
-        List<U> mappedList = new ArrayList<>();
+        List<U> mappedList = new ArrayList<>(toMap.size());
         for (T value : toMap) {
             mappedList.add(toApply.apply(value));
         }
         return mappedList;
     }
 
+    /**
+     * Given a persistent list, apply a mapping function to each element in the list and return the resulting list
+     *
+     * @param toMap   The list containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the list
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return A persistent list containing the results of applying the given mapping function to each item in the list
+     */
+    public static <T, U> PList<U> map(PList<T> toMap, Function<T, U> toApply) {
+        return toMap.map(toApply);
+    }
+
+    /**
+     * Returns an immutable view of the given list whose elements are the results of applying the mapping function
+     * to the elements of the list. Nothing is mapped until an element is accessed, and the function is applied
+     * again on every access. The view shares the given list, which should not be modified while the view is in use
+     *
+     * @param toMap   The list containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the list
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return An immutable view of the results of applying the mapping function to each element
+     */
+    public static <T, U> List<U> mapView(List<T> toMap, Function<T, U> toApply) {
+        return mapView(toMap, toApply, false);
+    }
+
+    /**
+     * Returns an immutable view of the given list whose elements are the results of applying the mapping function
+     * to the elements of the list. Nothing is mapped until an element is accessed. If cached, each result is kept
+     * after its first access so the function is applied at most once per element, barring concurrent first access.
+     * The view shares the given list, which should not be modified while the view is in use
+     *
+     * @param toMap   The list containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param cached  True to keep each result after it is first computed, false to recompute it on every access
+     * @param <T>     The type of elements in the list
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return An immutable view of the results of applying the mapping function to each element
+     */
+    public static <T, U> List<U> mapView(List<T> toMap, Function<T, U> toApply, boolean cached) {
+        return new MappedView<>(randomAccess(toMap), toApply, cached);
+    }
+
+    /**
+     * Given an array of ints, apply a mapping function to each element and return a new array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return A new array containing the results of applying the given mapping function to each element
+     */
+    public static int[] map(int[] toMap, IntToIntFunction toApply) {
+        int[] result = new int[toMap.length];
+        for (int i = 0; i < toMap.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given an array of longs, apply a mapping function to each element and return a new array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return A new array containing the results of applying the given mapping function to each element
+     */
+    public static long[] map(long[] toMap, LongToLongFunction toApply) {
+        long[] result = new long[toMap.length];
+        for (int i = 0; i < toMap.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given an array of doubles, apply a mapping function to each element and return a new array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return A new array containing the results of applying the given mapping function to each element
+     */
+    public static double[] map(double[] toMap, DoubleToDoubleFunction toApply) {
+        double[] result = new double[toMap.length];
+        for (int i = 0; i < toMap.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of ints, apply a mapping function to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static int[] map(IntRange toMap, IntToIntFunction toApply) {
+        int[] result = new int[toMap.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of longs, apply a mapping function to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     * @throws IllegalStateException if the range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public static long[] map(LongRange toMap, LongToLongFunction toApply) {
+        long[] result = new long[arrayLength(toMap)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Given an array of ints, apply a mapping function producing a long to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static long[] mapToLong(int[] toMap, IntToLongFunction toApply) {
+        long[] result = new long[toMap.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of ints, apply a mapping function producing a long to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static long[] mapToLong(IntRange toMap, IntToLongFunction toApply) {
+        long[] result = new long[toMap.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Given an array of ints, apply a mapping function producing a double to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static double[] mapToDouble(int[] toMap, IntToDoubleFunction toApply) {
+        double[] result = new double[toMap.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of ints, apply a mapping function producing a double to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static double[] mapToDouble(IntRange toMap, IntToDoubleFunction toApply) {
+        double[] result = new double[toMap.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Given an array of longs, apply a mapping function producing a double to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The array containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static double[] mapToDouble(long[] toMap, LongToDoubleFunction toApply) {
+        double[] result = new double[toMap.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of longs, apply a mapping function producing a double to each element and return an array of the results.
+     * No element is boxed
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @return An array containing the results of applying the given mapping function to each element
+     * @throws IllegalStateException if the range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public static double[] mapToDouble(LongRange toMap, LongToDoubleFunction toApply) {
+        double[] result = new double[arrayLength(toMap)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toApply.apply(toMap.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Given a collection, apply a mapping function producing an int to each element and return an array of the results.
+     * No result is boxed
+     *
+     * @param toMap   The collection containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the collection
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static <T> int[] mapToInt(Collection<T> toMap, ToIntFunction<T> toApply) {
+        int[] result = new int[toMap.size()];
+        int i = 0;
+        for (T value : toMap) {
+            result[i++] = toApply.apply(value);
+        }
+        return result;
+    }
+
+    /**
+     * Given a collection, apply a mapping function producing a long to each element and return an array of the results.
+     * No result is boxed
+     *
+     * @param toMap   The collection containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the collection
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static <T> long[] mapToLong(Collection<T> toMap, ToLongFunction<T> toApply) {
+        long[] result = new long[toMap.size()];
+        int i = 0;
+        for (T value : toMap) {
+            result[i++] = toApply.apply(value);
+        }
+        return result;
+    }
+
+    /**
+     * Given a collection, apply a mapping function producing a double to each element and return an array of the results.
+     * No result is boxed
+     *
+     * @param toMap   The collection containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the collection
+     * @return An array containing the results of applying the given mapping function to each element
+     */
+    public static <T> double[] mapToDouble(Collection<T> toMap, ToDoubleFunction<T> toApply) {
+        double[] result = new double[toMap.size()];
+        int i = 0;
+        for (T value : toMap) {
+            result[i++] = toApply.apply(value);
+        }
+        return result;
+    }
+
+    /**
+     * Given a range of ints, apply a mapping function to each element and return the resulting immutable list
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return An immutable list containing the results of applying the given mapping function to each element
+     */
+    public static <U> List<U> mapToObj(IntRange toMap, IntFunction<U> toApply) {
+        List<U> mappedList = new ArrayList<>(toMap.size());
+        for (int i = 0; i < toMap.size(); i++) {
+            mappedList.add(toApply.apply(toMap.get(i)));
+        }
+        return Collections.unmodifiableList(mappedList);
+    }
+
+    /**
+     * Given a range of longs, apply a mapping function to each element and return the resulting immutable list
+     *
+     * @param toMap   The range containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return An immutable list containing the results of applying the given mapping function to each element
+     * @throws IllegalStateException if the range contains more than {@link Integer#MAX_VALUE} elements
+     */
+    public static <U> List<U> mapToObj(LongRange toMap, LongFunction<U> toApply) {
+        int size = arrayLength(toMap);
+        List<U> mappedList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            mappedList.add(toApply.apply(toMap.get(i)));
+        }
+        return Collections.unmodifiableList(mappedList);
+    }
+
+    /**
+     * Applies a mapping function to each element of a collection in parallel on the common {@link ForkJoinPool},
+     * using the {@link #DEFAULT_PARALLEL_THRESHOLD}
+     *
+     * @param toMap   The collection containing elements which will have the mapping function applied
+     * @param toApply The mapping function to apply to each element
+     * @param <T>     The type of elements in the collection
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return An immutable list containing the results of applying the mapping function, in encounter order
+     * @see #parallelMap(Collection, Function, int, ForkJoinPool)
+     */
+    public static <T, U> List<U> parallelMap(Collection<T> toMap, Function<T, U> toApply) {
+        return parallelMap(toMap, toApply, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a mapping function to each element of a collection in parallel, preserving encounter order.
+     * The input is split into chunks of at most threshold elements, each of which is mapped by a single task
+     * into its slot of a presized result array. Collections no larger than the threshold are mapped on the
+     * calling thread. The degree of parallelism is that of the given pool.
+     *
+     * @param toMap     The collection containing elements which will have the mapping function applied
+     * @param toApply   The mapping function to apply to each element
+     * @param threshold The maximum number of elements mapped sequentially by a single task
+     * @param pool      The pool to run the mapping operation on
+     * @param <T>       The type of elements in the collection
+     * @param <U>       The type of elements resulting from the mapping operation
+     * @return An immutable list containing the results of applying the mapping function, in encounter order
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public static <T, U> List<U> parallelMap(
+            Collection<T> toMap, Function<T, U> toApply, int threshold, ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        List<T> source = toMap instanceof List<T> list && list instanceof RandomAccess ? list : copyMutable(toMap);
+        Object[] results = new Object[source.size()];
+        MapTask<T, U> task = new MapTask<>(source, results, 0, results.length, toApply, threshold);
+        if (results.length <= threshold) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        @SuppressWarnings("unchecked")
+        List<U> mapped = (List<U>) Arrays.asList(results);
+        return Collections.unmodifiableList(mapped);
+    }
+
     /**
      * Retrieves the optional first element in a list. If the list is empty, returns an empty optional
      *
@@ -78,6 +470,17 @@ public class CollectionUtilities {
         return list.isEmpty() ? Optional.empty() : Optional.ofNullable(list.get(0));
     }
 
+    /**
+     * Retrieves the optional first element in a persistent list. If the list is empty, returns an empty optional
+     *
+     * @param list The list to retrieve the first element from
+     * @param <T>  The type of elements in the list
+     * @return An Optional containing either the first element in the list, or, nothing if the list is empty
+     */
+    public static <T> Optional<T> head(PList<T> list) {
+        return list.headOption();
+    }
+
     /**
      * Returns an immutable list containing all elements following the head of the given list
      *
@@ -94,6 +497,32 @@ public class CollectionUtilities {
         return Collections.unmodifiableList(workingList);
     }
 
+    /**
+     * Returns the persistent list containing all elements following the head of the given list.
+     * No elements are copied; the result shares its structure with the given list
+     *
+     * @param list The list of items to retrieve the tail from
+     * @param <T>  The type of elements in the list
+     * @return A list of elements following the head. An empty list if the list is empty or contains only a single element
+     */
+    public static <T> PList<T> tail(PList<T> list) {
+        return list.isEmpty() ? list : list.tail();
+    }
+
+    /**
+     * Returns an immutable view of all elements following the head of the given list. No elements are copied,
+     * and the tail of a view is another view of the same list, so walking a list by repeatedly taking its tail
+     * view is linear rather than quadratic. The view shares the given list, which should not be modified while
+     * the view is in use. A list without random access is copied once
+     *
+     * @param list The list of items to retrieve the tail from
+     * @param <T>  The type of elements in the list
+     * @return A view of the elements following the head. An empty list if the list is empty or contains only a single element
+     */
+    public static <T> List<T> tailView(List<T> list) {
+        return TailView.of(randomAccess(list));
+    }
+
     /**
      * Returns an immutable list containing all elements of the given list as well as the given element in the last position of the list
      *
@@ -108,6 +537,32 @@ public class CollectionUtilities {
         return Collections.unmodifiableList(copiedList);
     }
 
+    /**
+     * Returns a persistent list containing all elements of the given list as well as the given element in the last position.
+     * This is a linear time operation; prefer {@link #prepend(Object, PList)} where possible
+     *
+     * @param toAdd The item to add to the list
+     * @param list  The list to add the item to
+     * @param <T>   The type of elements in the list
+     * @return A persistent list containing all items in the original list as well as the given item in the last position
+     */
+    public static <T> PList<T> append(T toAdd, PList<T> list) {
+        return list.append(toAdd);
+    }
+
+    /**
+     * Returns a persistent vector containing all elements of the given vector as well as the given element in the last
+     * position. This is an effectively constant time operation which shares the structure of the given vector
+     *
+     * @param toAdd  The item to add to the vector
+     * @param vector The vector to add the item to
+     * @param <T>    The type of elements in the vector
+     * @return A persistent vector containing all items in the original vector as well as the given item in the last position
+     */
+    public static <T> PVector<T> append(T toAdd, PVector<T> vector) {
+        return vector.append(toAdd);
+    }
+
     /**
      * Returns an immutable list containing all elements of the given list as well as the given element in the first position of the list
      *
@@ -122,6 +577,19 @@ public class CollectionUtilities {
         return Collections.unmodifiableList(copiedList);
     }
 
+    /**
+     * Returns a persistent list containing the given element in the first position followed by all elements of the
+     * given list. This is a constant time operation which shares the structure of the given list
+     *
+     * @param toAdd The item to add to the list
+     * @param list  The list to add the item to
+     * @param <T>   The type of elements in the list
+     * @return A persistent list containing the given item in the first position followed by all items in the original list
+     */
+    public static <T> PList<T> prepend(T toAdd, PList<T> list) {
+        return list.prepend(toAdd);
+    }
+
     /**
      * Folds a list starting at the left most (first) item in the list by applying the given folding function
      * against the identity and all subsequent items in the list
@@ -141,6 +609,103 @@ public class CollectionUtilities {
         return result;
     }
 
+    /**
+     * Folds a persistent list starting at the left most (first) item in the list by applying the given folding function
+     * against the identity and all subsequent items in the list
+     *
+     * @param toFold          The list to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function that transforms a T to a U, applied first to the identity and the initial item in the list
+     * @param <T>             The type of the elements in the list
+     * @param <U>             The type of element to transform T's into
+     * @return The result of folding the list by applying the folding function to each item
+     */
+    public static <T, U> U foldLeft(PList<T> toFold, U identity, Function<U, Function<T, U>> foldingFunction) {
+        return toFold.foldLeft(identity, foldingFunction);
+    }
+
+    /**
+     * Folds an array of ints starting at the left most (first) element by applying the given folding function
+     * against the identity and all subsequent elements. No element is boxed
+     *
+     * @param toFold          The array to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function applied to the accumulated value and each element, first to the identity
+     *                        and the initial element
+     * @return The result of folding the array by applying the folding function to each element
+     */
+    public static int foldLeft(int[] toFold, int identity, IntBinaryFunction foldingFunction) {
+        int result = identity;
+        for (int t : toFold) {
+            result = foldingFunction.apply(result, t);
+        }
+        return result;
+    }
+
+    /**
+     * Folds an array of longs starting at the left most (first) element by applying the given folding function
+     * against the identity and all subsequent elements. No element is boxed
+     *
+     * @param toFold          The array to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function applied to the accumulated value and each element, first to the identity
+     *                        and the initial element
+     * @return The result of folding the array by applying the folding function to each element
+     */
+    public static long foldLeft(long[] toFold, long identity, LongBinaryFunction foldingFunction) {
+        long result = identity;
+        for (long t : toFold) {
+            result = foldingFunction.apply(result, t);
+        }
+        return result;
+    }
+
+    /**
+     * Folds an array of doubles starting at the left most (first) element by applying the given folding function
+     * against the identity and all subsequent elements. No element is boxed
+     *
+     * @param toFold          The array to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function applied to the accumulated value and each element, first to the identity
+     *                        and the initial element
+     * @return The result of folding the array by applying the folding function to each element
+     */
+    public static double foldLeft(double[] toFold, double identity, DoubleBinaryFunction foldingFunction) {
+        double result = identity;
+        for (double t : toFold) {
+            result = foldingFunction.apply(result, t);
+        }
+        return result;
+    }
+
+    /**
+     * Folds a range of ints starting at the left most (first) element by applying the given folding function
+     * against the identity and all subsequent elements. No element is boxed
+     *
+     * @param toFold          The range to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function applied to the accumulated value and each element, first to the identity
+     *                        and the initial element
+     * @return The result of folding the range by applying the folding function to each element
+     */
+    public static int foldLeft(IntRange toFold, int identity, IntBinaryFunction foldingFunction) {
+        return toFold.foldLeft(identity, foldingFunction);
+    }
+
+    /**
+     * Folds a range of longs starting at the left most (first) element by applying the given folding function
+     * against the identity and all subsequent elements. No element is boxed
+     *
+     * @param toFold          The range to fold left
+     * @param identity        The starting value
+     * @param foldingFunction A function applied to the accumulated value and each element, first to the identity
+     *                        and the initial element
+     * @return The result of folding the range by applying the folding function to each element
+     */
+    public static long foldLeft(LongRange toFold, long identity, LongBinaryFunction foldingFunction) {
+        return toFold.foldLeft(identity, foldingFunction);
+    }
+
     /**
      * Folds a list starting at the right most (last) item in the list by applying the given folding function
      * against the identity and all previous items in the list.
@@ -160,6 +725,117 @@ public class CollectionUtilities {
         return result;
     }
 
+    /**
+     * Folds a persistent list starting at the right most (last) item in the list by applying the given folding function
+     * against the identity and all previous items in the list.
+     *
+     * @param toFold          The list to fold right
+     * @param identity        The starting value
+     * @param foldingFunction A function that transforms a T to a U, applied first to the identity and the last item in the list
+     * @param <T>             The type of elements in the list
+     * @param <U>             The type of element to transform T's into
+     * @return The result of folding the list by applying the folding function to each item
+     */
+    public static <T, U> U foldRight(PList<T> toFold, U identity, Function<T, Function<U, U>> foldingFunction) {
+        return toFold.foldRight(identity, foldingFunction);
+    }
+
+    /**
+     * Folds a list in parallel on the common {@link ForkJoinPool}, using the {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param toFold      The list to fold
+     * @param identity    The starting value of each partial fold, which must be an identity of the combiner
+     * @param accumulator A function folding an element into a partial result
+     * @param combiner    An associative function combining two partial results
+     * @param <T>         The type of the elements in the list
+     * @param <U>         The type of the folded result
+     * @return The result of folding the list
+     * @see #parallelFold(List, Object, Function, Function, int, ForkJoinPool)
+     */
+    public static <T, U> U parallelFold(
+            List<T> toFold, U identity, Function<U, Function<T, U>> accumulator, Function<U, Function<U, U>> combiner) {
+        return parallelFold(
+                toFold, identity, accumulator, combiner, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Folds a list in parallel by recursively splitting it into ranges of at most threshold elements.
+     * Each range is folded sequentially from the identity using the accumulator, and the partial results
+     * are combined in encounter order using the combiner.
+     * <p>
+     * If the combiner is associative, the identity is an identity of the combiner and
+     * {@code combiner(u)(accumulator(identity)(t))} equals {@code accumulator(u)(t)}, the result is the same as
+     * that of {@link #foldLeft(List, Object, Function)}, even if the combiner is not commutative.
+     *
+     * @param toFold      The list to fold
+     * @param identity    The starting value of each partial fold, which must be an identity of the combiner
+     * @param accumulator A function folding an element into a partial result
+     * @param combiner    An associative function combining two partial results
+     * @param threshold   The maximum number of elements folded sequentially by a single task
+     * @param pool        The pool to run the fold on
+     * @param <T>         The type of the elements in the list
+     * @param <U>         The type of the folded result
+     * @return The result of folding the list
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public static <T, U> U parallelFold(
+            List<T> toFold,
+            U identity,
+            Function<U, Function<T, U>> accumulator,
+            Function<U, Function<U, U>> combiner,
+            int threshold,
+            ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        List<T> source = toFold instanceof RandomAccess ? toFold : copyMutable(toFold);
+        return pool.invoke(new FoldTask<>(source, 0, source.size(), identity, accumulator, combiner, threshold));
+    }
+
+    /**
+     * Maps each element of a list and reduces the results in parallel on the common {@link ForkJoinPool},
+     * using the {@link #DEFAULT_PARALLEL_THRESHOLD}
+     *
+     * @param toReduce The list to map and reduce
+     * @param mapper   The mapping function to apply to each element
+     * @param identity The identity of the combiner
+     * @param combiner An associative function combining two results
+     * @param <T>      The type of the elements in the list
+     * @param <U>      The type of the reduced result
+     * @return The result of combining the mapped elements in encounter order
+     * @see #mapReduce(List, Function, Object, Function, int, ForkJoinPool)
+     */
+    public static <T, U> U mapReduce(
+            List<T> toReduce, Function<T, U> mapper, U identity, Function<U, Function<U, U>> combiner) {
+        return mapReduce(toReduce, mapper, identity, combiner, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Maps each element of a list and reduces the results in parallel. Equivalent to
+     * {@code parallelFold(toReduce, identity, u -> t -> combiner(u)(mapper(t)), combiner, threshold, pool)}
+     *
+     * @param toReduce  The list to map and reduce
+     * @param mapper    The mapping function to apply to each element
+     * @param identity  The identity of the combiner
+     * @param combiner  An associative function combining two results
+     * @param threshold The maximum number of elements processed sequentially by a single task
+     * @param pool      The pool to run the operation on
+     * @param <T>       The type of the elements in the list
+     * @param <U>       The type of the reduced result
+     * @return The result of combining the mapped elements in encounter order
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public static <T, U> U mapReduce(
+            List<T> toReduce,
+            Function<T, U> mapper,
+            U identity,
+            Function<U, Function<U, U>> combiner,
+            int threshold,
+            ForkJoinPool pool) {
+        return parallelFold(
+                toReduce, identity, u -> t -> combiner.apply(u).apply(mapper.apply(t)), combiner, threshold, pool);
+    }
+
     /**
      * Reveres the order of items in the given list and return an immutable copy
      *
@@ -173,6 +849,30 @@ public class CollectionUtilities {
         return Collections.unmodifiableList(workingCopy);
     }
 
+    /**
+     * Reverses the order of items in the given persistent list
+     *
+     * @param toReverse The list to reverse
+     * @param <T>       The type of elements in the list
+     * @return A persistent list containing the elements in the given list in reverse order
+     */
+    public static <T> PList<T> reverse(PList<T> toReverse) {
+        return toReverse.reverse();
+    }
+
+    /**
+     * Returns an immutable view of the given list in reverse order. No elements are copied; each index is
+     * mirrored onto the given list. The view shares the given list, which should not be modified while the view
+     * is in use. A list without random access is copied once
+     *
+     * @param toReverse The list to reverse
+     * @param <T>       The type of elements in the list
+     * @return An immutable view of the elements in the given list in reverse order
+     */
+    public static <T> List<T> reverseView(List<T> toReverse) {
+        return ReverseView.of(randomAccess(toReverse));
+    }
+
     /**
      * Applies an effect to each item in a collection
      *
@@ -186,6 +886,157 @@ public class CollectionUtilities {
         }
     }
 
+    /**
+     * Applies an effect to each item in a persistent list
+     *
+     * @param ts     The list of items to apply an effect against
+     * @param effect The effect to apply to each item in the list
+     * @param <T>    The type of elements present in the list
+     */
+    public static <T> void forEach(PList<T> ts, Effect<T> effect) {
+        for (T t : ts) {
+            effect.apply(t);
+        }
+    }
+
+    /**
+     * Applies an effect to each element of an array of ints. No element is boxed
+     *
+     * @param ts     The array of elements to apply an effect against
+     * @param effect The effect to apply to each element in the array
+     */
+    public static void forEach(int[] ts, IntEffect effect) {
+        for (int t : ts) {
+            effect.apply(t);
+        }
+    }
+
+    /**
+     * Applies an effect to each element of an array of longs. No element is boxed
+     *
+     * @param ts     The array of elements to apply an effect against
+     * @param effect The effect to apply to each element in the array
+     */
+    public static void forEach(long[] ts, LongEffect effect) {
+        for (long t : ts) {
+            effect.apply(t);
+        }
+    }
+
+    /**
+     * Applies an effect to each element of an array of doubles. No element is boxed
+     *
+     * @param ts     The array of elements to apply an effect against
+     * @param effect The effect to apply to each element in the array
+     */
+    public static void forEach(double[] ts, DoubleEffect effect) {
+        for (double t : ts) {
+            effect.apply(t);
+        }
+    }
+
+    /**
+     * Applies an effect to each element of a range of ints. No element is boxed
+     *
+     * @param ts     The range of elements to apply an effect against
+     * @param effect The effect to apply to each element in the range
+     */
+    public static void forEach(IntRange ts, IntEffect effect) {
+        ts.forEachInt(effect);
+    }
+
+    /**
+     * Applies an effect to each element of a range of longs. No element is boxed
+     *
+     * @param ts     The range of elements to apply an effect against
+     * @param effect The effect to apply to each element in the range
+     */
+    public static void forEach(LongRange ts, LongEffect effect) {
+        ts.forEachLong(effect);
+    }
+
+    /**
+     * Applies an effect to each item in a collection concurrently, with at most maxConcurrency effects running
+     * at once, failing fast on the first failure. Returns once every started effect has completed.
+     *
+     * @param ts             The collection of items to apply an effect against
+     * @param effect         The effect to apply to each item in the collection
+     * @param maxConcurrency The maximum number of effects running at once
+     * @param <T>            The type of elements present in the collection
+     * @see #forEachConcurrent(Collection, Effect, int, ErrorMode, Function, Executor)
+     */
+    public static <T> void forEachConcurrent(Collection<T> ts, Effect<T> effect, int maxConcurrency) {
+        forEachConcurrent(ts, effect, maxConcurrency, ErrorMode.FAIL_FAST);
+    }
+
+    /**
+     * Applies an effect to each item in a collection concurrently, with at most maxConcurrency effects running
+     * at once. Returns once every started effect has completed.
+     *
+     * @param ts             The collection of items to apply an effect against
+     * @param effect         The effect to apply to each item in the collection
+     * @param maxConcurrency The maximum number of effects running at once
+     * @param errorMode      How failures of the effect are handled
+     * @param <T>            The type of elements present in the collection
+     * @see #forEachConcurrent(Collection, Effect, int, ErrorMode, Function, Executor)
+     */
+    public static <T> void forEachConcurrent(
+            Collection<T> ts, Effect<T> effect, int maxConcurrency, ErrorMode errorMode) {
+        ConcurrentForEach.forEach(ts, effect, maxConcurrency, errorMode, null, null);
+    }
+
+    /**
+     * Applies an effect to each item in a collection concurrently, with at most maxConcurrency effects running
+     * at once. Items sharing the same ordering key are applied one at a time, in encounter order.
+     * Returns once every started effect has completed.
+     *
+     * @param ts             The collection of items to apply an effect against
+     * @param effect         The effect to apply to each item in the collection
+     * @param maxConcurrency The maximum number of effects running at once
+     * @param errorMode      How failures of the effect are handled
+     * @param orderingKey    A function computing the key whose items must be applied in order
+     * @param <T>            The type of elements present in the collection
+     * @param <K>            The type of the ordering key
+     * @see #forEachConcurrent(Collection, Effect, int, ErrorMode, Function, Executor)
+     */
+    public static <T, K> void forEachConcurrent(
+            Collection<T> ts, Effect<T> effect, int maxConcurrency, ErrorMode errorMode, Function<T, K> orderingKey) {
+        ConcurrentForEach.forEach(ts, effect, maxConcurrency, errorMode, Objects.requireNonNull(orderingKey), null);
+    }
+
+    /**
+     * Applies an effect to each item in a collection concurrently, with at most maxConcurrency effects running
+     * at once. Intended for latency bound effects, such as I/O, where throughput is limited by the latency
+     * of each effect rather than by CPU.
+     * <p>
+     * If no executor is given, each effect runs on its own thread: a virtual thread when the running Java
+     * release supports them, otherwise a platform thread. The number of live threads is bounded by maxConcurrency.
+     * <p>
+     * Returns once every started effect has completed. If any effect failed, the first failure is then thrown
+     * with any further failures attached as suppressed exceptions. If the calling thread is interrupted, no
+     * further effects are started and a {@link CancellationException} is thrown once started effects complete.
+     *
+     * @param ts             The collection of items to apply an effect against
+     * @param effect         The effect to apply to each item in the collection
+     * @param maxConcurrency The maximum number of effects running at once
+     * @param errorMode      How failures of the effect are handled
+     * @param orderingKey    A function computing the key whose items must be applied in order, or null if
+     *                       items may be applied in any order
+     * @param executor       The executor to run effects on, or null to run each effect on its own thread
+     * @param <T>            The type of elements present in the collection
+     * @param <K>            The type of the ordering key
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     */
+    public static <T, K> void forEachConcurrent(
+            Collection<T> ts,
+            Effect<T> effect,
+            int maxConcurrency,
+            ErrorMode errorMode,
+            Function<T, K> orderingKey,
+            Executor executor) {
+        ConcurrentForEach.forEach(ts, effect, maxConcurrency, errorMode, orderingKey, executor);
+    }
+
     /**
      * Unfolds starting from an initial seed value, resulting in a list
      *
@@ -196,61 +1047,162 @@ public class CollectionUtilities {
      * @return A list containing the items resulting from the unfolding operation
      */
     public static <T> List<T> unfold(T seed, Function<T, T> unfolder, Function<T, Boolean> predicate) {
+        return unfold(seed, unfolder, predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Unfolds starting from an initial seed value, resulting in a list of at most the given number of elements.
+     * Unfolding stops as soon as either the predicate fails or the limit is reached
+     *
+     * @param seed      The starting value of the unfolding operation
+     * @param unfolder  A function which takes a T and makes another T
+     * @param predicate The predicate to apply to the current value indicating if unfolding should continue
+     * @param limit     The maximum number of elements to produce
+     * @param <T>       The type of elements in the resulting list
+     * @return A list containing the items resulting from the unfolding operation
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public static <T> List<T> unfold(T seed, Function<T, T> unfolder, Function<T, Boolean> predicate, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
         List<T> results = new ArrayList<>();
         T temp = seed;
-        while (predicate.apply(temp)) {
-            results = append(temp, results);
-            temp = unfolder.apply(temp);
+        while (results.size() < limit && predicate.apply(temp)) {
+            results.add(temp);
+            if (results.size() < limit) {
+                temp = unfolder.apply(temp);
+            }
         }
         return Collections.unmodifiableList(results);
     }
 
+    /**
+     * Pairs the elements of the given lists by index. If the lists differ in size, the elements beyond the
+     * end of the shorter list are ignored. The couples are stored column by column, with primitive columns
+     * where possible; see {@link CoupleColumns}
+     *
+     * @param firsts  The first values of the couples
+     * @param seconds The second values of the couples
+     * @param <A>     The type of the first value of each couple
+     * @param <B>     The type of the second value of each couple
+     * @return The columns of the couples formed from the given lists
+     * @throws NullPointerException if either list contains null
+     */
+    public static <A, B> CoupleColumns<A, B> zip(List<A> firsts, List<B> seconds) {
+        return CoupleColumns.zip(firsts, seconds);
+    }
+
+    /**
+     * Combines the elements of the given lists by index. If the lists differ in size, the elements beyond the
+     * end of the shortest list are ignored. The triples are stored column by column, with primitive columns
+     * where possible; see {@link TripleColumns}
+     *
+     * @param firsts  The first values of the triples
+     * @param seconds The second values of the triples
+     * @param thirds  The third values of the triples
+     * @param <A>     The type of the first value of each triple
+     * @param <B>     The type of the second value of each triple
+     * @param <C>     The type of the third value of each triple
+     * @return The columns of the triples formed from the given lists
+     * @throws NullPointerException if any list contains null
+     */
+    public static <A, B, C> TripleColumns<A, B, C> zip(List<A> firsts, List<B> seconds, List<C> thirds) {
+        return TripleColumns.zip(firsts, seconds, thirds);
+    }
+
+    /**
+     * Splits the given couples into a column of first values and a column of second values
+     *
+     * @param couples The couples to split
+     * @param <A>     The type of the first value of each couple
+     * @param <B>     The type of the second value of each couple
+     * @return The columns of the given couples
+     */
+    public static <A, B> CoupleColumns<A, B> unzip(Collection<Couple<A, B>> couples) {
+        return CoupleColumns.from(couples);
+    }
+
+    /**
+     * Splits the given triples into one column per component
+     *
+     * @param triples The triples to split
+     * @param <A>     The type of the first value of each triple
+     * @param <B>     The type of the second value of each triple
+     * @param <C>     The type of the third value of each triple
+     * @return The columns of the given triples
+     */
+    public static <A, B, C> TripleColumns<A, B, C> unzip3(Collection<Triple<A, B, C>> triples) {
+        return TripleColumns.from(triples);
+    }
+
     /**
      * Returns an immutable list of integers from the start value to the end value - 1.
+     * The list is a constant memory view; elements are computed as they are accessed.
      * If the end value is smaller or equal to the start value, the list is empty
      *
      * @param start The start of the range
      * @param end   The end of the range
      * @return An immutable list of integers from the start value to the end value - 1
+     * @see IntRange#exclusive(int, int)
      */
     public static List<Integer> intRangeExclusive(int start, int end) {
-        return unfold(start, i -> i + 1, i -> i < end);
+        return IntRange.exclusive(start, end).asList();
     }
 
     /**
      * Returns an immutable list of integers from the start value to the end value.
+     * The list is a constant memory view; elements are computed as they are accessed.
      * If the end value is smaller than the start value, the list is empty
      *
      * @param start The start of the range
      * @param end   The end of the range
      * @return An immutable list of integers from the start value to the end value
+     * @see IntRange#inclusive(int, int)
      */
     public static List<Integer> intRangeInclusive(int start, int end) {
-        return unfold(start, i -> i + 1, i -> i <= end);
+        return IntRange.inclusive(start, end).asList();
     }
 
     /**
      * Returns an immutable list of longs from the start value to the end value - 1.
+     * The list is a constant memory view; elements are computed as they are accessed.
      * If the end value is smaller or equal to the start value, the list is empty
      *
      * @param start The start of the range
      * @param end   The end of the range
      * @return An immutable list of longs from the start value to the end value - 1
+     * @throws IllegalStateException if the range contains more than {@link Integer#MAX_VALUE} elements
+     * @see LongRange#exclusive(long, long)
      */
     public static List<Long> longRangeExclusive(long start, long end) {
-        return unfold(start, i -> i + 1, i -> i < end);
+        return LongRange.exclusive(start, end).asList();
     }
 
     /**
      * Returns an immutable list of longs from the start value to the end value.
+     * The list is a constant memory view; elements are computed as they are accessed.
      * If the end value is smaller than the start value, the list is empty
      *
      * @param start The start of the range
      * @param end   The end of the range
      * @return An immutable list of longs from the start value to the end value
+     * @throws IllegalStateException if the range contains more than {@link Integer#MAX_VALUE} elements
+     * @see LongRange#inclusive(long, long)
      */
     public static List<Long> longRangeInclusive(long start, long end) {
-        return unfold(start, i -> i + 1, i -> i <= end);
+        return LongRange.inclusive(start, end).asList();
+    }
+
+    private static int arrayLength(LongRange range) {
+        if (range.size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Range of " + range.size() + " elements exceeds Integer.MAX_VALUE");
+        }
+        return (int) range.size();
+    }
+
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : copyMutable(list);
     }
 
     // Private helper method to copy a list into a mutable list. Do not let this leak out of this class
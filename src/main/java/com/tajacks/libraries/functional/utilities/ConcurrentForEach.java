@@ -0,0 +1,183 @@
+package com.tajacks.libraries.functional.utilities;
+
+import com.tajacks.libraries.functional.common.Effect;
+import com.tajacks.libraries.functional.common.Function;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applies an effect to the elements of a collection concurrently, with at most a fixed number of
+ * effects in flight at any time. Do not use directly, see {@link CollectionUtilities#forEachConcurrent}
+ */
+final class ConcurrentForEach {
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutor();
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private ConcurrentForEach() {}
+
+    /**
+     * Runs the effect against every element, returning once every started effect has completed
+     *
+     * @param ts             The elements to apply the effect to
+     * @param effect         The effect to apply
+     * @param maxConcurrency The maximum number of effects running at once
+     * @param errorMode      How failures are handled
+     * @param orderingKey    If non-null, elements sharing a key are applied one at a time in encounter order
+     * @param executor       The executor to run effects on, or null to use a thread per task executor
+     */
+    static <T, K> void forEach(
+            Collection<T> ts,
+            Effect<T> effect,
+            int maxConcurrency,
+            ErrorMode errorMode,
+            Function<T, K> orderingKey,
+            Executor executor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        Objects.requireNonNull(errorMode);
+        Collection<? extends Collection<T>> groups = orderingKey == null ? singletons(ts) : group(ts, orderingKey);
+        ExecutorService owned = executor == null ? newThreadPerTaskExecutor() : null;
+        try {
+            run(groups, effect, maxConcurrency, errorMode, executor == null ? owned : executor);
+        } finally {
+            if (owned != null) {
+                owned.shutdown();
+            }
+        }
+    }
+
+    private static <T> void run(
+            Collection<? extends Collection<T>> groups,
+            Effect<T> effect,
+            int maxConcurrency,
+            ErrorMode errorMode,
+            Executor executor) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        boolean interrupted = false;
+        for (Collection<T> group : groups) {
+            if (errorMode == ErrorMode.FAIL_FAST && !failures.isEmpty()) {
+                break;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        for (T t : group) {
+                            if (errorMode == ErrorMode.FAIL_FAST && !failures.isEmpty()) {
+                                return;
+                            }
+                            effect.apply(t);
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                failures.add(e);
+                break;
+            }
+        }
+        // Every permit being available again means every submitted effect has completed
+        permits.acquireUninterruptibly(maxConcurrency);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Interrupted while applying effects");
+            failures.forEach(cancelled::addSuppressed);
+            throw cancelled;
+        }
+        rethrow(failures);
+    }
+
+    private static void rethrow(Queue<Throwable> failures) {
+        Throwable first = failures.poll();
+        if (first == null) {
+            return;
+        }
+        for (Throwable other = failures.poll(); other != null; other = failures.poll()) {
+            first.addSuppressed(other);
+        }
+        if (first instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (first instanceof Error error) {
+            throw error;
+        }
+        throw new CompletionException(first);
+    }
+
+    private static <T> Collection<List<T>> singletons(Collection<T> ts) {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<List<T>> iterator() {
+                Iterator<T> iterator = ts.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public List<T> next() {
+                        return Collections.singletonList(iterator.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ts.size();
+            }
+        };
+    }
+
+    private static <T, K> Collection<List<T>> group(Collection<T> ts, Function<T, K> orderingKey) {
+        Map<K, List<T>> groups = new LinkedHashMap<>();
+        for (T t : ts) {
+            groups.computeIfAbsent(orderingKey.apply(t), k -> new ArrayList<>()).add(t);
+        }
+        return groups.values();
+    }
+
+    // Virtual threads are used when running on a Java release which provides them
+    private static ExecutorService newThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                // Fall through to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "forEachConcurrent-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle virtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(
+                            Executors.class,
+                            "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
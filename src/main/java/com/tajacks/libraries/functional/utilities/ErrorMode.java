@@ -0,0 +1,17 @@
+package com.tajacks.libraries.functional.utilities;
+
+/**
+ * Determines how a concurrent operation reacts to an element whose processing fails
+ */
+public enum ErrorMode {
+    /**
+     * Stop starting new work as soon as a failure is observed. Work already in flight is allowed to complete,
+     * after which the first failure is thrown
+     */
+    FAIL_FAST,
+    /**
+     * Process every element regardless of failures. Once all work has completed, the first failure is thrown
+     * with all subsequent failures attached as suppressed exceptions
+     */
+    COLLECT_ALL
+}
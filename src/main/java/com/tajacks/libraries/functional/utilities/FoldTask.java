@@ -0,0 +1,57 @@
+package com.tajacks.libraries.functional.utilities;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Folds a range of a random access list by recursively splitting it in half until ranges are no larger than the
+ * threshold, folding each range sequentially from the identity and combining the partial results in order
+ *
+ * @param <T> The type of elements in the list
+ * @param <U> The type of the folded result
+ */
+final class FoldTask<T, U> extends RecursiveTask<U> {
+    private static final long serialVersionUID = 1L;
+    private final List<T> toFold;
+    private final int from;
+    private final int to;
+    private final U identity;
+    private final Function<U, Function<T, U>> accumulator;
+    private final Function<U, Function<U, U>> combiner;
+    private final int threshold;
+
+    FoldTask(
+            List<T> toFold,
+            int from,
+            int to,
+            U identity,
+            Function<U, Function<T, U>> accumulator,
+            Function<U, Function<U, U>> combiner,
+            int threshold) {
+        this.toFold = toFold;
+        this.from = from;
+        this.to = to;
+        this.identity = identity;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected U compute() {
+        if (to - from <= threshold) {
+            U result = identity;
+            for (int i = from; i < to; i++) {
+                result = accumulator.apply(result).apply(toFold.get(i));
+            }
+            return result;
+        }
+        int middle = (from + to) >>> 1;
+        FoldTask<T, U> left = new FoldTask<>(toFold, from, middle, identity, accumulator, combiner, threshold);
+        FoldTask<T, U> right = new FoldTask<>(toFold, middle, to, identity, accumulator, combiner, threshold);
+        left.fork();
+        U rightResult = right.compute();
+        return combiner.apply(left.join()).apply(rightResult);
+    }
+}
@@ -0,0 +1,45 @@
+package com.tajacks.libraries.functional.utilities;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Maps a range of a random access list into the same range of a presized output array by recursively splitting
+ * it in half until ranges are no larger than the threshold
+ *
+ * @param <T> The type of elements in the list
+ * @param <U> The type of elements resulting from the mapping operation
+ */
+final class MapTask<T, U> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final List<T> toMap;
+    private final Object[] results;
+    private final int from;
+    private final int to;
+    private final Function<T, U> toApply;
+    private final int threshold;
+
+    MapTask(List<T> toMap, Object[] results, int from, int to, Function<T, U> toApply, int threshold) {
+        this.toMap = toMap;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+        this.toApply = toApply;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                results[i] = toApply.apply(toMap.get(i));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(
+                new MapTask<>(toMap, results, from, middle, toApply, threshold),
+                new MapTask<>(toMap, results, middle, to, toApply, threshold));
+    }
+}
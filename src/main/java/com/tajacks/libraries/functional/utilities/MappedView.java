@@ -0,0 +1,48 @@
+package com.tajacks.libraries.functional.utilities;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable view of a list whose elements are the results of applying a mapping function to the elements of
+ * the source list. Elements are mapped when accessed. If the view is cached, each result is stored on first access
+ * and returned on every later access; two threads first accessing the same element at the same time may both
+ * apply the mapping function
+ *
+ * @param <T> The type of elements in the source list
+ * @param <U> The type of elements resulting from the mapping operation
+ */
+final class MappedView<T, U> extends AbstractList<U> implements RandomAccess {
+    private static final Object NULL = new Object();
+
+    private final List<T> source;
+    private final Function<T, U> toApply;
+    private final AtomicReferenceArray<Object> cache;
+
+    MappedView(List<T> source, Function<T, U> toApply, boolean cached) {
+        this.source = source;
+        this.toApply = Objects.requireNonNull(toApply);
+        this.cache = cached ? new AtomicReferenceArray<>(source.size()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public U get(int index) {
+        if (cache == null) {
+            return toApply.apply(source.get(index));
+        }
+        Object cached = cache.get(Objects.checkIndex(index, cache.length()));
+        if (cached == null) {
+            U result = toApply.apply(source.get(index));
+            cache.set(index, result == null ? NULL : result);
+            return result;
+        }
+        return cached == NULL ? null : (U) cached;
+    }
+
+    @Override
+    public int size() {
+        return cache == null ? source.size() : cache.length();
+    }
+}
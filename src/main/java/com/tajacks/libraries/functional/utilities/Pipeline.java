@@ -0,0 +1,278 @@
+package com.tajacks.libraries.functional.utilities;
+
+import com.tajacks.libraries.functional.common.Effect;
+import com.tajacks.libraries.functional.common.Function;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * A reusable, fused sequence of transformations which is applied to a source in a single pass.
+ * Unlike chaining {@link CollectionUtilities#map(Collection, Function)} and friends, no intermediate
+ * collection is created between stages: each element flows through every stage and into the terminal
+ * operation before the next element is read. Example usage:
+ *
+ * <pre>
+ * Pipeline&lt;String, Integer&gt; lengths = Pipeline.&lt;String&gt;of()
+ *         .filter(s -> !s.isBlank())
+ *         .map(String::length)
+ *         .take(100);
+ *
+ * int total = lengths.foldLeft(lines, 0, acc -> length -> acc + length);
+ * List&lt;Integer&gt; firstLengths = lengths.toList(otherLines);
+ * </pre>
+ * <p>
+ * A pipeline is immutable; adding a stage returns a new pipeline. Stateful stages, such as {@link #take(long)}
+ * and {@link #dedupe()}, start from fresh state each time a terminal operation runs, so the same pipeline may be
+ * applied to any number of sources, including concurrently from different threads. Stages which limit the number
+ * of elements stop reading the source as soon as they are satisfied, so a pipeline may be applied to an
+ * infinite source as long as it contains such a stage.
+ *
+ * @param <T> The type of elements read from the source
+ * @param <R> The type of elements produced by the pipeline
+ */
+public final class Pipeline<T, R> {
+
+    private final Function<Sink<R>, Sink<T>> transform;
+    private final boolean empty;
+
+    private Pipeline(Function<Sink<R>, Sink<T>> transform, boolean empty) {
+        this.transform = transform;
+        this.empty = empty;
+    }
+
+    /**
+     * Returns a pipeline which produces the elements of its source unchanged
+     *
+     * @param <T> The type of elements read from the source
+     * @return A pipeline with no stages
+     */
+    public static <T> Pipeline<T, T> of() {
+        return new Pipeline<>(Function.identity(), false);
+    }
+
+    /**
+     * Returns a pipeline which applies the given mapping function to each element this pipeline produces
+     *
+     * @param toApply The mapping function to apply to each element
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return A pipeline producing the results of the mapping function
+     */
+    public <U> Pipeline<T, U> map(Function<R, U> toApply) {
+        return then(downstream -> r -> downstream.accept(toApply.apply(r)));
+    }
+
+    /**
+     * Returns a pipeline which produces only the elements of this pipeline matching the given predicate
+     *
+     * @param predicate The predicate elements must match to be retained
+     * @return A pipeline producing the elements matching the predicate
+     */
+    public Pipeline<T, R> filter(Function<R, Boolean> predicate) {
+        return then(downstream -> r -> !predicate.apply(r) || downstream.accept(r));
+    }
+
+    /**
+     * Returns a pipeline which replaces each element this pipeline produces with the elements of the iterable
+     * returned by applying the given function to it
+     *
+     * @param toApply The function producing the elements to replace each element with
+     * @param <U>     The type of elements resulting from the mapping operation
+     * @return A pipeline producing the concatenation of the iterables returned by the function
+     */
+    public <U> Pipeline<T, U> flatMap(Function<R, ? extends Iterable<? extends U>> toApply) {
+        return then(downstream -> r -> {
+            for (U u : toApply.apply(r)) {
+                if (!downstream.accept(u)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Returns a pipeline which produces at most the first n elements of this pipeline, after which
+     * no more of the source is read
+     *
+     * @param n The maximum number of elements to produce
+     * @return A pipeline producing at most n elements
+     * @throws IllegalArgumentException if n is negative
+     */
+    public Pipeline<T, R> take(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        if (n == 0) {
+            // Produces nothing, so no element of the source is read at all
+            return new Pipeline<>(transform, true);
+        }
+        return then((Sink<R> downstream) -> new Sink<R>() {
+            private long remaining = n;
+
+            @Override
+            public boolean accept(R r) {
+                if (remaining == 0) {
+                    return false;
+                }
+                remaining--;
+                return downstream.accept(r) && remaining > 0;
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline which drops each element of this pipeline equal to the element immediately preceding it,
+     * so that runs of equal elements are produced once. Uses constant memory
+     *
+     * @return A pipeline producing the elements of this pipeline without consecutive duplicates
+     */
+    public Pipeline<T, R> dedupe() {
+        return then((Sink<R> downstream) -> new Sink<R>() {
+            private boolean first = true;
+            private R previous;
+
+            @Override
+            public boolean accept(R r) {
+                if (!first && Objects.equals(previous, r)) {
+                    return true;
+                }
+                first = false;
+                previous = r;
+                return downstream.accept(r);
+            }
+        });
+    }
+
+    /**
+     * Returns a pipeline which drops each element of this pipeline equal to any element produced before it.
+     * Remembers every distinct element produced, so uses memory proportional to the number of distinct elements
+     *
+     * @return A pipeline producing the distinct elements of this pipeline, in order of first occurrence
+     */
+    public Pipeline<T, R> distinct() {
+        return then(downstream -> {
+            Set<R> seen = new HashSet<>();
+            return r -> !seen.add(r) || downstream.accept(r);
+        });
+    }
+
+    /**
+     * Folds the elements this pipeline produces from the given source, starting at the first element, by applying
+     * the given folding function against the identity and all subsequent elements
+     *
+     * @param source          The source of elements to apply this pipeline to
+     * @param identity        The starting value
+     * @param foldingFunction The function applied to the accumulated value and each element
+     * @param <U>             The type of the resulting value
+     * @return The result of folding the elements produced by this pipeline
+     */
+    public <U> U foldLeft(Iterable<T> source, U identity, Function<U, Function<R, U>> foldingFunction) {
+        FoldSink<R, U> sink = new FoldSink<>(identity, foldingFunction);
+        run(source, sink);
+        return sink.result;
+    }
+
+    /**
+     * Applies an effect to each element this pipeline produces from the given source, in order
+     *
+     * @param source The source of elements to apply this pipeline to
+     * @param effect The effect to apply to each element
+     */
+    public void forEach(Iterable<T> source, Effect<R> effect) {
+        run(source, r -> {
+            effect.apply(r);
+            return true;
+        });
+    }
+
+    /**
+     * Collects the elements this pipeline produces from the given source with the given collector
+     *
+     * @param source    The source of elements to apply this pipeline to
+     * @param collector The collector to accumulate the elements with
+     * @param <A>       The type of the collector's mutable accumulation
+     * @param <C>       The type of the result of the collector
+     * @return The result of the collector
+     */
+    public <A, C> C collect(Iterable<T> source, Collector<? super R, A, C> collector) {
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super R> accumulator = collector.accumulator();
+        run(source, r -> {
+            accumulator.accept(container, r);
+            return true;
+        });
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Returns an immutable list of the elements this pipeline produces from the given source
+     *
+     * @param source The source of elements to apply this pipeline to
+     * @return An immutable list of the elements produced by this pipeline
+     */
+    public List<R> toList(Iterable<T> source) {
+        List<R> result = new ArrayList<>();
+        run(source, r -> {
+            result.add(r);
+            return true;
+        });
+        return Collections.unmodifiableList(result);
+    }
+
+    private <U> Pipeline<T, U> then(Function<Sink<U>, Sink<R>> stage) {
+        return new Pipeline<>(stage.andThen(transform), empty);
+    }
+
+    private void run(Iterable<T> source, Sink<R> terminal) {
+        if (empty) {
+            return;
+        }
+        Sink<T> sink = transform.apply(terminal);
+        if (source instanceof List<T> list && source instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (!sink.accept(list.get(i))) {
+                    return;
+                }
+            }
+            return;
+        }
+        for (T t : source) {
+            if (!sink.accept(t)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Receives the elements flowing through a single run of a pipeline
+     *
+     * @param <T> The type of elements received
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+        /**
+         * Receives an element
+         *
+         * @param t The element
+         * @return True if more elements are wanted, false if the run should stop reading the source
+         */
+        boolean accept(T t);
+    }
+
+    private static final class FoldSink<R, U> implements Sink<R> {
+        private final Function<U, Function<R, U>> foldingFunction;
+        private U result;
+
+        private FoldSink(U identity, Function<U, Function<R, U>> foldingFunction) {
+            this.result = identity;
+            this.foldingFunction = foldingFunction;
+        }
+
+        @Override
+        public boolean accept(R r) {
+            result = foldingFunction.apply(result).apply(r);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tajacks.libraries.functional.utilities;
+
+import java.util.*;
+
+/**
+ * An immutable view of a list in reverse order. Each index is mirrored onto the source list; no elements
+ * are copied. Reversing a reverse view returns an immutable view of the original source
+ *
+ * @param <T> The type of elements in the list
+ */
+final class ReverseView<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> source;
+
+    private ReverseView(List<T> source) {
+        this.source = source;
+    }
+
+    static <T> List<T> of(List<T> list) {
+        if (list instanceof ReverseView<T> view) {
+            return Collections.unmodifiableList(view.source);
+        }
+        return new ReverseView<>(list);
+    }
+
+    @Override
+    public T get(int index) {
+        int size = source.size();
+        return source.get(size - 1 - Objects.checkIndex(index, size));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
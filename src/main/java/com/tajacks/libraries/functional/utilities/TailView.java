@@ -0,0 +1,36 @@
+package com.tajacks.libraries.functional.utilities;
+
+import java.util.*;
+
+/**
+ * An immutable view of a list starting at an offset. Taking the tail of a tail view creates a view of the same
+ * source at the next offset, so any number of successive tails cost constant time and memory each
+ *
+ * @param <T> The type of elements in the list
+ */
+final class TailView<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> source;
+    private final int offset;
+
+    private TailView(List<T> source, int offset) {
+        this.source = source;
+        this.offset = offset;
+    }
+
+    static <T> List<T> of(List<T> list) {
+        if (list instanceof TailView<T> view) {
+            return new TailView<>(view.source, Math.min(view.offset + 1, view.source.size()));
+        }
+        return new TailView<>(list, Math.min(1, list.size()));
+    }
+
+    @Override
+    public T get(int index) {
+        return source.get(offset + Objects.checkIndex(index, size()));
+    }
+
+    @Override
+    public int size() {
+        return Math.max(source.size() - offset, 0);
+    }
+}
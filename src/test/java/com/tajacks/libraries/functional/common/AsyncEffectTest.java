@@ -0,0 +1,205 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncEffectTest {
+
+    @Test
+    void appliesEffect_inPublicationOrder() {
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncEffect<Integer> effect = Effect.async(seen::add)) {
+            for (int i = 0; i < 10_000; i++) {
+                effect.apply(i);
+            }
+            effect.flush();
+            assertThat(seen).hasSize(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(seen.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    void appliesEveryItem_fromManyProducers_withEachWaitStrategy() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+            AsyncOptions options = AsyncOptions.defaults().withCapacity(64).withWaitStrategy(strategy);
+            try (AsyncEffect<Integer> effect = Effect.async(seen::add, options)) {
+                List<Thread> producers = new ArrayList<>();
+                for (int p = 0; p < 4; p++) {
+                    Thread producer = new Thread(() -> {
+                        for (int i = 0; i < 1_000; i++) {
+                            effect.apply(i);
+                        }
+                    });
+                    producers.add(producer);
+                    producer.start();
+                }
+                for (Thread producer : producers) {
+                    producer.join();
+                }
+                effect.flush();
+                assertThat(seen).hasSize(4_000);
+                assertThat(effect.stats().backlog()).isEqualTo(0);
+            }
+        }
+    }
+
+    @Test
+    void dropPolicies_discardWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch consuming = new CountDownLatch(1);
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        Effect<Integer> slow = i -> {
+            consuming.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            seen.add(i);
+        };
+        AsyncOptions options = AsyncOptions.defaults()
+                .withCapacity(4)
+                .withProducerType(ProducerType.SINGLE)
+                .withOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        try (AsyncEffect<Integer> effect = Effect.async(slow, options)) {
+            effect.apply(0);
+            assertThat(consuming.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i <= 10; i++) {
+                effect.apply(i);
+            }
+            release.countDown();
+            effect.flush();
+            assertThat(seen).containsExactly(0, 7, 8, 9, 10).inOrder();
+            assertThat(effect.stats().evictedCount()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void dropPolicy_rejectsNewestWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch consuming = new CountDownLatch(1);
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        Effect<Integer> slow = i -> {
+            consuming.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            seen.add(i);
+        };
+        AsyncOptions options = AsyncOptions.defaults().withCapacity(2).withOverflowPolicy(OverflowPolicy.DROP);
+        try (AsyncEffect<Integer> effect = Effect.async(slow, options)) {
+            effect.apply(0);
+            assertThat(consuming.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i <= 5; i++) {
+                effect.apply(i);
+            }
+            release.countDown();
+            effect.flush();
+            assertThat(seen).containsExactly(0, 1, 2).inOrder();
+            assertThat(effect.stats().droppedCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void close_appliesBufferedItems_andRejectsMore() {
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        AsyncEffect<String> effect = Effect.async(seen::add);
+        effect.apply("a");
+        effect.apply("b");
+        effect.close();
+        effect.close();
+        assertThat(seen).containsExactly("a", "b").inOrder();
+        assertThrows(IllegalStateException.class, () -> effect.apply("c"));
+    }
+
+    @Test
+    void flush_rethrowsEffectFailure_once() {
+        try (AsyncEffect<String> effect = Effect.async(s -> {
+            if (s.equals("bad")) {
+                throw new IllegalArgumentException("bad item");
+            }
+        })) {
+            effect.apply("bad");
+            effect.apply("good");
+            IllegalStateException e = assertThrows(IllegalStateException.class, effect::flush);
+            assertThat(e).hasCauseThat().isInstanceOf(IllegalArgumentException.class);
+            effect.flush();
+            assertThat(effect.stats()).isEqualTo(new AsyncStats(2, 2, 0, 0, 1));
+        }
+    }
+
+    @Test
+    void flush_rethrowsEffectError_withoutStoppingConsumer() {
+        AsyncOptions options = AsyncOptions.defaults().withCapacity(2);
+        try (AsyncEffect<String> effect = Effect.async(
+                s -> {
+                    throw new AssertionError(s);
+                },
+                options)) {
+            for (int i = 0; i < 10; i++) {
+                effect.apply("item" + i);
+            }
+            IllegalStateException e = assertThrows(IllegalStateException.class, effect::flush);
+            assertThat(e).hasCauseThat().isInstanceOf(AssertionError.class);
+            assertThat(effect.stats().failedCount()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void blockedProducer_failsFast_whenClosed() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch consuming = new CountDownLatch(1);
+        AsyncEffect<Integer> effect = Effect.async(
+                i -> {
+                    consuming.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                },
+                AsyncOptions.defaults().withCapacity(2));
+        effect.apply(0);
+        assertThat(consuming.await(5, TimeUnit.SECONDS)).isTrue();
+        effect.apply(1);
+        effect.apply(2);
+        List<Throwable> thrown = Collections.synchronizedList(new ArrayList<>());
+        Thread producer = new Thread(() -> {
+            try {
+                effect.apply(3);
+            } catch (Throwable e) {
+                thrown.add(e);
+            }
+        });
+        producer.start();
+        Thread closer = new Thread(effect::close);
+        closer.start();
+        producer.join(5_000);
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(thrown).hasSize(1);
+        assertThat(thrown.get(0)).isInstanceOf(IllegalStateException.class);
+        release.countDown();
+        closer.join(5_000);
+        assertThat(closer.isAlive()).isFalse();
+    }
+
+    @Test
+    void options_rejectInvalidCapacity() {
+        assertThrows(
+                IllegalArgumentException.class, () -> AsyncOptions.defaults().withCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> AsyncOptions.defaults()
+                .withCapacity(AsyncOptions.MAXIMUM_CAPACITY + 1));
+    }
+}
@@ -0,0 +1,166 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class BatchingEffectTest {
+
+    @Test
+    void deliversFullBatches_inOrder() {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        try (BatchingEffect<Integer> effect = Effect.batching(3, Duration.ofMinutes(1), batches::add)) {
+            for (int i = 0; i < 7; i++) {
+                effect.apply(i);
+            }
+            effect.flush();
+            assertThat(batches.stream().flatMap(List::stream).toList())
+                    .containsExactly(0, 1, 2, 3, 4, 5, 6)
+                    .inOrder();
+            assertThat(batches.stream().allMatch(batch -> batch.size() <= 3)).isTrue();
+            assertThat(effect.stats().itemCount()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    void deliversPartialBatch_afterMaxDelay() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        try (BatchingEffect<String> effect = Effect.batching(100, Duration.ofMillis(20), batch -> {
+            batches.add(batch);
+            delivered.countDown();
+        })) {
+            effect.apply("a");
+            effect.apply("b");
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(batches).containsExactly(List.of("a", "b"));
+        }
+    }
+
+    @Test
+    void close_deliversBufferedItems_andRejectsMore() {
+        List<String> items = Collections.synchronizedList(new ArrayList<>());
+        BatchingEffect<String> effect = Effect.batching(100, Duration.ofMinutes(1), items::addAll);
+        effect.apply("a");
+        effect.close();
+        effect.close();
+        effect.flush();
+        assertThat(items).containsExactly("a");
+        assertThrows(IllegalStateException.class, () -> effect.apply("b"));
+    }
+
+    @Test
+    void apply_blocksWhenSinkFallsBehind() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sinkEntered = new CountDownLatch(1);
+        AtomicBoolean producerDone = new AtomicBoolean();
+        BatchingEffect<Integer> effect = Effect.batching(1, Duration.ofMinutes(1), 2, batch -> {
+            sinkEntered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        effect.apply(0);
+        assertThat(sinkEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= 3; i++) {
+                effect.apply(i);
+            }
+            producerDone.set(true);
+        });
+        producer.start();
+        producer.join(200);
+        assertThat(producerDone.get()).isFalse();
+        release.countDown();
+        producer.join(5_000);
+        assertThat(producerDone.get()).isTrue();
+        effect.close();
+        assertThat(effect.stats().itemCount()).isEqualTo(4);
+        assertThat(effect.stats().batchCount()).isEqualTo(4);
+    }
+
+    @Test
+    void flush_rethrowsSinkFailure_once() {
+        try (BatchingEffect<String> effect = Effect.batching(1, Duration.ofMinutes(1), batch -> {
+            if (batch.contains("bad")) {
+                throw new IllegalArgumentException("bad item");
+            }
+        })) {
+            effect.apply("bad");
+            effect.apply("good");
+            IllegalStateException e = assertThrows(IllegalStateException.class, effect::flush);
+            assertThat(e).hasCauseThat().isInstanceOf(IllegalArgumentException.class);
+            effect.flush();
+            assertThat(effect.stats().failedBatchCount()).isEqualTo(1);
+            assertThat(effect.stats().batchCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void flush_rethrowsSinkError_andKeepsDelivering() {
+        List<String> items = Collections.synchronizedList(new ArrayList<>());
+        try (BatchingEffect<String> effect = Effect.batching(1, Duration.ofMinutes(1), batch -> {
+            if (batch.contains("bad")) {
+                throw new AssertionError("bad item");
+            }
+            items.addAll(batch);
+        })) {
+            effect.apply("bad");
+            IllegalStateException e = assertThrows(IllegalStateException.class, effect::flush);
+            assertThat(e).hasCauseThat().isInstanceOf(AssertionError.class);
+            effect.apply("good");
+            effect.flush();
+            assertThat(items).containsExactly("good");
+        }
+    }
+
+    @Test
+    void failsFast_onceBackgroundThreadStops() {
+        BatchingEffect<String> effect = Effect.batching(
+                1, Duration.ofMinutes(1), 1, batch -> Thread.currentThread().interrupt());
+        effect.apply("a");
+        assertThrows(IllegalStateException.class, () -> {
+            for (int i = 0; i < 3; i++) {
+                effect.apply("b");
+                effect.flush();
+            }
+        });
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> effect.apply("c"));
+        assertThat(e).hasCauseThat().isInstanceOf(InterruptedException.class);
+        assertThrows(IllegalStateException.class, effect::flush);
+        assertThrows(IllegalStateException.class, effect::close);
+        effect.close();
+    }
+
+    @Test
+    void stats_recordBatchSizesAndLatency() {
+        try (BatchingEffect<Integer> effect = Effect.batching(4, Duration.ofMinutes(1), batch -> {})) {
+            for (int i = 0; i < 10; i++) {
+                effect.apply(i);
+            }
+            effect.flush();
+            BatchStats stats = effect.stats();
+            assertThat(stats.itemCount()).isEqualTo(10);
+            assertThat(stats.largestBatchSize()).isAtMost(4);
+            assertThat(stats.meanBatchSize()).isGreaterThan(0.0);
+            assertThat(stats.maxFlushLatency()).isAtLeast(stats.meanFlushLatency());
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Effect.batching(0, Duration.ofSeconds(1), batch -> {}));
+        assertThrows(IllegalArgumentException.class, () -> Effect.batching(1, Duration.ZERO, batch -> {}));
+        assertThrows(IllegalArgumentException.class, () -> Effect.batching(1, Duration.ofSeconds(1), 0, batch -> {}));
+    }
+}
@@ -35,4 +35,28 @@ class EffectTest {
         doubleListAdder.apply("Two");
         assertThat(mutableExampleList).hasSize(3);
     }
+
+    @Test
+    void canApplyLongEffectChain_inOrder_withoutOverflowingStack() {
+        List<Integer> seen = new ArrayList<>();
+        Effect<Integer> chain = seen::add;
+        for (int i = 1; i < 100_000; i++) {
+            int stage = i;
+            chain = chain.andThen(x -> seen.add(x + stage));
+        }
+        chain.apply(0);
+        assertThat(seen).hasSize(100_000);
+        assertThat(seen.get(99_999)).isEqualTo(99_999);
+    }
+
+    @Test
+    void composingComposites_flattensEffects() {
+        List<String> seen = new ArrayList<>();
+        Effect<String> first = s -> seen.add("a" + s);
+        Effect<String> twice = first.andThen(first);
+        Effect<String> fourTimes = andThen(twice, twice);
+        assertThat(((CompositeEffect<String>) fourTimes).effects()).isEqualTo(4);
+        fourTimes.apply("!");
+        assertThat(seen).containsExactly("a!", "a!", "a!", "a!");
+    }
 }
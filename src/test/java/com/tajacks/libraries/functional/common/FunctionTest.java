@@ -67,4 +67,47 @@ class FunctionTest {
                 .apply("7");
         assertThat(result).isEqualTo("1");
     }
+
+    @Test
+    void canApplyLongAndThenChain_withoutOverflowingStack() {
+        Function<Integer, Integer> chain = x -> x + 1;
+        for (int i = 1; i < 100_000; i++) {
+            chain = chain.andThen(x -> x + 1);
+        }
+        assertThat(chain.apply(0)).isEqualTo(100_000);
+    }
+
+    @Test
+    void canApplyLongComposeChain_inOrder() {
+        Function<String, String> chain = Function.identity();
+        for (int i = 0; i < 50_000; i++) {
+            int stage = i;
+            chain = chain.compose(s -> stage % 10_000 == 0 ? s + stage + "," : s);
+        }
+        assertThat(chain.apply("")).isEqualTo("40000,30000,20000,10000,0,");
+    }
+
+    @Test
+    void extendingAppliedComposite_keepsStageOrder() {
+        Function<String, String> chain = s -> s + "a";
+        chain = chain.andThen(s -> s + "b");
+        assertThat(chain.apply("")).isEqualTo("ab");
+        Function<String, String> longer = chain.andThen(s -> s + "c").compose(s -> s + "z");
+        assertThat(longer.apply("")).isEqualTo("zabc");
+        assertThat(longer.andThen(chain).apply("")).isEqualTo("zabcab");
+        assertThat(chain.apply("")).isEqualTo("ab");
+    }
+
+    @Test
+    void composingComposites_flattensStages() {
+        Function<Integer, Integer> left = stringCounter.compose(intToString);
+        Function<Integer, Integer> right = Function.<Integer>identity().andThen(x -> x * 2);
+        Function<Integer, Integer> both = left.andThen(right);
+        assertThat(both).isInstanceOf(CompositeFunction.class);
+        assertThat(((CompositeFunction<Integer, Integer>) both).stages()).isEqualTo(4);
+        assertThat(both.apply(123)).isEqualTo(6);
+        assertThat(Function.andThen(left, right).apply(5)).isEqualTo(2);
+        assertThat(((CompositeFunction<Integer, Integer>) Function.compose(right, left)).stages())
+                .isEqualTo(4);
+    }
 }
@@ -0,0 +1,88 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedTest {
+
+    @Test
+    void instrumentedFunction_recordsInvocationsAndErrors() {
+        InstrumentedFunction<Integer, Integer> function = Function.instrumented("half", x -> {
+            if (x % 2 != 0) {
+                throw new IllegalArgumentException("odd");
+            }
+            return x / 2;
+        });
+        assertThat(function.apply(4)).isEqualTo(2);
+        assertThat(function.apply(6)).isEqualTo(3);
+        assertThrows(IllegalArgumentException.class, () -> function.apply(1));
+        InvocationStats stats = function.stats();
+        assertThat(stats.name()).isEqualTo("half");
+        assertThat(stats.invocations()).isEqualTo(3L);
+        assertThat(stats.errors()).isEqualTo(1L);
+        assertThat(stats.errorRate()).isWithin(1e-9).of(1.0 / 3);
+        assertThat(stats.latency().count()).isEqualTo(3L);
+    }
+
+    @Test
+    void instrumentedEffectSupplierAndExecutable_recordInvocations() {
+        List<String> seen = new ArrayList<>();
+        InstrumentedEffect<String> effect = Effect.instrumented("effect", seen::add);
+        InstrumentedSupplier<String> supplier = Supplier.instrumented("supplier", () -> "value");
+        AtomicInteger executions = new AtomicInteger();
+        InstrumentedExecutable executable = Executable.instrumented("executable", executions::incrementAndGet);
+        effect.apply("a");
+        assertThat(supplier.get()).isEqualTo("value");
+        executable.exec();
+        executable.exec();
+        assertThat(seen).containsExactly("a");
+        assertThat(effect.stats().invocations()).isEqualTo(1L);
+        assertThat(supplier.stats().invocations()).isEqualTo(1L);
+        assertThat(executable.stats().invocations()).isEqualTo(2L);
+        assertThat(executable.name()).isEqualTo("executable");
+    }
+
+    @Test
+    void instrumentedFunction_composesAsAnyFunction() {
+        InstrumentedFunction<Integer, Integer> increment = Function.instrumented("increment", x -> x + 1);
+        Function<Integer, Integer> composed = increment.andThen(increment).andThen(x -> x * 10);
+        assertThat(composed.apply(1)).isEqualTo(30);
+        assertThat(increment.stats().invocations()).isEqualTo(2L);
+    }
+
+    @Test
+    void emitsJfrEvents_whenEnabled() throws Exception {
+        InstrumentedFunction<Integer, Integer> withEvents = Function.instrumented("traced", x -> x, true);
+        InstrumentedFunction<Integer, Integer> withoutEvents = Function.instrumented("untraced", x -> x);
+        Path dump = Files.createTempFile("invocations", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.tajacks.libraries.functional.Invocation").withThreshold(Duration.ZERO);
+            recording.start();
+            withEvents.apply(1);
+            withEvents.apply(2);
+            withoutEvents.apply(3);
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<String> names = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            if (event.getEventType().getName().equals("com.tajacks.libraries.functional.Invocation")) {
+                names.add(event.getString("name"));
+                assertThat(event.getBoolean("failed")).isFalse();
+            }
+        }
+        Files.delete(dump);
+        assertThat(names).containsExactly("traced", "traced");
+    }
+}
@@ -0,0 +1,93 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsAreContiguous_andBoundedInRelativeError() {
+        assertThat(LatencyHistogram.bucket(0)).isEqualTo(0);
+        assertThat(LatencyHistogram.bucket(31)).isEqualTo(31);
+        assertThat(LatencyHistogram.bucket(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.highestValue(LatencyHistogram.BUCKETS - 1)).isEqualTo(Long.MAX_VALUE);
+        for (long value : new long[] {1, 33, 100, 1_000, 123_456, 987_654_321, 1L << 40}) {
+            int bucket = LatencyHistogram.bucket(value);
+            long highest = LatencyHistogram.highestValue(bucket);
+            assertThat(highest).isAtLeast(value);
+            assertThat((double) (highest - value)).isAtMost(value / 32.0);
+            assertThat(LatencyHistogram.bucket(highest)).isEqualTo(bucket);
+            assertThat(LatencyHistogram.bucket(highest + 1)).isEqualTo(bucket + 1);
+        }
+    }
+
+    @Test
+    void snapshotReportsCountsPercentilesAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        histogram.record(-5);
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(1001L);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000_000L);
+        assertThat(snapshot.totalNanos()).isEqualTo(500_500_000L);
+        assertThat(snapshot.mean()).isEqualTo(Duration.ofNanos(500_000));
+        assertThat((double) snapshot.valueAtPercentile(50))
+                .isWithin(500_000 * 0.04)
+                .of(500_000);
+        assertThat((double) snapshot.valueAtPercentile(99))
+                .isWithin(990_000 * 0.04)
+                .of(990_000);
+        assertThat(snapshot.valueAtPercentile(0)).isEqualTo(0L);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(1_000_000L);
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(101));
+    }
+
+    @Test
+    void emptySnapshot_reportsZeros() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+        assertThat(snapshot.count()).isEqualTo(0L);
+        assertThat(snapshot.valueAtPercentile(99)).isEqualTo(0L);
+        assertThat(snapshot.mean()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void canExportBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(5);
+        histogram.record(100);
+        List<long[]> buckets = new ArrayList<>();
+        histogram.snapshot().forEachBucket((value, count) -> buckets.add(new long[] {value, count}));
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0)).asList().containsExactly(5L, 2L).inOrder();
+        assertThat(buckets.get(1)[1]).isEqualTo(1L);
+    }
+
+    @Test
+    void recordsConcurrently_withoutLosingCounts() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(histogram.snapshot().count()).isEqualTo(40_000L);
+        assertThat(histogram.snapshot().maxNanos()).isEqualTo(9_999L);
+    }
+}
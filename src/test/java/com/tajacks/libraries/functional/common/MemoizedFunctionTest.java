@@ -0,0 +1,135 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class MemoizedFunctionTest {
+
+    @Test
+    void memoize_computesEachArgumentOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<Integer, Integer> square = ((Function<Integer, Integer>) x -> {
+                    calls.incrementAndGet();
+                    return x * x;
+                })
+                .memoize();
+        assertThat(square.apply(4)).isEqualTo(16);
+        assertThat(square.apply(4)).isEqualTo(16);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(square.stats()).isEqualTo(new CacheStats(1, 1, 0, 0));
+    }
+
+    @Test
+    void memoize_cachesNullResultsAndKeys() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<String, String> f = ((Function<String, String>) s -> {
+                    calls.incrementAndGet();
+                    return null;
+                })
+                .memoize(10);
+        assertThat(f.apply(null)).isNull();
+        assertThat(f.apply(null)).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void memoize_composesWithAndThen() {
+        Function<Integer, Integer> doubled = ((Function<Integer, Integer>) x -> x * 2).memoize();
+        assertThat(doubled.andThen(String::valueOf).apply(21)).isEqualTo("42");
+    }
+
+    @Test
+    void memoize_mayRecurse() {
+        AtomicReference<Function<Integer, Long>> fib = new AtomicReference<>();
+        fib.set(((Function<Integer, Long>)
+                        n -> n < 2 ? n : fib.get().apply(n - 1) + fib.get().apply(n - 2))
+                .memoize());
+        assertThat(fib.get().apply(80)).isEqualTo(23416728348467685L);
+    }
+
+    @Test
+    void lru_evictsLeastRecentlyUsed() {
+        MemoizedFunction<Integer, Integer> f = Function.<Integer>identity()
+                .memoize(MemoizationOptions.defaults().withMaximumSize(2).withConcurrencyLevel(1));
+        f.apply(1);
+        f.apply(2);
+        f.apply(1);
+        f.apply(3); // evicts 2
+        f.apply(1);
+        assertThat(f.stats().hitCount()).isEqualTo(2);
+        f.apply(2);
+        assertThat(f.stats()).isEqualTo(new CacheStats(2, 4, 2, 0));
+        assertThat(f.size()).isEqualTo(2);
+    }
+
+    @Test
+    void lfu_evictsLeastFrequentlyUsed() {
+        MemoizedFunction<Integer, Integer> f = Function.<Integer>identity()
+                .memoize(MemoizationOptions.defaults()
+                        .withMaximumSize(2)
+                        .withConcurrencyLevel(1)
+                        .withEvictionPolicy(EvictionPolicy.LFU));
+        f.apply(1);
+        f.apply(1);
+        f.apply(1);
+        f.apply(2);
+        f.apply(3); // evicts 2, used once
+        f.apply(1);
+        assertThat(f.stats().hitCount()).isEqualTo(3);
+        f.apply(2);
+        assertThat(f.stats().missCount()).isEqualTo(4);
+        assertThat(f.stats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void expireAfterWrite_discardsOldResults() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<Integer, Integer> f = new MemoizedFunction<>(
+                x -> calls.incrementAndGet(),
+                MemoizationOptions.defaults().withExpireAfterWrite(Duration.ofSeconds(1)),
+                now::get);
+        f.apply(1);
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        f.apply(1);
+        assertThat(calls.get()).isEqualTo(1);
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        f.apply(1);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(f.stats().expirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void boundedCache_neverExceedsMaximumSize() throws InterruptedException {
+        MemoizedFunction<Integer, Integer> f = Function.<Integer>identity().memoize(100);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    f.apply((i * 7 + offset) % 1_000);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(f.size()).isAtMost(100);
+        assertThat(f.stats().requestCount()).isEqualTo(40_000);
+    }
+
+    @Test
+    void invalidOptions_throw() {
+        assertThrows(IllegalArgumentException.class, () -> MemoizationOptions.defaults()
+                .withMaximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> MemoizationOptions.defaults()
+                .withExpireAfterWrite(Duration.ZERO));
+    }
+}
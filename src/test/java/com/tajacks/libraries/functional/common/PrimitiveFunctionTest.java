@@ -0,0 +1,117 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveFunctionTest {
+
+    @Test
+    void canComposeFunctionsFromPrimitives() {
+        IntFunction<String> intToString = String::valueOf;
+        assertThat(intToString.andThen(String::length).apply(1234)).isEqualTo(4);
+        assertThat(intToString.compose(x -> x * 2).apply(21)).isEqualTo("42");
+        LongFunction<String> longToString = Long::toHexString;
+        assertThat(longToString.compose(x -> x + 1).apply(254L)).isEqualTo("ff");
+        DoubleFunction<Long> round = Math::round;
+        assertThat(round.andThen(x -> x * 2).apply(1.6)).isEqualTo(4L);
+    }
+
+    @Test
+    void canComposeFunctionsToPrimitives() {
+        ToIntFunction<String> length = String::length;
+        assertThat(length.andThen(x -> x * x).apply("abc")).isEqualTo(9);
+        assertThat(length.<Integer>compose(String::valueOf).apply(12345)).isEqualTo(5);
+        ToLongFunction<String> parse = Long::parseLong;
+        assertThat(parse.andThen(x -> -x).apply("7")).isEqualTo(-7L);
+        ToDoubleFunction<String> parseDouble = Double::parseDouble;
+        assertThat(parseDouble.andThen(Math::sqrt).apply("16")).isEqualTo(4.0);
+    }
+
+    @Test
+    void canComposeFunctionsBetweenPrimitives() {
+        IntToIntFunction increment = x -> x + 1;
+        IntToIntFunction twice = x -> x * 2;
+        assertThat(increment.andThen(twice).apply(3)).isEqualTo(8);
+        assertThat(increment.compose(twice).apply(3)).isEqualTo(7);
+        assertThat(IntToIntFunction.identity().apply(5)).isEqualTo(5);
+        IntToLongFunction widen = x -> x * 1_000_000_000L;
+        assertThat(widen.andThen(x -> x + 1).compose(increment).apply(1)).isEqualTo(2_000_000_001L);
+        IntToDoubleFunction half = x -> x / 2.0;
+        assertThat(half.andThen(x -> x * 3).apply(1)).isEqualTo(1.5);
+        LongToLongFunction negate = x -> -x;
+        assertThat(negate.andThen(negate).apply(9L)).isEqualTo(9L);
+        assertThat(LongToLongFunction.identity().apply(9L)).isEqualTo(9L);
+        LongToDoubleFunction root = Math::sqrt;
+        assertThat(root.compose(x -> x * x).apply(3L)).isEqualTo(3.0);
+        DoubleToDoubleFunction square = x -> x * x;
+        assertThat(square.andThen(Math::sqrt).apply(2.5)).isEqualTo(2.5);
+        assertThat(DoubleToDoubleFunction.identity().apply(0.5)).isEqualTo(0.5);
+    }
+
+    @Test
+    void canAndThenBinaryFunctions() {
+        IntBinaryFunction add = Integer::sum;
+        assertThat(add.andThen(x -> x * 10).apply(1, 2)).isEqualTo(30);
+        LongBinaryFunction max = Math::max;
+        assertThat(max.andThen(x -> x + 1).apply(4L, 9L)).isEqualTo(10L);
+        DoubleBinaryFunction min = Math::min;
+        assertThat(min.andThen(x -> -x).apply(4.0, 9.0)).isEqualTo(-4.0);
+    }
+
+    @Test
+    void canAndThenEffects() {
+        List<String> seen = new ArrayList<>();
+        IntEffect first = x -> seen.add("int " + x);
+        first.andThen(x -> seen.add("again " + x)).apply(1);
+        LongEffect second = x -> seen.add("long " + x);
+        second.andThen(x -> seen.add("again " + x)).apply(2L);
+        DoubleEffect third = x -> seen.add("double " + x);
+        third.andThen(x -> seen.add("again " + x)).apply(3.0);
+        assertThat(seen)
+                .containsExactly("int 1", "again 1", "long 2", "again 2", "double 3.0", "again 3.0")
+                .inOrder();
+    }
+
+    @Test
+    void canSupplyPrimitives() {
+        IntSupplier one = () -> 1;
+        LongSupplier two = () -> 2L;
+        DoubleSupplier three = () -> 3.0;
+        assertThat(one.get() + two.get() + three.get()).isEqualTo(6.0);
+    }
+
+    @Test
+    void canComposeFunctionsOfSeveralPrimitives() {
+        IntIntFunction<Integer> add = Integer::sum;
+        assertThat(add.andThen(String::valueOf).apply(1, 2)).isEqualTo("3");
+        LongLongFunction<Long> max = Math::max;
+        assertThat(max.andThen(x -> x * 2).apply(3L, 4L)).isEqualTo(8L);
+        IntLongFunction<Long> scale = (a, b) -> a * b;
+        assertThat(scale.andThen(x -> -x).apply(3, 4L)).isEqualTo(-12L);
+        LongDoubleFunction<Double> weight = (a, b) -> a * b;
+        assertThat(weight.andThen(x -> x + 1).apply(4L, 0.5)).isEqualTo(3.0);
+        IntIntIntFunction<Integer> sum = (a, b, c) -> a + b + c;
+        assertThat(sum.andThen(x -> x * 10).apply(1, 2, 3)).isEqualTo(60);
+    }
+
+    @Test
+    void canAndThenEffectsOfSeveralPrimitives() {
+        List<String> seen = new ArrayList<>();
+        IntIntEffect intInt = (a, b) -> seen.add(a + "+" + b);
+        intInt.andThen(intInt).apply(1, 2);
+        LongLongEffect longLong = (a, b) -> seen.add(a + "+" + b);
+        longLong.andThen(longLong).apply(3L, 4L);
+        IntLongEffect intLong = (a, b) -> seen.add(a + "+" + b);
+        intLong.andThen(intLong).apply(5, 6L);
+        LongDoubleEffect longDouble = (a, b) -> seen.add(a + "+" + b);
+        longDouble.andThen(longDouble).apply(7L, 8.0);
+        IntIntIntEffect intIntInt = (a, b, c) -> seen.add(a + "+" + b + "+" + c);
+        intIntInt.andThen(intIntInt).apply(1, 2, 3);
+        assertThat(seen)
+                .containsExactly("1+2", "1+2", "3+4", "3+4", "5+6", "5+6", "7+8.0", "7+8.0", "1+2+3", "1+2+3")
+                .inOrder();
+    }
+}
@@ -0,0 +1,78 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new RingBuffer(1, false).capacity()).isEqualTo(1);
+        assertThat(new RingBuffer(3, false).capacity()).isEqualTo(4);
+        assertThat(new RingBuffer(1024, false).capacity()).isEqualTo(1024);
+        assertThat(new RingBuffer(1025, false).capacity()).isEqualTo(2048);
+    }
+
+    @Test
+    void offersAndPollsInOrder_untilFull() {
+        RingBuffer buffer = new RingBuffer(4, true);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        List<Object> rest = new ArrayList<>();
+        Object next;
+        while ((next = buffer.poll()) != null) {
+            rest.add(next);
+        }
+        assertThat(rest).containsExactly(1, 2, 3, 4).inOrder();
+        assertThat(buffer.published()).isEqualTo(5);
+    }
+
+    @Test
+    void multipleProducers_loseNothing() throws InterruptedException {
+        RingBuffer buffer = new RingBuffer(64, false);
+        int producers = 4;
+        int perProducer = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        Set<Object> seen = new HashSet<>();
+        int[] lastPerProducer = new int[producers];
+        java.util.Arrays.fill(lastPerProducer, -1);
+        while (seen.size() < producers * perProducer) {
+            Object next = buffer.poll();
+            if (next == null) {
+                Thread.yield();
+            } else {
+                int value = (Integer) next;
+                assertThat(value % perProducer).isGreaterThan(lastPerProducer[value / perProducer]);
+                lastPerProducer[value / perProducer] = value % perProducer;
+                assertThat(seen.add(next)).isTrue();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tajacks.libraries.functional.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SupplierTest {
+
+    @Test
+    void memoize_computesOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> supplier = ((Supplier<Integer>) calls::incrementAndGet).memoize();
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.memoize() == supplier).isTrue();
+    }
+
+    @Test
+    void memoize_computesOnce_underContention() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> supplier = ((Supplier<Integer>) calls::incrementAndGet).memoize();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                assertThat(supplier.get()).isEqualTo(1);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void memoizeWithExpiration_recomputesAfterExpiry() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> supplier =
+                new ExpiringMemoizingSupplier<>(calls::incrementAndGet, Duration.ofSeconds(1), null, now::get);
+        assertThat(supplier.get()).isEqualTo(1);
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        assertThat(supplier.get()).isEqualTo(1);
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertThat(supplier.get()).isEqualTo(2);
+    }
+
+    @Test
+    void memoizeWithExpiration_refreshAhead_suppliesExpiredValueWhileRefreshing() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        Supplier<Integer> supplier = new ExpiringMemoizingSupplier<>(
+                calls::incrementAndGet, Duration.ofSeconds(1), pendingRefreshes::add, now::get);
+        assertThat(supplier.get()).isEqualTo(1);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(supplier.get()).isEqualTo(1);
+        assertThat(pendingRefreshes).hasSize(1);
+        pendingRefreshes.get(0).run();
+        assertThat(supplier.get()).isEqualTo(2);
+    }
+
+    @Test
+    void memoizeWithExpiration_withInvalidDuration_throws() {
+        Supplier<String> supplier = () -> "";
+        assertThrows(IllegalArgumentException.class, () -> supplier.memoizeWithExpiration(Duration.ZERO));
+    }
+}
@@ -0,0 +1,74 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ColumnTest {
+
+    @Test
+    void storesIntegers_asPrimitiveInts() {
+        Column<Integer> column = Column.of(new Object[] {1, 2, 3});
+        assertThat(column.isPrimitive()).isTrue();
+        assertThat(column.foldLeftInt(0, Integer::sum)).isEqualTo(6);
+        assertThat(column.foldLeftLong(0L, Long::sum)).isEqualTo(6L);
+        assertThat(column.foldLeftDouble(0.0, Double::sum)).isEqualTo(6.0);
+        assertThat(column.asList()).containsExactly(1, 2, 3).inOrder();
+    }
+
+    @Test
+    void storesLongsAndDoubles_asPrimitives() {
+        Column<Long> longs = Column.of(new Object[] {1L, 2L});
+        Column<Double> doubles = Column.of(new Object[] {1.5, 2.5});
+        assertThat(longs.isPrimitive()).isTrue();
+        assertThat(longs.foldLeftLong(0L, Long::sum)).isEqualTo(3L);
+        assertThat(doubles.isPrimitive()).isTrue();
+        assertThat(doubles.foldLeftDouble(0.0, Double::sum)).isEqualTo(4.0);
+        assertThat(doubles.get(1)).isEqualTo(2.5);
+    }
+
+    @Test
+    void storesMixedOrNullValues_asReferences() {
+        Column<Object> mixed = Column.of(new Object[] {1, 2L});
+        Column<Object> withNull = Column.of(new Object[] {1, null});
+        assertThat(mixed.isPrimitive()).isFalse();
+        assertThat(withNull.isPrimitive()).isFalse();
+        assertThat(withNull.get(1)).isNull();
+    }
+
+    @Test
+    void throwsIllegalState_whenFoldingIncompatiblePrimitive() {
+        Column<Double> doubles = Column.of(new Object[] {1.5});
+        Column<String> strings = Column.of(new Object[] {"a"});
+        assertThrows(IllegalStateException.class, () -> doubles.foldLeftInt(0, Integer::sum));
+        assertThrows(IllegalStateException.class, () -> doubles.foldLeftLong(0L, Long::sum));
+        assertThrows(IllegalStateException.class, () -> strings.foldLeftDouble(0.0, Double::sum));
+    }
+
+    @Test
+    void primitiveFolds_ofEmptyColumn_returnIdentity() {
+        Column<Integer> empty = Column.of(new Object[0]);
+        assertThat(empty.foldLeftInt(7, Integer::sum)).isEqualTo(7);
+        assertThat(empty.foldLeftLong(7L, Long::sum)).isEqualTo(7L);
+        assertThat(empty.foldLeftDouble(7.0, Double::sum)).isEqualTo(7.0);
+        assertThat(CoupleColumns.zip(List.of(), List.<Integer>of()).second().foldLeftInt(0, Integer::sum))
+                .isEqualTo(0);
+    }
+
+    @Test
+    void foldsAnyColumn_withBoxedFold() {
+        Column<String> strings = Column.of(new Object[] {"a", "b"});
+        Column<Integer> ints = Column.of(new Object[] {1, 2});
+        assertThat(strings.foldLeft("", acc -> s -> acc + s)).isEqualTo("ab");
+        assertThat(ints.foldLeft(0, acc -> i -> acc + i)).isEqualTo(3);
+    }
+
+    @Test
+    void listViewIsImmutable() {
+        Column<Integer> column = Column.of(new Object[] {1});
+        assertThrows(UnsupportedOperationException.class, () -> column.asList().add(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(1));
+    }
+}
@@ -0,0 +1,50 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CoupleColumnsTest {
+
+    @Test
+    void storesCouples_inColumns() {
+        CoupleColumns<String, Integer> columns =
+                CoupleColumns.from(List.of(new Couple<>("a", 1), new Couple<>("b", 2), new Couple<>("c", 3)));
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.first().asList()).containsExactly("a", "b", "c").inOrder();
+        assertThat(columns.second().isPrimitive()).isTrue();
+        assertThat(columns.second().foldLeftInt(0, Integer::sum)).isEqualTo(6);
+        assertThat(columns.get(1)).isEqualTo(new Couple<>("b", 2));
+    }
+
+    @Test
+    void listView_equalsSourceCouples() {
+        List<Couple<Long, Double>> couples = List.of(new Couple<>(1L, 1.5), new Couple<>(2L, 2.5));
+        List<Couple<Long, Double>> view = CoupleColumns.from(couples).asList();
+        assertThat(view).isEqualTo(couples);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Couple<>(3L, 3.5)));
+    }
+
+    @Test
+    void zip_truncatesToShorterList() {
+        CoupleColumns<Integer, String> columns = CoupleColumns.zip(List.of(1, 2, 3), List.of("a", "b"));
+        assertThat(columns.asList())
+                .containsExactly(new Couple<>(1, "a"), new Couple<>(2, "b"))
+                .inOrder();
+    }
+
+    @Test
+    void zip_rejectsNulls() {
+        assertThrows(NullPointerException.class, () -> CoupleColumns.zip(Arrays.asList(1, null), List.of(1, 2)));
+    }
+
+    @Test
+    void canStoreNoCouples() {
+        CoupleColumns<Integer, Integer> columns = CoupleColumns.from(List.of());
+        assertThat(columns.size()).isEqualTo(0);
+        assertThat(columns.asList()).isEmpty();
+    }
+}
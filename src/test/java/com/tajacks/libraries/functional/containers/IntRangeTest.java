@@ -0,0 +1,54 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IntRangeTest {
+
+    @Test
+    void canCreateRanges() {
+        assertThat(IntRange.exclusive(1, 5).toArray()).asList().containsExactly(1, 2, 3, 4);
+        assertThat(IntRange.inclusive(1, 5).toArray()).asList().containsExactly(1, 2, 3, 4, 5);
+        assertThat(IntRange.exclusive(5, 1).isEmpty()).isTrue();
+        assertThat(IntRange.inclusive(1, 1).size()).isEqualTo(1);
+    }
+
+    @Test
+    void canCreateRanges_atIntegerBounds() {
+        IntRange range = IntRange.inclusive(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+        assertThat(range.toArray()).asList().containsExactly(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> IntRange.inclusive(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void canFoldAndIterate_withoutBoxing() {
+        IntRange range = IntRange.exclusive(0, 5);
+        assertThat(range.foldLeft(0, Integer::sum)).isEqualTo(10);
+        List<Integer> seen = new ArrayList<>();
+        range.forEachInt(seen::add);
+        assertThat(seen).containsExactly(0, 1, 2, 3, 4).inOrder();
+    }
+
+    @Test
+    void asList_isALazyImmutableView() {
+        List<Integer> list = IntRange.exclusive(0, 1_000_000_000).asList();
+        assertThat(list.size()).isEqualTo(1_000_000_000);
+        assertThat(list.get(999_999_999)).isEqualTo(999_999_999);
+        assertThat(list.contains(5)).isTrue();
+        assertThat(list.indexOf(5)).isEqualTo(5);
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+        assertThat(IntRange.exclusive(1, 4).asList()).isEqualTo(List.of(1, 2, 3));
+    }
+
+    @Test
+    void contains_checksBounds() {
+        IntRange range = IntRange.exclusive(-2, 2);
+        assertThat(range.contains(-2)).isTrue();
+        assertThat(range.contains(2)).isFalse();
+        assertThat(range.contains(Integer.MIN_VALUE)).isFalse();
+    }
+}
@@ -0,0 +1,25 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IntTripleTest {
+
+    @Test
+    void canConvertToAndFromTriple() {
+        assertThat(new IntTriple(1, 2, 3).toTriple()).isEqualTo(new Triple<>(1, 2, 3));
+        assertThat(IntTriple.from(new Triple<>(1, 2, 3))).isEqualTo(new IntTriple(1, 2, 3));
+    }
+
+    @Test
+    void canApplyFunctionsAndEffects_toValues() {
+        IntTriple triple = new IntTriple(2, 3, 4);
+        assertThat(triple.<Integer>apply((a, b, c) -> a * b * c)).isEqualTo(24);
+        List<Integer> seen = new ArrayList<>();
+        triple.forEach((a, b, c) -> seen.add(a + b + c));
+        assertThat(seen).containsExactly(9);
+    }
+}
@@ -0,0 +1,48 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LongRangeTest {
+
+    @Test
+    void canCreateRanges() {
+        assertThat(LongRange.exclusive(1L, 5L).toArray()).asList().containsExactly(1L, 2L, 3L, 4L);
+        assertThat(LongRange.inclusive(1L, 5L).toArray()).asList().containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(LongRange.exclusive(5L, 1L).isEmpty()).isTrue();
+        assertThat(LongRange.inclusive(1L, 1L).size()).isEqualTo(1L);
+    }
+
+    @Test
+    void canFold_rangesLargerThanIntegerMaxValue() {
+        LongRange range = LongRange.exclusive(0L, 3_000_000_000L);
+        assertThat(range.size()).isEqualTo(3_000_000_000L);
+        assertThat(range.get(2_999_999_999L)).isEqualTo(2_999_999_999L);
+        assertThrows(IllegalStateException.class, range::asList);
+        assertThat(LongRange.inclusive(1L, 100L).foldLeft(0L, Long::sum)).isEqualTo(5050L);
+    }
+
+    @Test
+    void rangesExceedingLongMaxValue_throw() {
+        assertThrows(IllegalArgumentException.class, () -> LongRange.inclusive(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void asList_isALazyImmutableView() {
+        List<Long> list = LongRange.exclusive(10L, 20L).asList();
+        assertThat(list).isEqualTo(List.of(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L));
+        assertThat(list.indexOf(15L)).isEqualTo(5);
+        assertThat(list.contains(20L)).isFalse();
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1L));
+    }
+
+    @Test
+    void contains_handlesExtremeValues() {
+        LongRange range = LongRange.exclusive(Long.MIN_VALUE, Long.MIN_VALUE + 10);
+        assertThat(range.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(range.contains(Long.MAX_VALUE)).isFalse();
+    }
+}
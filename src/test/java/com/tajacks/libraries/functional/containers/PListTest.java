@@ -0,0 +1,77 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PListTest {
+
+    @Test
+    void canCreateLists() {
+        assertThat(PList.empty()).isEmpty();
+        assertThat(PList.of(1, 2, 3)).containsExactly(1, 2, 3).inOrder();
+        assertThat(PList.from(List.of(1, 2, 3))).isEqualTo(PList.of(1, 2, 3));
+    }
+
+    @Test
+    void prependAndTail_shareStructure() {
+        PList<Integer> list = PList.of(2, 3);
+        PList<Integer> prepended = list.prepend(1);
+        assertThat(prepended).containsExactly(1, 2, 3).inOrder();
+        assertThat(prepended.head()).isEqualTo(1);
+        assertThat(prepended.tail() == list).isTrue();
+        assertThat(prepended.length()).isEqualTo(3);
+    }
+
+    @Test
+    void headAndTail_onEmpty_throws() {
+        assertThrows(IllegalStateException.class, () -> PList.empty().head());
+        assertThrows(IllegalStateException.class, () -> PList.empty().tail());
+        assertThat(PList.empty().headOption()).isEmpty();
+    }
+
+    @Test
+    void canAppend() {
+        assertThat(PList.of(1, 2).append(3)).isEqualTo(PList.of(1, 2, 3));
+    }
+
+    @Test
+    void canFold() {
+        PList<Integer> list = PList.of(1, 2, 3);
+        assertThat(list.foldLeft("0", acc -> i -> "(" + acc + " + " + i + ")")).isEqualTo("(((0 + 1) + 2) + 3)");
+        assertThat(list.foldRight("0", i -> acc -> "(" + i + " + " + acc + ")")).isEqualTo("(1 + (2 + (3 + 0)))");
+    }
+
+    @Test
+    void canMapReverseAndForEach() {
+        PList<Integer> list = PList.of(1, 2, 3);
+        assertThat(list.map(x -> x * 2)).isEqualTo(PList.of(2, 4, 6));
+        assertThat(list.reverse()).isEqualTo(PList.of(3, 2, 1));
+        List<Integer> seen = new ArrayList<>();
+        list.forEach(seen::add);
+        assertThat(seen).containsExactly(1, 2, 3).inOrder();
+        assertThat(list.toList()).isEqualTo(List.of(1, 2, 3));
+    }
+
+    // These would otherwise overflow the stack
+    @Test
+    void operationsOnLargeLists_areStackSafe() {
+        PList<Integer> list = PList.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            list = list.prepend(i);
+        }
+        assertThat(list.map(x -> x + 1).reverse().head()).isEqualTo(1);
+        assertThat(list.foldRight(0L, x -> acc -> acc + x)).isEqualTo(499999500000L);
+        assertThat(list.equals(PList.from(list.toList()))).isTrue();
+        assertThat(list.hashCode()).isEqualTo(list.toList().hashCode());
+    }
+
+    @Test
+    void canDisplayAsString() {
+        assertThat(PList.of(1, 2, 3).toString()).isEqualTo("[1, 2, 3]");
+    }
+}
@@ -0,0 +1,87 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PVectorTest {
+
+    @Test
+    void canCreateVectors() {
+        assertThat(PVector.empty()).isEmpty();
+        assertThat(PVector.of(1, 2, 3)).containsExactly(1, 2, 3).inOrder();
+        assertThat(PVector.from(List.of(1, 2, 3))).isEqualTo(List.of(1, 2, 3));
+    }
+
+    @Test
+    void append_acrossTrieLevels_preservesAllElements() {
+        PVector<Integer> vector = PVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        assertThat(vector).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i += 997) {
+            assertThat(vector.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void append_doesNotModifyOriginal() {
+        PVector<Integer> original = PVector.of(1, 2, 3);
+        PVector<Integer> appended = original.append(4);
+        assertThat(original).containsExactly(1, 2, 3).inOrder();
+        assertThat(appended).containsExactly(1, 2, 3, 4).inOrder();
+    }
+
+    @Test
+    void update_doesNotModifyOriginal() {
+        PVector<Integer> original = PVector.from(range(2_000));
+        PVector<Integer> updated = original.update(5, -1).update(1_999, -2);
+        assertThat(original.get(5)).isEqualTo(5);
+        assertThat(original.get(1_999)).isEqualTo(1_999);
+        assertThat(updated.get(5)).isEqualTo(-1);
+        assertThat(updated.get(1_999)).isEqualTo(-2);
+        assertThat(updated.get(6)).isEqualTo(6);
+    }
+
+    @Test
+    void builder_fromExistingVector_doesNotModifyIt() {
+        PVector<Integer> original = PVector.from(range(100));
+        PVector<Integer> extended = original.toBuilder().addAll(range(100)).build();
+        assertThat(original).isEqualTo(range(100));
+        assertThat(extended).hasSize(200);
+        assertThat(extended.get(150)).isEqualTo(50);
+    }
+
+    @Test
+    void builder_usedAfterBuild_throws() {
+        PVector.Builder<Integer> builder = PVector.builder();
+        builder.add(1).build();
+        assertThrows(IllegalStateException.class, () -> builder.add(2));
+    }
+
+    @Test
+    void outOfRangeAccess_throws() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PVector.of(1).get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PVector.of(1).update(-1, 0));
+    }
+
+    @Test
+    void listMutators_throw() {
+        assertThrows(UnsupportedOperationException.class, () -> PVector.of(1).add(2));
+        assertThrows(UnsupportedOperationException.class, () -> PVector.of(1).set(0, 2));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
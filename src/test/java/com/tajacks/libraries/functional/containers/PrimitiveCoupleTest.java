@@ -0,0 +1,36 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveCoupleTest {
+
+    @Test
+    void canConvertToAndFromCouple() {
+        assertThat(new IntCouple(1, 2).toCouple()).isEqualTo(new Couple<>(1, 2));
+        assertThat(IntCouple.from(new Couple<>(1, 2))).isEqualTo(new IntCouple(1, 2));
+        assertThat(LongCouple.from(new LongCouple(3L, 4L).toCouple())).isEqualTo(new LongCouple(3L, 4L));
+        assertThat(new IntLongCouple(5, 6L).toCouple()).isEqualTo(new Couple<>(5, 6L));
+        assertThat(IntLongCouple.from(new Couple<>(5, 6L))).isEqualTo(new IntLongCouple(5, 6L));
+        assertThat(new LongDoubleCouple(7L, 0.5).toCouple()).isEqualTo(new Couple<>(7L, 0.5));
+        assertThat(LongDoubleCouple.from(new Couple<>(7L, 0.5))).isEqualTo(new LongDoubleCouple(7L, 0.5));
+    }
+
+    @Test
+    void canApplyFunctionsAndEffects_toValues() {
+        assertThat(new IntCouple(3, 4).<Integer>apply((a, b) -> a * b)).isEqualTo(12);
+        assertThat(new LongCouple(3L, 4L).<Long>apply(Long::sum)).isEqualTo(7L);
+        assertThat(new IntLongCouple(2, 5L).<String>apply((a, b) -> a + ":" + b))
+                .isEqualTo("2:5");
+        assertThat(new LongDoubleCouple(4L, 0.5).<Double>apply((a, b) -> a * b)).isEqualTo(2.0);
+        List<String> seen = new ArrayList<>();
+        new IntCouple(1, 2).forEach((a, b) -> seen.add(a + "," + b));
+        new IntLongCouple(3, 4L).forEach((a, b) -> seen.add(a + "," + b));
+        new LongCouple(5L, 6L).forEach((a, b) -> seen.add(a + "," + b));
+        new LongDoubleCouple(7L, 8.0).forEach((a, b) -> seen.add(a + "," + b));
+        assertThat(seen).containsExactly("1,2", "3,4", "5,6", "7,8.0").inOrder();
+    }
+}
@@ -0,0 +1,76 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StreamTest {
+
+    @Test
+    void canCreateFiniteStreams() {
+        assertThat(Stream.empty().isEmpty()).isTrue();
+        assertThat(Stream.of(1, 2, 3).toList()).containsExactly(1, 2, 3).inOrder();
+        assertThat(Stream.unfold(1, i -> i <= 3 ? Optional.of(new Couple<>(i * 10, i + 1)) : Optional.empty())
+                        .toList())
+                .containsExactly(10, 20, 30)
+                .inOrder();
+    }
+
+    @Test
+    void headAndTail_onEmpty_throws() {
+        assertThrows(IllegalStateException.class, () -> Stream.empty().head());
+        assertThrows(IllegalStateException.class, () -> Stream.empty().tail());
+        assertThat(Stream.empty().headOption()).isEmpty();
+    }
+
+    @Test
+    void canOperateOnInfiniteStreams() {
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+        assertThat(naturals.map(i -> i * 2).take(4).toList())
+                .containsExactly(0, 2, 4, 6)
+                .inOrder();
+        assertThat(naturals.filter(i -> i % 3 == 0).drop(1).take(2).toList())
+                .containsExactly(3, 6)
+                .inOrder();
+        assertThat(naturals.dropWhile(i -> i < 5).takeWhile(i -> i < 8).toList())
+                .containsExactly(5, 6, 7)
+                .inOrder();
+        assertThat(naturals.find(i -> i * i > 1000)).hasValue(32);
+    }
+
+    @Test
+    void elements_areOnlyComputedWhenDemanded() {
+        AtomicInteger computations = new AtomicInteger();
+        Stream<Integer> stream = Stream.iterate(0, i -> i + 1).map(i -> {
+            computations.incrementAndGet();
+            return i;
+        });
+        assertThat(computations.get()).isEqualTo(0);
+        assertThat(stream.find(i -> i == 4)).hasValue(4);
+        assertThat(computations.get()).isEqualTo(5);
+    }
+
+    @Test
+    void elements_areComputedAtMostOnce() {
+        AtomicInteger computations = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1, 2, 3).map(i -> {
+            computations.incrementAndGet();
+            return i;
+        });
+        stream.toList();
+        stream.toList();
+        assertThat(computations.get()).isEqualTo(3);
+    }
+
+    // These would otherwise overflow the stack
+    @Test
+    void longTraversals_areStackSafe() {
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+        assertThat(naturals.filter(i -> i >= 1_000_000).head()).isEqualTo(1_000_000);
+        assertThat(naturals.take(1_000_000).foldLeft(0L, acc -> i -> acc + i)).isEqualTo(499999500000L);
+    }
+}
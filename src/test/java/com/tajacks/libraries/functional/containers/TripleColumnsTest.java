@@ -0,0 +1,27 @@
+package com.tajacks.libraries.functional.containers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TripleColumnsTest {
+
+    @Test
+    void storesTriples_inColumns() {
+        List<Triple<Integer, Long, String>> triples = List.of(new Triple<>(1, 10L, "a"), new Triple<>(2, 20L, "b"));
+        TripleColumns<Integer, Long, String> columns = TripleColumns.from(triples);
+        assertThat(columns.first().foldLeftInt(0, Integer::sum)).isEqualTo(3);
+        assertThat(columns.second().foldLeftLong(0L, Long::sum)).isEqualTo(30L);
+        assertThat(columns.third().isPrimitive()).isFalse();
+        assertThat(columns.asList()).isEqualTo(triples);
+    }
+
+    @Test
+    void zip_truncatesToShortestList() {
+        TripleColumns<Integer, Integer, Integer> columns =
+                TripleColumns.zip(List.of(1, 2, 3), List.of(4, 5), List.of(6, 7, 8));
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.get(1)).isEqualTo(new Triple<>(2, 5, 7));
+    }
+}
@@ -0,0 +1,111 @@
+package com.tajacks.libraries.functional.fold;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tajacks.libraries.functional.containers.Couple;
+import com.tajacks.libraries.functional.containers.Triple;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FoldTest {
+
+    private static final Fold<Integer, List<Integer>, List<Integer>> TO_LIST = Fold.of(
+            ArrayList::new,
+            s -> t -> {
+                s.add(t);
+                return s;
+            },
+            l -> r -> {
+                l.addAll(r);
+                return l;
+            },
+            List::copyOf);
+
+    @Test
+    void canApplyToElements() {
+        assertThat(TO_LIST.apply(List.of(1, 2, 3))).containsExactly(1, 2, 3).inOrder();
+        assertThat(TO_LIST.apply(List.of())).isEmpty();
+    }
+
+    @Test
+    void runningFold_reportsCurrentResultAndContinues() {
+        RunningFold<Integer, List<Integer>, List<Integer>> running = TO_LIST.start();
+        running.step(1).step(2);
+        assertThat(running.current()).containsExactly(1, 2).inOrder();
+        running.stepAll(List.of(3, 4));
+        assertThat(running.current()).containsExactly(1, 2, 3, 4).inOrder();
+        assertThat(running.fold()).isSameInstanceAs(TO_LIST);
+    }
+
+    @Test
+    void runningFolds_mergeInPartitionOrder() {
+        RunningFold<Integer, List<Integer>, List<Integer>> left =
+                TO_LIST.start().stepAll(List.of(1, 2));
+        RunningFold<Integer, List<Integer>, List<Integer>> right =
+                TO_LIST.start().stepAll(List.of(3));
+        assertThat(left.merge(right).current()).containsExactly(1, 2, 3).inOrder();
+        assertThat(right.current()).containsExactly(3);
+    }
+
+    @Test
+    void merge_rejectsOtherFoldsAndItself() {
+        RunningFold<Integer, List<Integer>, List<Integer>> running = TO_LIST.start();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> running.merge(TO_LIST.map(l -> l).start()));
+        assertThrows(IllegalArgumentException.class, () -> running.merge(running));
+    }
+
+    @Test
+    void canMapComposeAndFilter() {
+        Fold<String, List<Integer>, Integer> fold =
+                TO_LIST.filter(x -> x % 2 == 0).compose(String::length).map(List::size);
+        assertThat(fold.apply(List.of("a", "bb", "cccc", "ddd"))).isEqualTo(2);
+    }
+
+    @Test
+    void zip_runsFoldsInOnePass() {
+        int[] pulls = new int[1];
+        Iterable<Integer> onePass =
+                () -> List.of(3, 1, 2).stream().peek(x -> pulls[0]++).iterator();
+        Fold<Integer, ?, Couple<Long, List<Integer>>> couple = Fold.zip(Folds.count(), TO_LIST);
+        assertThat(couple.apply(onePass)).isEqualTo(new Couple<>(3L, List.of(3, 1, 2)));
+        assertThat(pulls[0]).isEqualTo(3);
+        Fold<Integer, ?, Triple<Long, Long, Double>> triple =
+                Fold.zip(Folds.count(), Folds.sumLong(x -> x), Folds.mean(x -> x));
+        assertThat(triple.apply(List.of(1, 2, 3))).isEqualTo(new Triple<>(3L, 6L, 2.0));
+    }
+
+    @Test
+    void zip_reusesStateOfFoldsSteppingInPlace() {
+        assertThat(stepsInPlace(Fold.zip(Folds.count(), Folds.mean(x -> x)))).isTrue();
+        assertThat(stepsInPlace(Fold.zip(Folds.count(), TO_LIST, Folds.max(Integer::compare))))
+                .isTrue();
+        Fold<Integer, Long, Long> immutableSum = Fold.of(() -> 0L, s -> t -> s + t, l -> r -> l + r, s -> s);
+        Fold<Integer, ?, Couple<Long, Long>> zipped = Fold.zip(Folds.count(), immutableSum);
+        assertThat(stepsInPlace(zipped)).isFalse();
+        assertThat(zipped.apply(List.of(1, 2, 3))).isEqualTo(new Couple<>(3L, 6L));
+    }
+
+    @Test
+    void zip_rejectsNullResults() {
+        Fold<Integer, List<Integer>, Integer> nullResult = TO_LIST.map(list -> null);
+        Fold<Integer, ?, Couple<Long, Integer>> zipped = Fold.zip(Folds.count(), nullResult);
+        assertThrows(NullPointerException.class, () -> zipped.apply(List.of(1)));
+    }
+
+    @Test
+    void zippedRunningFolds_merge() {
+        Fold<Integer, ?, Couple<Long, Long>> fold = Fold.zip(Folds.count(), Folds.sumLong(x -> x));
+        RunningFold<Integer, ?, Couple<Long, Long>> left = fold.start().stepAll(List.of(1, 2));
+        RunningFold<Integer, ?, Couple<Long, Long>> right = fold.start().stepAll(List.of(10));
+        assertThat(left.merge(right).current()).isEqualTo(new Couple<>(3L, 13L));
+    }
+
+    private static <S> boolean stepsInPlace(Fold<Integer, S, ?> fold) {
+        S state = fold.initial();
+        return fold.step(state, 1) == state && fold.merge(state, fold.initial()) == state;
+    }
+}
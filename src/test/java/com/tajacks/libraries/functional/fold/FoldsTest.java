@@ -0,0 +1,102 @@
+package com.tajacks.libraries.functional.fold;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FoldsTest {
+
+    private static final List<Integer> VALUES = List.of(5, 3, 9, 1, 9, 4);
+
+    @Test
+    void canCountAndSum() {
+        assertThat(Folds.<Integer>count().apply(VALUES)).isEqualTo(6L);
+        assertThat(Folds.<Integer>sumLong(x -> x).apply(VALUES)).isEqualTo(31L);
+        assertThat(Folds.<Integer>sumDouble(x -> x / 2.0).apply(VALUES)).isEqualTo(15.5);
+    }
+
+    @Test
+    void sumDouble_compensatesRoundingError() {
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            values.add(0.1);
+        }
+        assertThat(Folds.<Double>sumDouble(x -> x).apply(values)).isWithin(1e-9).of(100_000.0);
+    }
+
+    @Test
+    void canFindMinAndMax() {
+        assertThat(Folds.<Integer>min(Comparator.naturalOrder()).apply(VALUES)).hasValue(1);
+        assertThat(Folds.<Integer>max(Comparator.naturalOrder()).apply(VALUES)).hasValue(9);
+        assertThat(Folds.<Integer>max(Comparator.naturalOrder()).apply(List.of()))
+                .isEmpty();
+    }
+
+    @Test
+    void minAndMax_keepFirstOfEqualElements() {
+        List<String> words = List.of("bb", "aa", "c", "d");
+        assertThat(Folds.<String>max(Comparator.comparing(String::length)).apply(words))
+                .hasValue("bb");
+        assertThat(Folds.<String>min(Comparator.comparing(String::length)).apply(words))
+                .hasValue("c");
+    }
+
+    @Test
+    void canComputeMeanAndVariance() {
+        List<Integer> values = List.of(2, 4, 4, 4, 5, 5, 7, 9);
+        assertThat(Folds.<Integer>mean(x -> x).apply(values)).isEqualTo(5.0);
+        assertThat(Folds.<Integer>variance(x -> x).apply(values))
+                .isWithin(1e-12)
+                .of(4.0);
+        assertThat(Folds.<Integer>mean(x -> x).apply(List.of())).isNaN();
+    }
+
+    @Test
+    void variance_mergesPartitions() {
+        Fold<Integer, ?, Double> variance = Folds.variance(x -> x);
+        RunningFold<Integer, ?, Double> left = variance.start().stepAll(List.of(2, 4, 4));
+        RunningFold<Integer, ?, Double> right = variance.start().stepAll(List.of(4, 5, 5, 7, 9));
+        assertThat(left.merge(right).current()).isWithin(1e-12).of(4.0);
+        assertThat(variance.start().merge(variance.start()).current()).isNaN();
+    }
+
+    @Test
+    void canKeepTopK() {
+        Fold<Integer, ?, List<Integer>> top3 = Folds.topK(3, Comparator.naturalOrder());
+        assertThat(top3.apply(VALUES)).containsExactly(9, 9, 5).inOrder();
+        assertThat(top3.apply(List.of(1))).containsExactly(1);
+        RunningFold<Integer, ?, List<Integer>> left = top3.start().stepAll(List.of(1, 2, 3));
+        RunningFold<Integer, ?, List<Integer>> right = top3.start().stepAll(List.of(10, 0));
+        assertThat(left.merge(right).current()).containsExactly(10, 3, 2).inOrder();
+        assertThrows(IllegalArgumentException.class, () -> Folds.topK(0, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void canEstimateDistinctCount() {
+        List<Integer> values = new ArrayList<>();
+        IntStream.range(0, 200_000).forEach(i -> values.add(i % 100_000));
+        long estimate = Folds.<Integer>approximateDistinct().apply(values);
+        assertThat((double) estimate).isWithin(100_000 * 0.03).of(100_000);
+        assertThat(Folds.<Integer>approximateDistinct().apply(List.of(1, 2, 2, 3)))
+                .isEqualTo(3L);
+        assertThrows(IllegalArgumentException.class, () -> Folds.approximateDistinct(3));
+    }
+
+    @Test
+    void distinctCount_mergesPartitions() {
+        Fold<Integer, ?, Long> distinct = Folds.approximateDistinct(12);
+        RunningFold<Integer, ?, Long> left = distinct.start();
+        RunningFold<Integer, ?, Long> right = distinct.start();
+        for (int i = 0; i < 10_000; i++) {
+            left.step(i);
+            right.step(i + 5_000);
+        }
+        assertThat((double) left.merge(right).current()).isWithin(15_000 * 0.06).of(15_000);
+    }
+}
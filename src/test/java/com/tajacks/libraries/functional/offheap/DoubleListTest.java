@@ -0,0 +1,24 @@
+package com.tajacks.libraries.functional.offheap;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleListTest {
+
+    @Test
+    void canSetAllFoldAndMap() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            DoubleList list = arena.allocateDoubles(3).setAll(i -> i + 0.5);
+            assertThat(list.get(2)).isEqualTo(2.5);
+            assertThat(list.foldLeft(0.0, Double::sum)).isEqualTo(4.5);
+            assertThat(list.map(x -> x * 2).toArray())
+                    .usingExactEquality()
+                    .containsExactly(1.0, 3.0, 5.0)
+                    .inOrder();
+            double[] max = {Double.NEGATIVE_INFINITY};
+            list.forEach(x -> max[0] = Math.max(max[0], x));
+            assertThat(max[0]).isEqualTo(2.5);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.tajacks.libraries.functional.offheap;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.tajacks.libraries.functional.containers.IntRange;
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+    @Test
+    void canFoldAndMap_betweenPrimitiveTypes() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            IntList list = arena.copyOf(IntRange.inclusive(1, 4));
+            assertThat(list.foldLeft(0, Integer::sum)).isEqualTo(10);
+            assertThat(list.map(x -> -x).toArray())
+                    .asList()
+                    .containsExactly(-1, -2, -3, -4)
+                    .inOrder();
+            assertThat(list.mapToLong(x -> x * 10_000_000_000L).foldLeft(0L, Long::sum))
+                    .isEqualTo(100_000_000_000L);
+            assertThat(list.mapToDouble(x -> x / 4.0).foldLeft(0.0, Double::sum))
+                    .isEqualTo(2.5);
+            assertThat(list.map(x -> x).arena()).isSameInstanceAs(arena);
+        }
+    }
+}
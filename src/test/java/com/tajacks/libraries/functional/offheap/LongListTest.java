@@ -0,0 +1,61 @@
+package com.tajacks.libraries.functional.offheap;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tajacks.libraries.functional.containers.LongRange;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LongListTest {
+
+    @Test
+    void canGetAndSet() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            LongList list = arena.allocateLongs(3);
+            list.set(1, Long.MAX_VALUE);
+            assertThat(list.toArray())
+                    .asList()
+                    .containsExactly(0L, Long.MAX_VALUE, 0L)
+                    .inOrder();
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0L));
+        }
+    }
+
+    @Test
+    void canFoldMapAndForEach_acrossChunks() {
+        long size = (1L << OffHeapList.CHUNK_SHIFT) + 3;
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            LongList list = arena.copyOf(LongRange.exclusive(0L, size));
+            assertThat(list.get(size - 1)).isEqualTo(size - 1);
+            assertThat(list.foldLeft(0L, Long::sum)).isEqualTo(size * (size - 1) / 2);
+            assertThat(list.map(x -> x * 2).get(size - 1)).isEqualTo(2 * (size - 1));
+            assertThat(list.mapToDouble(x -> x / 2.0).get(3)).isEqualTo(1.5);
+            long[] count = new long[1];
+            list.forEach(x -> count[0]++);
+            assertThat(count[0]).isEqualTo(size);
+        }
+    }
+
+    @Test
+    void canSetAll_fromIndex() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            LongList list = arena.allocateLongs(4).setAll(i -> i * i);
+            List<Long> seen = new ArrayList<>();
+            list.forEach(seen::add);
+            assertThat(seen).containsExactly(0L, 1L, 4L, 9L).inOrder();
+        }
+    }
+
+    @Test
+    void canHoldNoElements() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            LongList list = arena.allocateLongs(0);
+            assertThat(list.isEmpty()).isTrue();
+            assertThat(list.foldLeft(7L, Long::sum)).isEqualTo(7L);
+            assertThat(list.toArray()).isEmpty();
+        }
+    }
+}
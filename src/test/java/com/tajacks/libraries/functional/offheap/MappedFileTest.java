@@ -0,0 +1,115 @@
+package com.tajacks.libraries.functional.offheap;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void canFoldDelimitedRecords_acrossChunks() throws IOException {
+        Path path = write("alpha\nbeta\n\ngamma\ndelta");
+        for (long chunkSize : new long[] {6, 7, 11, 64}) {
+            try (MappedFile file = MappedFile.delimited(path, (byte) '\n', chunkSize)) {
+                assertThat(records(file))
+                        .containsExactly("alpha", "beta", "", "gamma", "delta")
+                        .inOrder();
+            }
+        }
+    }
+
+    @Test
+    void trailingDelimiter_endsLastRecord() throws IOException {
+        try (MappedFile file = MappedFile.delimited(write("a\nb\n"), (byte) '\n')) {
+            assertThat(records(file)).containsExactly("a", "b").inOrder();
+        }
+    }
+
+    @Test
+    void canFoldFixedWidthRecords() throws IOException {
+        try (MappedFile file = MappedFile.fixedWidth(write("aabbccdd"), 2, 5)) {
+            assertThat(records(file)).containsExactly("aa", "bb", "cc", "dd").inOrder();
+            assertThat(file.size()).isEqualTo(8L);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MappedFile.fixedWidth(write("abc"), 2));
+        assertThrows(IllegalArgumentException.class, () -> MappedFile.fixedWidth(write("ab"), 2, 1));
+    }
+
+    @Test
+    void throwsIllegalState_whenRecordIsLongerThanChunk() throws IOException {
+        try (MappedFile file = MappedFile.delimited(write("short\nmuch longer\n"), (byte) '\n', 6)) {
+            assertThrows(IllegalStateException.class, () -> records(file));
+        }
+        try (MappedFile file = MappedFile.delimited(write("sixsix\nb\n"), (byte) '\n', 6)) {
+            assertThrows(IllegalStateException.class, () -> records(file));
+            assertThrows(IllegalStateException.class, () -> file.parallelFold(0, acc -> r -> acc + 1, a -> b -> a + b));
+        }
+    }
+
+    @Test
+    void parallelFold_matchesSequentialFold() throws IOException {
+        StringBuilder content = new StringBuilder();
+        long expected = 0;
+        for (int i = 0; i < 10_000; i++) {
+            content.append(i).append('\n');
+            expected += i;
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (MappedFile file = MappedFile.delimited(write(content.toString()), (byte) '\n', 100)) {
+            long sum = file.parallelFold(0L, acc -> record -> acc + parse(record), a -> b -> a + b, pool);
+            assertThat(sum).isEqualTo(expected);
+            assertThat(file.foldLeft(0L, acc -> record -> acc + parse(record))).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void canFoldEmptyFile() throws IOException {
+        try (MappedFile file = MappedFile.delimited(write(""), (byte) '\n')) {
+            assertThat(records(file)).isEmpty();
+            assertThat(file.parallelFold(0, acc -> record -> acc + 1, a -> b -> a + b))
+                    .isEqualTo(0);
+        }
+    }
+
+    @Test
+    void throwsWhenClosedOrMissing() throws IOException {
+        MappedFile file = MappedFile.delimited(write("a"), (byte) '\n');
+        file.close();
+        assertThrows(IllegalStateException.class, () -> records(file));
+        assertThrows(UncheckedIOException.class, () -> MappedFile.delimited(directory.resolve("missing"), (byte) 0));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "records", ".txt"), content);
+    }
+
+    private static List<String> records(MappedFile file) {
+        List<String> records = new ArrayList<>();
+        file.forEach(record -> records.add(StandardCharsets.UTF_8.decode(record).toString()));
+        return records;
+    }
+
+    private static long parse(ByteBuffer record) {
+        long value = 0;
+        for (int i = 0; i < record.limit(); i++) {
+            value = value * 10 + (record.get(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tajacks.libraries.functional.offheap;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tajacks.libraries.functional.containers.IntRange;
+import com.tajacks.libraries.functional.containers.LongRange;
+import org.junit.jupiter.api.Test;
+
+class OffHeapArenaTest {
+
+    @Test
+    void tracksAllocatedBytes_untilClosed() {
+        OffHeapArena arena = OffHeapArena.open();
+        arena.allocateLongs(10);
+        arena.allocateInts(10);
+        arena.allocateDoubles(1);
+        assertThat(arena.allocatedBytes()).isEqualTo(128L);
+        arena.close();
+        assertThat(arena.allocatedBytes()).isEqualTo(0L);
+        assertThat(arena.isOpen()).isFalse();
+    }
+
+    @Test
+    void closingReleasesEveryList() {
+        OffHeapArena arena = OffHeapArena.open();
+        LongList longs = arena.copyOf(LongRange.exclusive(0L, 3L));
+        IntList ints = arena.copyOf(IntRange.exclusive(0, 3));
+        arena.close();
+        arena.close();
+        assertThat(longs.size()).isEqualTo(3L);
+        assertThrows(IllegalStateException.class, () -> longs.get(0));
+        assertThrows(IllegalStateException.class, () -> ints.foldLeft(0, Integer::sum));
+        assertThrows(IllegalStateException.class, () -> arena.allocateLongs(1));
+    }
+
+    @Test
+    void rejectsNegativeSizes() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            assertThrows(IllegalArgumentException.class, () -> arena.allocateInts(-1));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tajacks.libraries.functional.recursion;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class MemoTableTest {
+
+    @Test
+    void hash_recordsResults() {
+        MemoTable<String, Integer> table = MemoTable.hash();
+        assertThat(table.get("a")).isNull();
+        table.put("a", 1);
+        assertThat(table.get("a")).isEqualTo(1);
+        assertThat(table.size()).isEqualTo(1);
+        table.clear();
+        assertThat(table.get("a")).isNull();
+        assertThat(table.size()).isEqualTo(0);
+    }
+
+    @Test
+    void concurrent_recordsResults() {
+        MemoTable<String, Integer> table = MemoTable.concurrent();
+        table.put("a", 1);
+        table.put("a", 2);
+        assertThat(table.get("a")).isEqualTo(2);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void dense_recordsResults() {
+        MemoTable<Integer, String> table = MemoTable.dense(4);
+        assertThat(table.get(3)).isNull();
+        table.put(3, "c");
+        table.put(3, "d");
+        table.put(0, "a");
+        assertThat(table.get(3)).isEqualTo("d");
+        assertThat(table.size()).isEqualTo(2);
+        table.clear();
+        assertThat(table.get(0)).isNull();
+        assertThat(table.size()).isEqualTo(0);
+    }
+
+    @Test
+    void dense_rejectsKeysOutOfRange() {
+        MemoTable<Integer, String> table = MemoTable.dense(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.put(-1, "a"));
+        assertThrows(IllegalArgumentException.class, () -> MemoTable.dense(-1));
+    }
+
+    @Test
+    void put_rejectsNullResults() {
+        assertThrows(NullPointerException.class, () -> MemoTable.<String, Integer>hash()
+                .put("a", null));
+        assertThrows(
+                NullPointerException.class, () -> MemoTable.<String>dense(1).put(0, null));
+    }
+}
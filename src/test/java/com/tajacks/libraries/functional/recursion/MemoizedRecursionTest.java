@@ -0,0 +1,105 @@
+package com.tajacks.libraries.functional.recursion;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.tajacks.libraries.functional.recursion.TailCall.returning;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tajacks.libraries.functional.common.Function;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MemoizedRecursionTest {
+
+    @Test
+    void memoizedFix_solvesExponentialRecursionInLinearTime() {
+        Function<Integer, BigInteger> fib = MemoizedRecursion.memoizedFix(self -> n -> n < 2
+                ? returning(BigInteger.valueOf(n))
+                : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(a::add)));
+        assertThat(fib.apply(90)).isEqualTo(new BigInteger("2880067194370816120"));
+    }
+
+    @Test
+    void memoizedFix_isStackSafe() {
+        Function<Integer, BigInteger> fib = MemoizedRecursion.memoizedFix(self -> n -> n < 2
+                ? returning(BigInteger.valueOf(n))
+                : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(a::add)));
+        assertThat(fib.apply(20_000).bitLength()).isEqualTo(13_884);
+    }
+
+    @Test
+    void memoizedFix_solvesEachSubproblemOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoTable<Integer, Long> table = MemoTable.hash();
+        Function<Integer, Long> fib = MemoizedRecursion.memoizedFix(
+                self -> n -> {
+                    calls.incrementAndGet();
+                    return n < 2
+                            ? returning((long) n)
+                            : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(b -> a + b));
+                },
+                table);
+        assertThat(fib.apply(50)).isEqualTo(12_586_269_025L);
+        assertThat(calls.get()).isEqualTo(51);
+        assertThat(table.size()).isEqualTo(51);
+        assertThat(fib.apply(50)).isEqualTo(12_586_269_025L);
+        assertThat(calls.get()).isEqualTo(51);
+    }
+
+    @Test
+    void memoizedFix_computesEditDistance_withDenseTable() {
+        String a = "intention".repeat(20);
+        String b = "execution".repeat(20);
+        int columns = b.length() + 1;
+        Function<Integer, Integer> distance = MemoizedRecursion.memoizedFix(
+                self -> key -> {
+                    int i = key / columns;
+                    int j = key % columns;
+                    if (i == 0 || j == 0) {
+                        return returning(i + j);
+                    }
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    return self.apply(key - columns)
+                            .flatMap(delete -> self.apply(key - 1).flatMap(insert -> self.apply(key - columns - 1)
+                                    .map(substitute -> Math.min(Math.min(delete + 1, insert + 1), substitute + cost))));
+                },
+                MemoTable.dense((a.length() + 1) * columns));
+        assertThat(distance.apply(a.length() * columns + b.length())).isEqualTo(100);
+    }
+
+    @Test
+    void memoizedFix_countsPartitions() {
+        int n = 200;
+        Function<Integer, BigInteger> partitions = MemoizedRecursion.memoizedFix(
+                self -> key -> {
+                    int remaining = key / (n + 1);
+                    int largest = key % (n + 1);
+                    if (remaining == 0) {
+                        return returning(BigInteger.ONE);
+                    }
+                    if (largest == 0) {
+                        return returning(BigInteger.ZERO);
+                    }
+                    TailCall<BigInteger> withoutLargest = self.apply(remaining * (n + 1) + largest - 1);
+                    return largest > remaining
+                            ? withoutLargest
+                            : withoutLargest.flatMap(x -> self.apply((remaining - largest) * (n + 1) + largest)
+                                    .map(x::add));
+                },
+                MemoTable.dense((n + 1) * (n + 1)));
+        assertThat(partitions.apply(n * (n + 1) + n)).isEqualTo(new BigInteger("3972999029388"));
+    }
+
+    @Test
+    void memoizedFix_throwsOnNullResult() {
+        Function<Integer, String> f = MemoizedRecursion.memoizedFix(self -> n -> returning(null));
+        assertThrows(NullPointerException.class, () -> f.apply(1));
+    }
+
+    @Test
+    void memoizedFixTailCall_canBeUsedWithinLargerRecursion() {
+        Function<Integer, TailCall<Long>> triangle = MemoizedRecursion.memoizedFixTailCall(
+                self -> n -> n == 0 ? returning(0L) : self.apply(n - 1).map(t -> t + n), MemoTable.hash());
+        assertThat(triangle.apply(100_000).map(t -> t * 2).evaluate()).isEqualTo(10_000_100_000L);
+    }
+}
@@ -6,6 +6,14 @@ import static com.tajacks.libraries.functional.recursion.TailCall.suspending;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
 class TailCallTest {
@@ -32,6 +40,154 @@ class TailCallTest {
         });
     }
 
+    // This would otherwise overflow the stack
+    @Test
+    void canPerformNonTailRecursion_withMap() {
+        assertThat(sum(1_000_000).evaluate()).isEqualTo(500000500000L);
+    }
+
+    @Test
+    void canPerformTreeRecursion_withFlatMap() {
+        assertThat(naiveFib(20).evaluate()).isEqualTo(6765);
+    }
+
+    // This would otherwise overflow the stack
+    @Test
+    void canPerformDeepAckermann() {
+        assertThat(ackermann(1, 1_000_000).evaluate()).isEqualTo(1_000_002);
+        assertThat(ackermann(3, 5).evaluate()).isEqualTo(253);
+    }
+
+    @Test
+    void canEvaluateLeftNestedFlatMaps_inLinearTime() {
+        TailCall<Integer> call = returning(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            call = call.flatMap(x -> returning(x + 1));
+        }
+        assertThat(call.evaluate()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void canStepThroughFlatMaps_withResume() {
+        TailCall<Integer> call = returning(0);
+        for (int i = 0; i < 10_000; i++) {
+            call = call.map(x -> x + 1);
+        }
+        while (call.isSuspend()) {
+            call = call.resume();
+        }
+        assertThat(call.evaluate()).isEqualTo(10_000);
+    }
+
+    private static TailCall<Long> sum(int n) {
+        return n == 0 ? returning(0L) : suspending(() -> sum(n - 1)).map(x -> x + n);
+    }
+
+    private static TailCall<Integer> naiveFib(int n) {
+        if (n < 2) {
+            return returning(n);
+        }
+        return suspending(() -> naiveFib(n - 1)).flatMap(a -> naiveFib(n - 2).map(b -> a + b));
+    }
+
+    private static TailCall<Integer> ackermann(int m, int n) {
+        if (m == 0) {
+            return returning(n + 1);
+        }
+        if (n == 0) {
+            return suspending(() -> ackermann(m - 1, 1));
+        }
+        return suspending(() -> ackermann(m, n - 1)).flatMap(x -> ackermann(m - 1, x));
+    }
+
+    @Test
+    void evaluateWithOptions_reportsSteps() {
+        Evaluation<Integer> evaluation = add_(0, 10).evaluate(EvaluationOptions.defaults());
+        assertThat(evaluation.result()).isEqualTo(10);
+        assertThat(evaluation.stats().steps()).isEqualTo(10L);
+        assertThat(evaluation.stats().allocatedBytes()).isEqualTo(-1L);
+        assertThat(returning("done")
+                        .evaluate(EvaluationOptions.defaults())
+                        .stats()
+                        .steps())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void evaluateWithOptions_matchesEvaluate_forNestedOperations() {
+        Evaluation<Integer> evaluation = ackermann(2, 3).evaluate(EvaluationOptions.defaults());
+        assertThat(evaluation.result()).isEqualTo(ackermann(2, 3).evaluate());
+        assertThat(evaluation.stats().steps()).isGreaterThan(9L);
+    }
+
+    @Test
+    void stepBudget_abortsRunawayRecursion() {
+        TailCall<Integer> forever = loop();
+        EvaluationAbortedException exception = assertThrows(
+                EvaluationAbortedException.class,
+                () -> forever.evaluate(EvaluationOptions.defaults().withMaxSteps(1000)));
+        assertThat(exception.stats().steps()).isEqualTo(1000L);
+        assertThat(exception).hasMessageThat().contains("Step budget of 1000 exhausted");
+        assertThat(add_(0, 1000)
+                        .evaluate(EvaluationOptions.defaults().withMaxSteps(1000))
+                        .result())
+                .isEqualTo(1000);
+    }
+
+    @Test
+    void timeLimit_abortsRunawayRecursion() {
+        EvaluationAbortedException exception = assertThrows(EvaluationAbortedException.class, () -> loop().evaluate(
+                        EvaluationOptions.defaults().withTimeLimit(Duration.ofMillis(20))));
+        assertThat(exception).isInstanceOf(IllegalStateException.class);
+        assertThat(exception.stats().elapsed()).isAtLeast(Duration.ofMillis(20));
+    }
+
+    @Test
+    void canTrackAllocation() {
+        Evaluation<Integer> evaluation =
+                add_(0, 10_000).evaluate(EvaluationOptions.defaults().withAllocationTracking(true));
+        long allocated = evaluation.stats().allocatedBytes();
+        if (allocated != -1) {
+            assertThat(allocated).isGreaterThan(10_000L);
+        }
+    }
+
+    @Test
+    void emitsJfrEvent_forEvaluationsAboveThreshold() throws Exception {
+        Path dump = Files.createTempFile("evaluations", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.tajacks.libraries.functional.TailCallEvaluation");
+            recording.start();
+            add_(0, 100).evaluate(EvaluationOptions.defaults().withEventThreshold(Duration.ZERO));
+            add_(0, 100).evaluate(EvaluationOptions.defaults().withEventThreshold(Duration.ofHours(1)));
+            add_(0, 100).evaluate(EvaluationOptions.defaults());
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<Long> steps = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            if (event.getEventType().getName().equals("com.tajacks.libraries.functional.TailCallEvaluation")) {
+                steps.add(event.getLong("steps"));
+            }
+        }
+        Files.delete(dump);
+        assertThat(steps).containsExactly(100L);
+    }
+
+    @Test
+    void evaluationOptions_rejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> EvaluationOptions.defaults()
+                .withMaxSteps(0));
+        assertThrows(IllegalArgumentException.class, () -> EvaluationOptions.defaults()
+                .withTimeLimit(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> EvaluationOptions.defaults()
+                .withEventThreshold(Duration.ofNanos(-1)));
+    }
+
+    private static TailCall<Integer> loop() {
+        return suspending(TailCallTest::loop);
+    }
+
     public static int add(int x, int y) {
         return add_(x, y).evaluate();
     }
@@ -3,9 +3,24 @@ package com.tajacks.libraries.functional.utilities;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth8.assertThat;
 import static com.tajacks.libraries.functional.utilities.CollectionUtilities.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.tajacks.libraries.functional.containers.Couple;
+import com.tajacks.libraries.functional.containers.CoupleColumns;
+import com.tajacks.libraries.functional.containers.IntRange;
+import com.tajacks.libraries.functional.containers.LongRange;
+import com.tajacks.libraries.functional.containers.PList;
+import com.tajacks.libraries.functional.containers.PVector;
+import com.tajacks.libraries.functional.containers.Triple;
+import com.tajacks.libraries.functional.containers.TripleColumns;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class CollectionUtilitiesTest {
@@ -41,6 +56,23 @@ class CollectionUtilitiesTest {
         assertThat(map(list, x -> x * 2)).isEqualTo(List.of(2, 4, 6));
     }
 
+    @Test
+    void canParallelMap_preservingOrder() {
+        List<Integer> source = intRangeExclusive(0, 100_000);
+        assertThat(parallelMap(source, x -> x * 2, 64, ForkJoinPool.commonPool()))
+                .isEqualTo(map(source, x -> x * 2));
+        assertThat(parallelMap(new LinkedList<>(list(1, 2, 3)), x -> x + 1))
+                .containsExactly(2, 3, 4)
+                .inOrder();
+        assertThat(parallelMap(list(), x -> x)).isEmpty();
+    }
+
+    @Test
+    void parallelMap_isImmutable() {
+        List<Integer> mapped = parallelMap(list(1, 2, 3), x -> x);
+        assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, 5));
+    }
+
     @Test
     void canFoldLeft() {
         String result = foldLeft(list(1, 2, 3, 4, 5), "0", x -> y -> addStringToInteger(x, y));
@@ -53,6 +85,37 @@ class CollectionUtilitiesTest {
         assertThat(result).isEqualTo("(1 + (2 + (3 + (4 + (5 + 0)))))");
     }
 
+    @Test
+    void canParallelFold_matchingFoldLeft_forOrderedCombiners() {
+        List<Integer> source = intRangeExclusive(0, 100_000);
+        String expected = foldLeft(source, "", acc -> i -> acc + (char) ('a' + i % 26));
+        String result = parallelFold(
+                source, "", acc -> i -> acc + (char) ('a' + i % 26), x -> y -> x + y, 100, ForkJoinPool.commonPool());
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void canParallelFold_onSmallAndNonRandomAccessLists() {
+        assertThat(parallelFold(list(), 0L, acc -> i -> acc + (Integer) i, x -> y -> x + y))
+                .isEqualTo(0L);
+        List<Integer> linked = new LinkedList<>(intRangeInclusive(1, 10_000));
+        assertThat(parallelFold(linked, 0L, acc -> i -> acc + i, x -> y -> x + y, 7, ForkJoinPool.commonPool()))
+                .isEqualTo(50_005_000L);
+    }
+
+    @Test
+    void canMapReduce() {
+        long result = mapReduce(intRangeInclusive(1, 100_000), i -> (long) i * i, 0L, x -> y -> x + y);
+        assertThat(result).isEqualTo(333338333350000L);
+    }
+
+    @Test
+    void parallelFold_withInvalidThreshold_throws() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> parallelFold(list(1), 0, acc -> i -> acc + i, x -> y -> x + y, 0, ForkJoinPool.commonPool()));
+    }
+
     @Test
     void canPerformHeadOperations() {
         assertThat(head(list(1, 2, 3))).hasValue(1);
@@ -94,6 +157,87 @@ class CollectionUtilitiesTest {
         assertThat(mutableStringList).containsExactly("One", "Two");
     }
 
+    @Test
+    void canApplyForEachConcurrent_withBoundedConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> seen = new CopyOnWriteArrayList<>();
+        forEachConcurrent(
+                intRangeExclusive(0, 200),
+                i -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    seen.add(i);
+                    running.decrementAndGet();
+                },
+                8);
+        assertThat(seen).containsExactlyElementsIn(intRangeExclusive(0, 200));
+        assertThat(maxRunning.get()).isAtMost(8);
+    }
+
+    @Test
+    void forEachConcurrent_overlapsLatencyBoundEffects() {
+        long start = System.nanoTime();
+        forEachConcurrent(intRangeExclusive(0, 100), i -> sleep(100), 100);
+        assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+    }
+
+    @Test
+    void forEachConcurrent_failFast_stopsStartingEffects() {
+        AtomicInteger applied = new AtomicInteger();
+        RuntimeException thrown = assertThrows(
+                RuntimeException.class,
+                () -> forEachConcurrent(
+                        intRangeExclusive(0, 1_000),
+                        i -> {
+                            applied.incrementAndGet();
+                            throw new RuntimeException("failed " + i);
+                        },
+                        1,
+                        ErrorMode.FAIL_FAST));
+        assertThat(thrown).hasMessageThat().isEqualTo("failed 0");
+        assertThat(applied.get()).isEqualTo(1);
+    }
+
+    @Test
+    void forEachConcurrent_collectAll_appliesEveryEffect() {
+        AtomicInteger applied = new AtomicInteger();
+        RuntimeException thrown = assertThrows(
+                RuntimeException.class,
+                () -> forEachConcurrent(
+                        intRangeExclusive(0, 10),
+                        i -> {
+                            applied.incrementAndGet();
+                            if (i % 2 == 0) {
+                                throw new RuntimeException("failed " + i);
+                            }
+                        },
+                        4,
+                        ErrorMode.COLLECT_ALL));
+        assertThat(applied.get()).isEqualTo(10);
+        assertThat(thrown.getSuppressed()).hasLength(4);
+    }
+
+    @Test
+    void forEachConcurrent_withOrderingKey_preservesOrderPerKey() {
+        Map<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+        forEachConcurrent(
+                intRangeExclusive(0, 300),
+                i -> {
+                    sleep(1);
+                    seen.computeIfAbsent(i % 3, k -> new CopyOnWriteArrayList<>())
+                            .add(i);
+                },
+                3,
+                ErrorMode.FAIL_FAST,
+                i -> i % 3);
+        for (int key = 0; key < 3; key++) {
+            assertThat(seen.get(key)).isInOrder();
+            assertThat(seen.get(key)).hasSize(100);
+            assertThat(seen.get(key).get(0) % 3).isEqualTo(key);
+        }
+    }
+
     @Test
     void canCreateIntRangeExclusive() {
         assertThat(intRangeExclusive(1, 5)).isEqualTo(list(1, 2, 3, 4));
@@ -122,6 +266,64 @@ class CollectionUtilitiesTest {
         assertThat(longRangeInclusive(1L, 1L)).isEqualTo(list(1L));
     }
 
+    @Test
+    void canUnfold() {
+        assertThat(unfold(1, x -> x * 2, x -> x < 100)).containsExactly(1, 2, 4, 8, 16, 32, 64);
+    }
+
+    @Test
+    void canUnfold_withLimit() {
+        assertThat(unfold(1, x -> x * 2, x -> x < 100, 3)).containsExactly(1, 2, 4);
+        assertThat(unfold(1, x -> x + 1, x -> true, 0)).isEmpty();
+    }
+
+    @Test
+    void canUnfold_largeResultsInLinearTime() {
+        assertThat(unfold(0, x -> x + 1, x -> x < 1_000_000)).hasSize(1_000_000);
+    }
+
+    @Test
+    void canCreateLargeRanges_inConstantMemory() {
+        List<Integer> range = intRangeExclusive(0, Integer.MAX_VALUE);
+        assertThat(range.size()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(range.get(Integer.MAX_VALUE - 1)).isEqualTo(Integer.MAX_VALUE - 1);
+    }
+
+    @Test
+    void canOperateOnPersistentLists() {
+        PList<Integer> list = PList.of(1, 2, 3);
+        assertThat(head(list)).hasValue(1);
+        assertThat(tail(list) == list.tail()).isTrue();
+        assertThat(tail(PList.<Integer>empty())).isEmpty();
+        assertThat(prepend(0, list)).isEqualTo(PList.of(0, 1, 2, 3));
+        assertThat(append(4, list)).isEqualTo(PList.of(1, 2, 3, 4));
+        assertThat(reverse(list)).isEqualTo(PList.of(3, 2, 1));
+        assertThat(map(list, x -> x * 2)).isEqualTo(PList.of(2, 4, 6));
+        assertThat(foldLeft(list, "0", x -> y -> addStringToInteger(x, y))).isEqualTo("(((0 + 1) + 2) + 3)");
+        assertThat(foldRight(list, "0", x -> y -> addIntegerToString(y, x))).isEqualTo("(1 + (2 + (3 + 0)))");
+        final List<Integer> seen = new ArrayList<>();
+        forEach(list, seen::add);
+        assertThat(seen).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void canAppendToPersistentVector_inLinearTotalTime() {
+        PVector<Integer> vector = PVector.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            vector = append(i, vector);
+        }
+        assertThat(vector).hasSize(1_000_000);
+        assertThat(foldLeft(vector, 0L, acc -> x -> acc + x)).isEqualTo(499999500000L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private String addStringToInteger(String s, int i) {
         return "(" + s + " + " + i + ")";
     }
@@ -129,4 +331,150 @@ class CollectionUtilitiesTest {
     private String addIntegerToString(String s, int i) {
         return "(" + i + " + " + s + ")";
     }
+
+    @Test
+    void canFoldLeft_primitives() {
+        assertThat(foldLeft(new int[] {1, 2, 3, 4}, 0, (acc, x) -> acc * 10 + x))
+                .isEqualTo(1234);
+        assertThat(foldLeft(new long[] {1L, 2L, 3L}, 10L, (acc, x) -> acc - x)).isEqualTo(4L);
+        assertThat(foldLeft(new double[] {0.5, 0.25}, 1.0, (acc, x) -> acc + x)).isEqualTo(1.75);
+        assertThat(foldLeft(IntRange.inclusive(1, 100), 0, Integer::sum)).isEqualTo(5050);
+        assertThat(foldLeft(LongRange.exclusive(0L, 4L), 1L, (acc, x) -> acc * 2 + x))
+                .isEqualTo(27L);
+    }
+
+    @Test
+    void canMap_primitives() {
+        assertThat(map(new int[] {1, 2, 3}, x -> x * x))
+                .asList()
+                .containsExactly(1, 4, 9)
+                .inOrder();
+        assertThat(map(new long[] {1L, 2L}, x -> -x))
+                .asList()
+                .containsExactly(-1L, -2L)
+                .inOrder();
+        assertThat(map(new double[] {1.0}, x -> x / 4)).usingExactEquality().containsExactly(0.25);
+        assertThat(map(IntRange.exclusive(0, 3), x -> x + 10))
+                .asList()
+                .containsExactly(10, 11, 12)
+                .inOrder();
+        assertThat(map(LongRange.exclusive(5L, 7L), x -> x * 2))
+                .asList()
+                .containsExactly(10L, 12L)
+                .inOrder();
+    }
+
+    @Test
+    void canMap_betweenPrimitiveTypes() {
+        assertThat(mapToLong(new int[] {Integer.MAX_VALUE}, x -> (long) x + 1))
+                .asList()
+                .containsExactly(2_147_483_648L);
+        assertThat(mapToLong(IntRange.exclusive(0, 2), x -> x * 3L))
+                .asList()
+                .containsExactly(0L, 3L)
+                .inOrder();
+        assertThat(mapToDouble(new int[] {1}, x -> x / 2.0))
+                .usingExactEquality()
+                .containsExactly(0.5);
+        assertThat(mapToDouble(LongRange.exclusive(1L, 3L), x -> x / 2.0))
+                .usingExactEquality()
+                .containsExactly(0.5, 1.0)
+                .inOrder();
+        assertThat(mapToInt(list("a", "bb", "ccc"), String::length))
+                .asList()
+                .containsExactly(1, 2, 3)
+                .inOrder();
+        assertThat(mapToObj(IntRange.exclusive(0, 3), Integer::toString))
+                .containsExactly("0", "1", "2")
+                .inOrder();
+        assertThrows(UnsupportedOperationException.class, () -> mapToObj(LongRange.exclusive(0L, 1L), x -> x)
+                .add(1L));
+    }
+
+    @Test
+    void canForEach_primitives() {
+        int[] sum = new int[1];
+        forEach(new int[] {1, 2, 3}, x -> sum[0] += x);
+        forEach(IntRange.inclusive(1, 4), x -> sum[0] += x);
+        assertThat(sum[0]).isEqualTo(16);
+        long[] longSum = new long[1];
+        forEach(new long[] {5L}, x -> longSum[0] += x);
+        forEach(LongRange.inclusive(1L, 2L), x -> longSum[0] += x);
+        assertThat(longSum[0]).isEqualTo(8L);
+        List<Double> seen = new ArrayList<>();
+        forEach(new double[] {1.5, 2.5}, seen::add);
+        assertThat(seen).containsExactly(1.5, 2.5).inOrder();
+    }
+
+    @Test
+    void canZipAndUnzip() {
+        CoupleColumns<String, Integer> zipped = zip(List.of("a", "b", "c"), List.of(1, 2));
+        assertThat(zipped.asList())
+                .containsExactly(new Couple<>("a", 1), new Couple<>("b", 2))
+                .inOrder();
+        CoupleColumns<String, Integer> unzipped = unzip(zipped.asList());
+        assertThat(unzipped.first().asList()).containsExactly("a", "b").inOrder();
+        assertThat(unzipped.second().foldLeftInt(0, Integer::sum)).isEqualTo(3);
+        TripleColumns<Integer, Integer, Integer> triples = unzip3(List.of(new Triple<>(1, 2, 3)));
+        assertThat(zip(List.of(1), List.of(2), List.of(3)).asList()).isEqualTo(triples.asList());
+    }
+
+    @Test
+    void tailView_sharesSourceAndWalksInLinearTime() {
+        List<Integer> source = intRangeExclusive(0, 1_000_000);
+        List<Integer> rest = source;
+        long sum = 0;
+        while (!rest.isEmpty()) {
+            sum += head(rest).orElseThrow();
+            rest = tailView(rest);
+        }
+        assertThat(sum).isEqualTo(499_999_500_000L);
+        assertThat(tailView(list(1, 2, 3))).containsExactly(2, 3).inOrder();
+        assertThat(tailView(list())).isEmpty();
+        assertThat(tailView(new LinkedList<>(list(1, 2)))).containsExactly(2);
+        assertThrows(
+                UnsupportedOperationException.class, () -> tailView(list(1, 2)).add(3));
+    }
+
+    @Test
+    void reverseView_mirrorsSource() {
+        List<Integer> reversed = reverseView(list(1, 2, 3));
+        assertThat(reversed).containsExactly(3, 2, 1).inOrder();
+        assertThat(reversed.get(0)).isEqualTo(3);
+        assertThat(reverseView(reversed)).containsExactly(1, 2, 3).inOrder();
+        assertThat(tailView(reversed)).containsExactly(2, 1).inOrder();
+        assertThrows(IndexOutOfBoundsException.class, () -> reversed.get(3));
+        assertThrows(
+                UnsupportedOperationException.class, () -> reverseView(reversed).set(0, 4));
+    }
+
+    @Test
+    void mapView_mapsOnAccess() {
+        AtomicInteger applications = new AtomicInteger();
+        List<Integer> mapped = mapView(list(1, 2, 3), x -> {
+            applications.incrementAndGet();
+            return x * 10;
+        });
+        assertThat(applications.get()).isEqualTo(0);
+        assertThat(mapped.get(1)).isEqualTo(20);
+        assertThat(mapped.get(1)).isEqualTo(20);
+        assertThat(applications.get()).isEqualTo(2);
+        assertThat(mapped).containsExactly(10, 20, 30).inOrder();
+    }
+
+    @Test
+    void cachedMapView_mapsEachElementOnce() {
+        AtomicInteger applications = new AtomicInteger();
+        List<String> mapped = mapView(
+                list(1, 2, 3),
+                x -> {
+                    applications.incrementAndGet();
+                    return x == 2 ? null : String.valueOf(x);
+                },
+                true);
+        assertThat(mapped).containsExactly("1", null, "3").inOrder();
+        assertThat(mapped).containsExactly("1", null, "3").inOrder();
+        assertThat(applications.get()).isEqualTo(3);
+        assertThrows(UnsupportedOperationException.class, () -> mapped.remove(0));
+    }
 }
@@ -0,0 +1,123 @@
+package com.tajacks.libraries.functional.utilities;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tajacks.libraries.functional.containers.IntRange;
+import com.tajacks.libraries.functional.containers.PList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class PipelineTest {
+
+    @Test
+    void canFuseStages_intoFold() {
+        Pipeline<Integer, Integer> squaresOfEvens =
+                Pipeline.<Integer>of().filter(x -> x % 2 == 0).map(x -> x * x);
+        int sum = squaresOfEvens.foldLeft(IntRange.inclusive(1, 10), 0, acc -> x -> acc + x);
+        assertThat(sum).isEqualTo(4 + 16 + 36 + 64 + 100);
+    }
+
+    @Test
+    void canReusePipeline_acrossSources() {
+        Pipeline<String, Integer> lengths = Pipeline.<String>of()
+                .filter(s -> !s.isBlank())
+                .map(String::length)
+                .take(2);
+        assertThat(lengths.toList(List.of("a", " ", "bbb", "cc")))
+                .containsExactly(1, 3)
+                .inOrder();
+        assertThat(lengths.toList(PList.of("dddd", "", "e")))
+                .containsExactly(4, 1)
+                .inOrder();
+        assertThat(lengths.toList(new LinkedList<>(List.of("ff")))).containsExactly(2);
+    }
+
+    @Test
+    void canFlatMap() {
+        Pipeline<String, Character> characters = Pipeline.<String>of().flatMap(s -> {
+            List<Character> result = new ArrayList<>();
+            for (char c : s.toCharArray()) {
+                result.add(c);
+            }
+            return result;
+        });
+        assertThat(characters.toList(List.of("ab", "", "c")))
+                .containsExactly('a', 'b', 'c')
+                .inOrder();
+        assertThat(characters.take(3).toList(List.of("ab", "cd", "ef")))
+                .containsExactly('a', 'b', 'c')
+                .inOrder();
+    }
+
+    @Test
+    void take_stopsReadingSource() {
+        AtomicInteger read = new AtomicInteger();
+        Iterable<Integer> infinite = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return read.incrementAndGet();
+            }
+        };
+        Pipeline<Integer, Integer> firstThree = Pipeline.<Integer>of().take(3);
+        assertThat(firstThree.toList(infinite)).containsExactly(1, 2, 3).inOrder();
+        assertThat(read.get()).isEqualTo(3);
+        assertThat(Pipeline.<Integer>of().take(0).toList(List.of(1, 2))).isEmpty();
+        assertThat(Pipeline.<Integer>of().map(x -> x * 2).take(0).take(5).toList(infinite))
+                .isEmpty();
+        assertThat(read.get()).isEqualTo(3);
+        assertThrows(
+                IllegalArgumentException.class, () -> Pipeline.<Integer>of().take(-1));
+    }
+
+    @Test
+    void statefulStages_startFreshOnEachRun() {
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>of().dedupe().take(2);
+        assertThat(pipeline.toList(List.of(1, 1, 2, 2, 3)))
+                .containsExactly(1, 2)
+                .inOrder();
+        assertThat(pipeline.toList(List.of(1, 1, 2, 2, 3)))
+                .containsExactly(1, 2)
+                .inOrder();
+    }
+
+    @Test
+    void canDedupe_andDistinct() {
+        List<String> source = List.of("a", "a", "b", "a", "a", "c", "b");
+        assertThat(Pipeline.<String>of().dedupe().toList(source))
+                .containsExactly("a", "b", "a", "c", "b")
+                .inOrder();
+        assertThat(Pipeline.<String>of().distinct().toList(source))
+                .containsExactly("a", "b", "c")
+                .inOrder();
+        assertThat(Pipeline.<String>of().dedupe().toList(Arrays.asList(null, null, "a")))
+                .containsExactly(null, "a")
+                .inOrder();
+    }
+
+    @Test
+    void canForEach_andCollect() {
+        Pipeline<Integer, String> pipeline = Pipeline.<Integer>of().map(x -> "#" + x);
+        List<String> seen = new ArrayList<>();
+        pipeline.forEach(List.of(1, 2), seen::add);
+        assertThat(seen).containsExactly("#1", "#2").inOrder();
+        assertThat(pipeline.collect(List.of(3, 4), Collectors.joining(","))).isEqualTo("#3,#4");
+    }
+
+    @Test
+    void toList_isImmutable() {
+        List<Integer> result = Pipeline.<Integer>of().toList(List.of(1));
+        assertThrows(UnsupportedOperationException.class, () -> result.add(2));
+    }
+}